@@ -0,0 +1,75 @@
+package ch.zhaw.pm2.life;
+
+import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.Board;
+import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.Vector2D;
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+import ch.zhaw.pm2.life.parser.ConfigParser;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared fixtures of the JMH benchmarks.
+ */
+public final class Benchmarks {
+
+    private static final String TEMPLATE_CONFIG = "config/config.properties";
+    private static final int ENERGY = 10;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Returns the path of the config file shipped with the resources.
+     * @return path to the template config.
+     * @throws LifeException if the template config is not on the classpath.
+     */
+    public static Path getTemplateConfig() throws LifeException {
+        URL url = Benchmarks.class.getClassLoader().getResource(TEMPLATE_CONFIG);
+        if (url == null) {
+            throw new LifeException("Template config not found: " + TEMPLATE_CONFIG);
+        }
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new LifeException(e);
+        }
+    }
+
+    /**
+     * Returns the species of the template config.
+     * @return the parsed species.
+     * @throws LifeException if the template config could not be parsed.
+     */
+    public static List<GameObject> getSpecies() throws LifeException {
+        return ConfigParser.of(getTemplateConfig()).parseObjects();
+    }
+
+    /**
+     * Fills the board with herbivores and plants. Every cell is occupied with the given probability,
+     * the placement only depends on the seed.
+     * @param board   board to fill.
+     * @param density probability that a cell is occupied.
+     * @param seed    seed of the placement.
+     */
+    public static void populate(Board board, double density, long seed) {
+        Random random = new Random(seed);
+        for (int y = 0; y < board.getRows(); y++) {
+            for (int x = 0; x < board.getColumns(); x++) {
+                if (random.nextDouble() < density) {
+                    GameObject gameObject = random.nextBoolean() ? new Herbivore() : new Plant();
+                    gameObject.setName(gameObject.getClass().getSimpleName());
+                    gameObject.setEnergy(ENERGY);
+                    board.addGameObject(gameObject, new Vector2D(x, y));
+                }
+            }
+        }
+    }
+
+}
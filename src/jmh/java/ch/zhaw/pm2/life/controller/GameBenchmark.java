@@ -0,0 +1,146 @@
+package ch.zhaw.pm2.life.controller;
+
+import ch.zhaw.pm2.life.Benchmarks;
+import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.Board;
+import ch.zhaw.pm2.life.model.EntityStore;
+import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.GameProperties;
+import ch.zhaw.pm2.life.model.SimulationRandom;
+import ch.zhaw.pm2.life.model.StopCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the ticks of the {@link Game} and of the {@link StoreGame} on boards of different sizes and densities.
+ * Every invocation runs {@value #TICKS} ticks of a game that is rebuilt before the invocation and never stops,
+ * so every measurement covers the same ticks from the same start. The results are per tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    private static final int TICKS = 10;
+
+    /**
+     * {@link Game} on a {@link Board}, rebuilt before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class GameState {
+
+        @Param({"16", "256", "2048"})
+        private int size;
+
+        @Param({"0.01", "0.1"})
+        private double density;
+
+        @Param({"42"})
+        private long seed;
+
+        private Game game;
+
+        @Setup(Level.Invocation)
+        public void setUp() throws LifeException {
+            game = new Game(new Board(size, size, new SimulationRandom(seed)),
+                            new GameProperties(getInitGameObjects(size, density)));
+            game.setStopCondition(StopCondition.never());
+        }
+
+    }
+
+    /**
+     * {@link StoreGame} on an {@link EntityStore}, rebuilt before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class StoreGameState {
+
+        @Param({"16", "256", "2048"})
+        private int size;
+
+        @Param({"0.01", "0.1"})
+        private double density;
+
+        @Param({"42"})
+        private long seed;
+
+        private StoreGame storeGame;
+
+        @Setup(Level.Invocation)
+        public void setUp() throws LifeException {
+            storeGame = new StoreGame(new EntityStore(size, size), new GameProperties(getInitGameObjects(size, density)),
+                                      new SimulationRandom(seed));
+            storeGame.setStopCondition(StopCondition.never());
+        }
+
+    }
+
+    private static Map<GameObject, Integer> getInitGameObjects(int size, double density) throws LifeException {
+        List<GameObject> species = Benchmarks.getSpecies();
+        int amount = Math.max(1, (int) (density * size * size / species.size()));
+        Map<GameObject, Integer> initGameObjects = new LinkedHashMap<>();
+        species.forEach(gameObject -> initGameObjects.put(gameObject, amount));
+        return initGameObjects;
+    }
+
+    /**
+     * Runs the ticks of the simulation and formats their message log, like the user interface does.
+     * @param state the game.
+     * @param blackhole consumes the message logs.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public void nextMove(GameState state, Blackhole blackhole) {
+        for (int tick = 0; tick < TICKS; tick++) {
+            blackhole.consume(state.game.nextMove());
+        }
+    }
+
+    /**
+     * Runs the ticks of the simulation and only records their events, like a headless run does.
+     * @param state the game.
+     * @return the game for the blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public Game advance(GameState state) {
+        for (int tick = 0; tick < TICKS; tick++) {
+            state.game.advance();
+        }
+        return state.game;
+    }
+
+    /**
+     * Runs the ticks of the simulation on the entity store.
+     * @param state the game on the entity store.
+     * @return the game for the blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public StoreGame nextMoveStore(StoreGameState state) {
+        for (int tick = 0; tick < TICKS; tick++) {
+            state.storeGame.nextMove();
+        }
+        return state.storeGame;
+    }
+
+}
@@ -0,0 +1,125 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.Benchmarks;
+import ch.zhaw.pm2.life.model.lifeform.LifeForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the neighbour lookup and the removal of dead life forms of the {@link Board}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    private static final int SIZE = 256;
+    private static final int SAMPLES = 1024;
+
+    /**
+     * Populated board with a fixed sample of game objects whose neighbours are looked up.
+     */
+    @State(Scope.Thread)
+    public static class Neighbours {
+
+        @Param({"0", "1", "2", "3"})
+        private int radius;
+
+        @Param({"0.05", "0.3"})
+        private double density;
+
+        @Param({"42"})
+        private long seed;
+
+        private Board board;
+        private GameObject[] samples;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            board = new Board(SIZE, SIZE, new SimulationRandom(seed));
+            Benchmarks.populate(board, density, seed);
+
+            List<GameObject> gameObjects = new ArrayList<>(board.getGameObjects());
+            Collections.shuffle(gameObjects, new Random(seed));
+            samples = gameObjects.subList(0, Math.min(SAMPLES, gameObjects.size())).toArray(new GameObject[0]);
+        }
+
+    }
+
+    /**
+     * Board with a share of dead life forms, rebuilt before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class DeadLifeForms {
+
+        @Param({"0.05", "0.3"})
+        private double density;
+
+        @Param({"0.1", "0.5"})
+        private double deadShare;
+
+        @Param({"42"})
+        private long seed;
+
+        private Board board;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            board = new Board(SIZE, SIZE, new SimulationRandom(seed));
+            Benchmarks.populate(board, density, seed);
+
+            Random random = new Random(seed);
+            for (GameObject gameObject : board.getGameObjects()) {
+                if (random.nextDouble() < deadShare) {
+                    ((LifeForm) gameObject).die();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Looks up the neighbours of the sampled game objects.
+     * @param state     board with the samples.
+     * @param blackhole consumes the neighbours.
+     */
+    @Benchmark
+    public void getNeighbourObjects(Neighbours state, Blackhole blackhole) {
+        for (GameObject gameObject : state.samples) {
+            blackhole.consume(state.board.getNeighbourObjects(gameObject, state.radius));
+        }
+    }
+
+    /**
+     * Removes the dead life forms of a populated board.
+     * @param state board with dead life forms.
+     * @return the board for the blackhole.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 20)
+    public Board removeDeadLifeForms(DeadLifeForms state) {
+        state.board.removeDeadLifeForms();
+        return state.board;
+    }
+
+}
@@ -0,0 +1,75 @@
+package ch.zhaw.pm2.life.model.lifeform.animal;
+
+import ch.zhaw.pm2.life.Benchmarks;
+import ch.zhaw.pm2.life.model.Board;
+import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.SimulationRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the movement decision of the {@link AnimalObject} with precomputed neighbours.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimalObjectBenchmark {
+
+    private static final int SIZE = 64;
+
+    @Param({"1", "3"})
+    private int radius;
+
+    @Param({"0.05", "0.3"})
+    private double density;
+
+    @Param({"42"})
+    private long seed;
+
+    private final List<AnimalObject> animalObjects = new ArrayList<>();
+    private final List<Set<GameObject>> neighbours = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Board board = new Board(SIZE, SIZE, new SimulationRandom(seed));
+        Benchmarks.populate(board, density, seed);
+
+        for (GameObject gameObject : board.getGameObjects()) {
+            if (gameObject instanceof AnimalObject) {
+                animalObjects.add((AnimalObject) gameObject);
+                neighbours.add(board.getNeighbourObjects(gameObject, radius));
+            }
+        }
+    }
+
+    /**
+     * Decides the next position of every animal.
+     * @param blackhole consumes the positions.
+     */
+    @Benchmark
+    public void nextPosition(Blackhole blackhole) {
+        for (int i = 0; i < animalObjects.size(); i++) {
+            blackhole.consume(animalObjects.get(i).nextPosition(neighbours.get(i)));
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package ch.zhaw.pm2.life.parser;
+
+import ch.zhaw.pm2.life.Benchmarks;
+import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.GameObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the parsing of the game objects out of the template config.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigParserBenchmark {
+
+    private ConfigParser configParser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws LifeException {
+        configParser = ConfigParser.of(Benchmarks.getTemplateConfig());
+    }
+
+    /**
+     * Parses the game objects of the config.
+     * @return the parsed game objects.
+     * @throws LifeException if the config could not be parsed.
+     */
+    @Benchmark
+    public List<GameObject> parseObjects() throws LifeException {
+        return configParser.parseObjects();
+    }
+
+}
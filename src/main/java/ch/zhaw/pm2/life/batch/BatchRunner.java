@@ -0,0 +1,212 @@
+package ch.zhaw.pm2.life.batch;
+
+import ch.zhaw.pm2.life.controller.Game;
+import ch.zhaw.pm2.life.controller.StoreGame;
+import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.Board;
+import ch.zhaw.pm2.life.model.EntityStore;
+import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.GameProperties;
+import ch.zhaw.pm2.life.model.SimulationRandom;
+import ch.zhaw.pm2.life.model.StopCondition;
+import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+import ch.zhaw.pm2.life.parser.ConfigParser;
+import ch.zhaw.pm2.life.parser.StopConditionParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+/**
+ * Runs the simulation without a user interface, e.g. for parameter sweeps on a server.
+ * The {@link Board}, the {@link Game} and the {@link GameProperties} are built from a config file, the arguments
+ * only override its values, and the simulation
+ * runs until the tick limit is reached or the stop condition is met. At the end the throughput and the statistics
+ * of every species are printed.
+ * <p>
+ * Arguments are passed as {@code key=value} pairs:
+ * <ul>
+ *  <li>{@code config}: path to the config file, defaults to {@value #DEFAULT_CONFIG}</li>
+ *  <li>{@code rows}: number of rows of the board, defaults to the rows of the config file</li>
+ *  <li>{@code columns}: number of columns of the board, defaults to the columns of the config file</li>
+ *  <li>{@code ticks}: maximum number of ticks, defaults to {@value #DEFAULT_TICKS}</li>
+ *  <li>{@code amount}: initial amount of every species, defaults to the amount of each species in the config
+ *  file</li>
+ *  <li>{@code stop}: condition that stops the simulation in the format of the {@link StopConditionParser},
+ *  e.g. {@code stop=extinct(Wolf) or ticks(500)}, defaults to the condition of the config file or else to the
+ *  extinction of the first animal</li>
+ *  <li>{@code logLevel}: log level of the simulation, defaults to {@value #DEFAULT_LOG_LEVEL}</li>
+ *  <li>{@code seed}: seed of the simulation, runs with the same seed and arguments are identical, defaults to a
+ *  random seed</li>
+ *  <li>{@code engine}: {@value #BOARD_ENGINE} runs the {@link Game} on a {@link Board}, {@value #STORE_ENGINE} runs the
+ *  {@link StoreGame} on an {@link EntityStore}, which only supports boards of at most {@value Integer#MAX_VALUE} cells,
+ *  defaults to {@value #BOARD_ENGINE}</li>
+ * </ul>
+ */
+public class BatchRunner {
+
+    private static final String DEFAULT_CONFIG = "config/config.properties";
+    private static final int DEFAULT_TICKS = 1000;
+    private static final String DEFAULT_LOG_LEVEL = "INFO";
+    private static final String BOARD_ENGINE = "board";
+    private static final String STORE_ENGINE = "store";
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final Logger logger = Logger.getLogger(BatchRunner.class.getName());
+    private static final Logger simulationLogger = Logger.getLogger("ch.zhaw.pm2.life");
+
+    private final Properties arguments;
+    private final PrintStream out;
+
+    /**
+     * Creates a batch runner.
+     * @param arguments the parsed {@code key=value} arguments.
+     * @param out       stream the results are printed to.
+     */
+    public BatchRunner(Properties arguments, PrintStream out) {
+        this.arguments = arguments;
+        this.out = out;
+    }
+
+    /**
+     * Entry point for the headless simulation.
+     * @param args Array of {@code key=value} {@link String}.
+     */
+    public static void main(String[] args) {
+        try (InputStream config = BatchRunner.class.getClassLoader().getResourceAsStream("log.properties")) {
+            LogManager.getLogManager().readConfiguration(config);
+        } catch (IOException | NullPointerException e) {
+            logger.log(Level.CONFIG, "No log.properties", e);
+        }
+
+        try {
+            Properties arguments = parseArguments(args);
+            simulationLogger.setLevel(Level.parse(arguments.getProperty("logLevel", DEFAULT_LOG_LEVEL)));
+            new BatchRunner(arguments, System.out).run();
+        } catch (LifeException | IllegalArgumentException e) {
+            logger.log(Level.SEVERE, "Unable to run the simulation", e);
+            System.exit(1);
+        }
+    }
+
+    private static Properties parseArguments(String[] args) {
+        Properties arguments = new Properties();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException(String.format("Argument %s is not of the form key=value.", arg));
+            }
+            arguments.setProperty(keyValue[0], keyValue[1]);
+        }
+        return arguments;
+    }
+
+    /**
+     * Builds the simulation and runs it until the tick limit is reached or the game stops.
+     * @throws LifeException if the config file could not be read or parsed or the stop condition is not valid.
+     */
+    public void run() throws LifeException {
+        ConfigParser config = ConfigParser.of(Path.of(arguments.getProperty("config", DEFAULT_CONFIG)));
+        int rows = getInt("rows", config.parseRows());
+        int columns = getInt("columns", config.parseColumns());
+        int ticks = getInt("ticks", DEFAULT_TICKS);
+
+        Map<GameObject, Integer> amounts = config.parseAmounts();
+        List<GameObject> species = new ArrayList<>(amounts.keySet());
+        species.sort(Comparator.comparing(GameObject::getName));
+        Map<GameObject, Integer> initGameObjects = new LinkedHashMap<>();
+        species.forEach(gameObject -> initGameObjects.put(gameObject, getInt("amount", amounts.get(gameObject))));
+
+        String stop = arguments.getProperty("stop", config.parseStopCondition());
+        if (stop == null) {
+            stop = species.stream()
+                    .filter(AnimalObject.class::isInstance)
+                    .map(gameObject -> String.format("extinct(%s)", gameObject.getName()))
+                    .findFirst()
+                    .orElse("");
+        }
+        StopCondition stopCondition = StopConditionParser.parse(stop);
+        GameProperties gameProperties = new GameProperties(initGameObjects);
+        String seed = arguments.getProperty("seed");
+        SimulationRandom simulationRandom = seed == null ? new SimulationRandom() : new SimulationRandom(Long.parseLong(seed));
+        out.printf("Seed: %d%n", simulationRandom.getSeed());
+        String engine = arguments.getProperty("engine", BOARD_ENGINE);
+        if (BOARD_ENGINE.equals(engine)) {
+            Game game = new Game(new Board(rows, columns, simulationRandom), gameProperties);
+            game.setStopCondition(stopCondition);
+            long start = System.nanoTime();
+            int tick = runTicks(ticks, game::advance, game::isOngoing);
+            printSummary(rows, columns, tick, game.isOngoing(), start);
+            printStatistics(species, name -> new long[] {
+                    count(name, game.getStartLifeForms()),
+                    count(name, game.getBornLifeForms()),
+                    count(name, game.getSpawnedLifeForms()),
+                    count(name, game.getDeadLifeForms()),
+                    count(name, game.getSurvivedLifeForms())
+            });
+        } else if (STORE_ENGINE.equals(engine)) {
+            StoreGame game = new StoreGame(new EntityStore(rows, columns), gameProperties, simulationRandom);
+            game.setStopCondition(stopCondition);
+            long start = System.nanoTime();
+            int tick = runTicks(ticks, game::nextMove, game::isOngoing);
+            printSummary(rows, columns, tick, game.isOngoing(), start);
+            printStatistics(species, name -> new long[] {
+                    game.getStartCount(name),
+                    game.getBornCount(name),
+                    game.getSpawnedCount(name),
+                    game.getDeadCount(name),
+                    game.getSurvivedCount(name)
+            });
+        } else {
+            throw new IllegalArgumentException(String.format("Unknown engine %s.", engine));
+        }
+    }
+
+    private int runTicks(int ticks, Runnable nextMove, BooleanSupplier ongoing) {
+        int tick = 0;
+        while (tick < ticks && ongoing.getAsBoolean()) {
+            nextMove.run();
+            if (ongoing.getAsBoolean()) {
+                tick++;
+            }
+        }
+        return tick;
+    }
+
+    private void printSummary(int rows, int columns, int tick, boolean ongoing, long start) {
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        out.printf("Board: %d x %d, ticks: %d, %s%n", columns, rows, tick,
+                   ongoing ? "tick limit reached" : "stop condition met");
+        out.printf("Duration: %.3f s, throughput: %.1f ticks/s%n", seconds, tick / seconds);
+    }
+
+    private void printStatistics(List<GameObject> species, Function<String, long[]> statistics) {
+        out.printf("%-16s %8s %8s %8s %8s %8s%n", "Species", "Start", "Born", "Spawned", "Died", "Alive");
+        for (GameObject gameObject : species) {
+            String name = gameObject.getName();
+            long[] counts = statistics.apply(name);
+            out.printf("%-16s %8d %8d %8d %8d %8d%n", name, counts[0], counts[1], counts[2], counts[3], counts[4]);
+        }
+    }
+
+    private long count(String name, Map<String, Integer> counts) {
+        return counts.getOrDefault(name, 0);
+    }
+
+    private int getInt(String key, int defaultValue) {
+        String value = arguments.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+}
@@ -2,8 +2,15 @@ package ch.zhaw.pm2.life.controller;
 
 import ch.zhaw.pm2.life.exception.LifeFormException;
 import ch.zhaw.pm2.life.model.Board;
+import ch.zhaw.pm2.life.model.EventLog;
+import ch.zhaw.pm2.life.model.GameEvent;
 import ch.zhaw.pm2.life.model.GameObject;
 import ch.zhaw.pm2.life.model.GameProperties;
+import ch.zhaw.pm2.life.model.PopulationCounter;
+import ch.zhaw.pm2.life.model.PopulationCounter.Category;
+import ch.zhaw.pm2.life.model.SimulationRandom;
+import ch.zhaw.pm2.life.model.SpeciesRegistry;
+import ch.zhaw.pm2.life.model.StopCondition;
 import ch.zhaw.pm2.life.model.Vector2D;
 import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
@@ -12,16 +19,20 @@ import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
 import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import static java.util.function.Predicate.*;
 
@@ -33,22 +44,56 @@ import static java.util.function.Predicate.*;
  */
 public class Game {
 
-    private static final int ENERGY_VALUE_DEAD = 0;
-    private static final int PLANT_ENERGY_CONSUMPTION = 1;
-    private static final int PLANT_RESPAWN_CHANCE = 2;
+    static final int ENERGY_VALUE_DEAD = 0;
+    static final int PLANT_RESPAWN_CHANCE = 2;
+    // entity ids count up from 0, so a negative stream never collides with the stream of an entity
+    private static final long SPAWN_STREAM = -2;
+
+    private static final Comparator<Vector2D> CELL_ORDER = Comparator.comparingInt(Vector2D::getY)
+            .thenComparingInt(Vector2D::getX);
+
+    private static final Set<GameEvent.Type> MESSAGE_LOG_TYPES = EnumSet.of(
+            GameEvent.Type.DIED, GameEvent.Type.ATE, GameEvent.Type.MATED, GameEvent.Type.FAILED, GameEvent.Type.STOPPED);
 
     private static final Logger logger = Logger.getLogger(Game.class.getName());
 
     private final List<Plant> startPlants = new ArrayList<>();
-    private final Set<LifeForm> startLifeForms = new HashSet<>();
-    private final Set<LifeForm> bornLifeForms = new HashSet<>();
-    private final Set<LifeForm> deadLifeForms = new HashSet<>();
-    private final Set<LifeForm> spawnedLifeForms = new HashSet<>();
-    private final Random random = new Random();
+    private final PopulationCounter populationCounter = new PopulationCounter();
+
     private final Board board;
+    private final SimulationRandom simulationRandom;
+    private final SplittableRandom random;
     private final GameProperties gameProperties;
+    private final SpeciesRegistry speciesRegistry;
+    private final EventLog eventLog = new EventLog();
+    private final StopCondition.State stopState = new StopCondition.State() {
+        @Override
+        public long getTick() {
+            return simulationRandom.getTick();
+        }
+
+        @Override
+        public int getAliveCount(String species) {
+            return populationCounter.getCount(Category.ALIVE, species);
+        }
+
+        @Override
+        public int getTotalAliveCount() {
+            return populationCounter.getTotalAliveCount();
+        }
+
+        @Override
+        public long getStateHash() {
+            return board.getStateHash();
+        }
+
+        @Override
+        public boolean isSpawnPossible() {
+            return !startPlants.isEmpty() && board.getFreeCellCount() > 0;
+        }
+    };
     private boolean ongoing = true;
-    private String speciesToWatch;
+    private StopCondition stopCondition = StopCondition.never();
 
     /**
      * Default constructor.
@@ -60,13 +105,16 @@ public class Game {
     public Game(Board board, GameProperties gameProperties) {
         this.board = Objects.requireNonNull(board, "Board cannot be null to create the game.");
         this.gameProperties = Objects.requireNonNull(gameProperties, "The game properties cannot be null.");
+        simulationRandom = board.getSimulationRandom();
+        random = simulationRandom.split(SPAWN_STREAM);
+        speciesRegistry = new SpeciesRegistry(gameProperties.getInitGameObjects().keySet());
         addLifeForms();
     }
 
     private void validateNumOfGameObjects(int num, String type) {
         if (num < 0) {
             throw new IllegalArgumentException(String.format("Number of %s is less than the minimal value.", type));
-        } else if (num > board.getRows() * board.getColumns()) {
+        } else if (num > (long) board.getRows() * board.getColumns()) {
             throw new IllegalArgumentException(String.format("Number of %s exceed the number of available field.", type));
         }
     }
@@ -78,14 +126,11 @@ public class Game {
             validateNumOfGameObjects(amount + createdLifeFormsCounter.get(), "game objects");
             for (int i = 0; i < amount; i++) {
                 try {
-                    GameObject go = gameObject.getClass().getConstructor().newInstance();
-                    go.setName(gameObject.getName());
-                    go.setEnergy(gameObject.getEnergy());
-                    go.setColor(gameObject.getColor());
-                    board.addGameObject(go, calculatePosition());
+                    GameObject go = speciesRegistry.create(gameObject.getName());
+                    board.addGameObject(go, board.getRandomFreePosition());
                     createdLifeFormsCounter.getAndIncrement();
                     if (go instanceof LifeForm) {
-                        startLifeForms.add((LifeForm) go);
+                        populationCounter.record(Category.START, go.getName());
                     }
                     if (go instanceof Plant) {
                         startPlants.add((Plant) go);
@@ -98,20 +143,14 @@ public class Game {
         });
     }
 
-    private Vector2D calculatePosition() {
-        Vector2D position;
-        do {
-            position = board.getRandomPosition();
-        } while (board.getOccupiedPositions().contains(position));
-        return position;
-    }
-
     /**
      * Stops the game and sets ongoing to flag.
      */
     public String stop() {
         ongoing = false;
-        return "Die Simulation wurde beendet, weil die Endbedingung erfuellt wurde.";
+        GameEvent event = GameEvent.stopped(simulationRandom.getTick());
+        eventLog.record(event);
+        return event.format();
     }
 
     /**
@@ -124,81 +163,107 @@ public class Game {
 
     /**
      * Performs the next move for every {@link GameObject} on the board.
-     * Next move can be performed as long as the species that the user decided at the beginning of the simulation
-     * is still alive and the ongoing flag is set to true. Otherwise the simulation stops.
+     * Next move can be performed as long as the {@link StopCondition} is not met and the ongoing flag is set to true.
+     * Otherwise the simulation stops.
      * Every time a next move is done there is a chance that a {@link Plant} is spawned randomly on the map.
+     * The events of the move are recorded in the {@link EventLog} and formatted for the message log.
      * @return message log of every move and interact call or the message log of stop if game stops.
      */
     public String nextMove() {
-        StringBuilder messageLog = new StringBuilder();
-        if (ongoing && board.isSpeciesAlive(speciesToWatch)) {
-            try {
-                spawnPlantRandomlyOnMap();
-            } catch (LifeFormException e) {
-                messageLog.append(e.getMessage()).append("\n");
-            }
-            Map<Vector2D, Set<GameObject>> positionMap = new HashMap<>();
-            messageLog.append(move(positionMap));
-            messageLog.append(interact(positionMap));
+        long from = eventLog.getNextSequence();
+        advance();
+        return eventLog.format(from, MESSAGE_LOG_TYPES);
+    }
+
+    /**
+     * Performs the next move like {@link #nextMove()}, but only records the events in the {@link EventLog}
+     * without formatting any message. Meant for runs where nobody reads every message.
+     */
+    public void advance() {
+        if (ongoing && !stopCondition.isMet(stopState)) {
+            simulationRandom.nextTick();
+            spawnPlantRandomlyOnMap();
+            move();
+            interact();
+            // the energy of the animals changes without the board noticing
+            board.getAnimalObjects().forEach(board::updateStateKey);
         } else {
-            messageLog.append(stop());
+            stop();
         }
-        return messageLog.toString();
     }
 
-    private String move(Map<Vector2D, Set<GameObject>> positionMap) {
-        StringBuilder stringBuilder = new StringBuilder();
+    /**
+     * Returns the log of the events of this game.
+     * @return {@link EventLog}.
+     */
+    public EventLog getEventLog() {
+        return eventLog;
+    }
+
+    private void move() {
+        // only animals move, plants lose their energy without being visited and are only due when it runs out
+        List<AnimalObject> animalObjects = new ArrayList<>(board.getAnimalObjects());
 
-        for (GameObject gameObject : board.getGameObjects()) {
-            if (gameObject instanceof AnimalObject) {
-                AnimalObject animalObject = (AnimalObject) gameObject;
-                animalObject.move(board.getNeighbourObjects(animalObject, animalObject.getScanRadius()));
-            } else if (gameObject instanceof Plant) {
-                gameObject.decreaseEnergy(PLANT_ENERGY_CONSUMPTION);
-            }
-            stringBuilder.append(dieOfExhaustion(gameObject));
-            positionMap.putIfAbsent(gameObject.getPosition(), new HashSet<>());
-            positionMap.get(gameObject.getPosition()).add(gameObject);
+        // decide every move on the unchanged board in parallel, then apply them
+        Vector2D[] nextPositions = new Vector2D[animalObjects.size()];
+        IntStream.range(0, animalObjects.size()).parallel().forEach(i -> {
+            AnimalObject animalObject = animalObjects.get(i);
+            nextPositions[i] = animalObject.nextPosition(board.getNeighbourObjects(animalObject, animalObject.getScanRadius()));
+        });
+        for (int i = 0; i < nextPositions.length; i++) {
+            animalObjects.get(i).moveTo(nextPositions[i]);
         }
-        board.removeDeadLifeForms();
 
-        return stringBuilder.toString();
+        List<LifeForm> exhaustedLifeForms = new ArrayList<>();
+        animalObjects.forEach(animalObject -> dieOfExhaustion(animalObject, exhaustedLifeForms));
+        board.pollDepleted(simulationRandom.getTick()).forEach(gameObject -> dieOfExhaustion(gameObject, exhaustedLifeForms));
+        board.removeDeadLifeForms(exhaustedLifeForms);
     }
 
-    private String dieOfExhaustion(GameObject gameObject) {
-        String message = "";
+    private void dieOfExhaustion(GameObject gameObject, List<LifeForm> exhaustedLifeForms) {
         if (gameObject instanceof LifeForm && gameObject.getEnergy() < ENERGY_VALUE_DEAD) {
             LifeForm lifeForm = (LifeForm) gameObject;
             lifeForm.die();
-            deadLifeForms.add(lifeForm);
-            return String.format("%s: ist vor Ermuedung gestorben.%n", gameObject.getName());
+            populationCounter.record(Category.DIED, lifeForm.getName());
+            exhaustedLifeForms.add(lifeForm);
+            eventLog.record(GameEvent.of(GameEvent.Type.DIED, simulationRandom.getTick(), lifeForm));
         }
-        return message;
     }
 
-    private String interact(Map<Vector2D, Set<GameObject>> positionMap) {
-        Set<LifeForm> newLifeForms = new HashSet<>();
-        StringBuilder stringBuilder = new StringBuilder();
-
-        board.getGameObjects().stream()
-                .filter(AnimalObject.class::isInstance)
-                .map(AnimalObject.class::cast)
-                .forEach(animalObject -> {
-                    Set<GameObject> set = positionMap.get(animalObject.getPosition());
-                    String interactMessage = handleCollision(set, animalObject, newLifeForms);
-                    stringBuilder.append(interactMessage);
-                    set.removeAll(deadLifeForms);
-                });
+    private void interact() {
+        Map<Vector2D, CellInteraction> cellInteractions = new TreeMap<>(CELL_ORDER);
+        board.getAnimalObjects().forEach(animalObject -> cellInteractions
+                        .computeIfAbsent(animalObject.getPosition(), CellInteraction::new)
+                        .animalObjects.add(animalObject));
+
+        // interactions never leave their cell, so every cell is resolved independently
+        cellInteractions.values().parallelStream().forEach(this::interact);
+
+        Set<LifeForm> eatenLifeForms = new LinkedHashSet<>();
+        Set<LifeForm> newLifeForms = new LinkedHashSet<>();
+        for (CellInteraction cellInteraction : cellInteractions.values()) {
+            eatenLifeForms.addAll(cellInteraction.deadLifeForms);
+            newLifeForms.addAll(cellInteraction.newLifeForms);
+            cellInteraction.events.forEach(eventLog::record);
+        }
+        eatenLifeForms.forEach(lifeForm -> populationCounter.record(Category.DIED, lifeForm.getName()));
 
-        board.removeDeadLifeForms();
+        board.removeDeadLifeForms(eatenLifeForms);
         newLifeForms.forEach(lifeForm -> board.addGameObject(lifeForm, lifeForm.getPosition()));
-        bornLifeForms.addAll(newLifeForms);
+        newLifeForms.forEach(lifeForm -> populationCounter.record(Category.BORN, lifeForm.getName()));
+    }
 
-        return stringBuilder.toString();
+    private void interact(CellInteraction cellInteraction) {
+        Set<GameObject> sameFieldSet = board.getAllGameObjects(cellInteraction.position);
+        for (AnimalObject animalObject : cellInteraction.animalObjects) {
+            sameFieldSet.removeAll(cellInteraction.deadLifeForms);
+            handleCollision(sameFieldSet, animalObject, cellInteraction);
+        }
     }
 
-    private String handleCollision(Set<GameObject> sameFieldSet, AnimalObject animalObject, Set<LifeForm> newLifeForms) {
-        StringBuilder stringBuilder = new StringBuilder();
+    private void handleCollision(Set<GameObject> sameFieldSet, AnimalObject animalObject, CellInteraction cellInteraction) {
+        List<GameEvent> events = cellInteraction.events;
+        long tick = simulationRandom.getTick();
 
         sameFieldSet.stream()
                 .filter(not(animalObject::equals))
@@ -211,92 +276,164 @@ public class Game {
                                 AnimalObject child = animalObject.reproduce(lifeForm);
                                 child.setName(animalObject.getName());
                                 child.setColor(animalObject.getColor());
-                                child.setEnergy(gameProperties.getEnergyProperty(animalObject.getName()).getValue());
-                                newLifeForms.add(child);
-                                stringBuilder.append(animalObject.getName()).append(": Wir haben uns soeben gepaart\n");
+                                child.setEnergy(gameProperties.getEnergy(animalObject.getName()));
+                                cellInteraction.newLifeForms.add(child);
+                                events.add(GameEvent.of(GameEvent.Type.MATED, tick, animalObject, lifeForm));
                             } else {
+                                boolean poisoned = animalObject.isPoisoned();
                                 animalObject.eat(lifeForm);
-                                deadLifeForms.add(lifeForm);
-                                stringBuilder.append(animalObject.getName())
-                                        .append(": Das war lecker (")
-                                        .append(lifeForm.getName())
-                                        .append(")!\n");
+                                cellInteraction.deadLifeForms.add(lifeForm);
+                                events.add(GameEvent.of(GameEvent.Type.ATE, tick, animalObject, lifeForm));
+                                if (!poisoned && animalObject.isPoisoned()) {
+                                    events.add(GameEvent.of(GameEvent.Type.POISONED, tick, animalObject, lifeForm));
+                                }
                             }
                         }
                     } catch (LifeFormException | NullPointerException e) {
-                        stringBuilder.append(String.format("%s%n", e.getMessage()));
+                        events.add(GameEvent.failed(tick, animalObject, e.getMessage()));
                     }
                 });
+    }
 
-        return stringBuilder.toString();
+    private void spawnPlantRandomlyOnMap() {
+        int spawnChance = random.nextInt(11);
+        if (spawnChance < PLANT_RESPAWN_CHANCE && stopState.isSpawnPossible()) {
+            int randomPlantIndex = random.nextInt(startPlants.size());
+            Plant originalPlant = startPlants.get(randomPlantIndex);
+
+            GameObject plant = speciesRegistry.create(originalPlant.getName());
+            plant.setColor(originalPlant.getColor());
+            plant.setEnergy(gameProperties.getEnergy(originalPlant.getName()));
+
+            board.addGameObject(plant, board.getRandomFreePosition());
+            // a spawned plant already loses energy in the tick it spawns
+            board.setEnergy(plant, plant.getEnergy() - Plant.ENERGY_CONSUMPTION);
+            populationCounter.record(Category.SPAWNED, plant.getName());
+            eventLog.record(GameEvent.of(GameEvent.Type.SPAWNED, simulationRandom.getTick(), plant));
+        }
     }
 
-    private void spawnPlantRandomlyOnMap() throws LifeFormException {
-        try {
-            int spawnChance = random.nextInt(11);
-            if (spawnChance < PLANT_RESPAWN_CHANCE && startPlants.size() > 0) {
-                int randomPlantIndex = random.nextInt(startPlants.size());
-                Plant originalPlant = startPlants.get(randomPlantIndex);
+    /**
+     * Sets the condition that ends the simulation, it is evaluated against the population counters before every move.
+     * @param stopCondition {@link StopCondition} of the simulation.
+     * @throws NullPointerException when the stop condition is null.
+     */
+    public void setStopCondition(StopCondition stopCondition) {
+        this.stopCondition = Objects.requireNonNull(stopCondition, "The stop condition cannot be null.");
+    }
 
-                Plant plant = originalPlant.getClass().getConstructor().newInstance();
-                plant.setName(originalPlant.getName());
-                plant.setColor(originalPlant.getColor());
-                plant.setEnergy(gameProperties.getEnergyProperty(originalPlant.getName()).getValue());
+    /**
+     * Adds a {@link GameObject} to the board from outside of the simulation, e.g. by the user, and counts it
+     * as alive if it is a {@link LifeForm}.
+     * @param gameObject {@link GameObject} to add.
+     * @param position   position on the board as {@link Vector2D}.
+     */
+    public void addGameObject(GameObject gameObject, Vector2D position) {
+        board.addGameObject(gameObject, position);
+        if (gameObject instanceof LifeForm) {
+            populationCounter.record(Category.ALIVE, gameObject.getName());
+        }
+    }
 
-                board.addGameObject(plant, calculatePosition());
-                spawnedLifeForms.add(plant);
-            }
-        } catch (ReflectiveOperationException e) {
-            throw new LifeFormException("Es konnten keine neuen Pflanzen gespawnt werden.");
+    /**
+     * Renames a species on the board, its template, initial energy and counters are moved to the new name.
+     * @param species name of the species.
+     * @param newName new name of the species.
+     */
+    public void renameSpecies(String species, String newName) {
+        board.getGameObjects().stream()
+                .filter(gameObject -> gameObject.getName().equals(species))
+                .forEach(gameObject -> board.setName(gameObject, newName));
+        // start plants that are no longer on the board still serve as the origin of spawned plants
+        startPlants.stream()
+                .filter(plant -> plant.getName().equals(species))
+                .forEach(plant -> plant.setName(newName));
+        if (speciesRegistry.contains(species)) {
+            GameObject template = speciesRegistry.getTemplate(species);
+            speciesRegistry.remove(species);
+            template.setName(newName);
+            speciesRegistry.register(template);
+            gameProperties.setEnergy(newName, gameProperties.getEnergy(species));
         }
+        populationCounter.rename(species, newName);
+    }
+
+    /**
+     * Returns the number of life forms per species for every {@link Category}.
+     * @return map of the categories to the counts per species.
+     */
+    public Map<Category, Map<String, Integer>> getPopulationCounts() {
+        Map<Category, Map<String, Integer>> counts = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            counts.put(category, populationCounter.getCounts(category));
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the average energy of the life forms per species on the board, kept up to date by the board.
+     * @return map of the species names to their average energy.
+     */
+    public Map<String, Double> getAverageEnergies() {
+        return board.getAverageEnergies();
     }
 
     /**
-     * Sets the stop condition for an animal species
-     * @param species name of the species
+     * Returns the number of life forms per species that were placed at the start.
+     * @return map of the species names to their count.
      */
-    public void setSpeciesToWatch(String species) {
-        speciesToWatch = species;
+    public Map<String, Integer> getStartLifeForms() {
+        return populationCounter.getCounts(Category.START);
     }
 
     /**
-     * Returns the set of startLifeForms.
-     * @return {@link Set<LifeForm>}
+     * Returns the number of life forms per species that were born.
+     * @return map of the species names to their count.
      */
-    public Set<LifeForm> getStartLifeForms() {
-        return startLifeForms;
+    public Map<String, Integer> getBornLifeForms() {
+        return populationCounter.getCounts(Category.BORN);
     }
 
     /**
-     * Returns the set of bornLifeForms.
-     * @return {@link Set<LifeForm>}
+     * Returns the number of life forms per species that died.
+     * @return map of the species names to their count.
      */
-    public Set<LifeForm> getBornLifeForms() {
-        return bornLifeForms;
+    public Map<String, Integer> getDeadLifeForms() {
+        return populationCounter.getCounts(Category.DIED);
     }
 
     /**
-     * Returns the set of deadLifeForms.
-     * @return {@link Set<LifeForm>}
+     * Returns the number of life forms per species that are alive.
+     * @return map of the species names to their count.
      */
-    public Set<LifeForm> getDeadLifeForms() {
-        return deadLifeForms;
+    public Map<String, Integer> getSurvivedLifeForms() {
+        return populationCounter.getCounts(Category.ALIVE);
     }
 
     /**
-     * Returns all Lifeforms that are alive.
-     * @return {@link Set<LifeForm>}
+     * Returns the number of plants per species that spawned.
+     * @return map of the species names to their count.
      */
-    public Set<LifeForm> getSurvivedLifeForms() {
-        return board.getLifeForms();
+    public Map<String, Integer> getSpawnedLifeForms() {
+        return populationCounter.getCounts(Category.SPAWNED);
     }
 
     /**
-     * Returns all Lifeforms that spawned.
-     * @return {@link Set<LifeForm>}
+     * Collects the animals of one cell and buffers the deaths, births and messages of their interactions,
+     * so that cells can be processed concurrently and merged afterwards in a fixed order.
      */
-    public Set<LifeForm> getSpawnedLifeForms() {
-        return spawnedLifeForms;
+    private static class CellInteraction {
+
+        private final Vector2D position;
+        private final List<AnimalObject> animalObjects = new ArrayList<>();
+        private final Set<LifeForm> deadLifeForms = new LinkedHashSet<>();
+        private final List<LifeForm> newLifeForms = new ArrayList<>();
+        private final List<GameEvent> events = new ArrayList<>();
+
+        private CellInteraction(Vector2D position) {
+            this.position = position;
+        }
+
     }
 
 }
@@ -4,27 +4,39 @@ import ch.zhaw.pm2.life.controller.dialogs.ColorPickerDialog;
 import ch.zhaw.pm2.life.controller.dialogs.ScanRadiusDialog;
 import ch.zhaw.pm2.life.controller.dialogs.SpawnSpeciesDialog;
 import ch.zhaw.pm2.life.controller.dialogs.StopConditionDialog;
+import ch.zhaw.pm2.life.exception.LifeException;
 import ch.zhaw.pm2.life.model.Board;
 import ch.zhaw.pm2.life.model.GameObject;
 import ch.zhaw.pm2.life.model.GameProperties;
+import ch.zhaw.pm2.life.model.PopulationCounter.Category;
+import ch.zhaw.pm2.life.model.PopulationHistory;
+import ch.zhaw.pm2.life.model.StopCondition;
 import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+import ch.zhaw.pm2.life.parser.StopConditionParser;
 import ch.zhaw.pm2.life.util.ValidationUtil;
 import ch.zhaw.pm2.life.view.BoardView;
+import ch.zhaw.pm2.life.view.MessageLogView;
+import ch.zhaw.pm2.life.view.PopulationChartView;
 import ch.zhaw.pm2.life.view.StatisticView;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuItem;
-import javafx.scene.control.TextArea;
 import javafx.scene.control.TextInputDialog;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
 
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -35,20 +47,39 @@ import java.util.stream.Collectors;
  */
 public class LifeWindowController {
 
-    private static final int ROWS = 16;
-    private static final int COLUMNS = 16;
+    private static final String UNLIMITED_RATE = "Unbegrenzt";
+    private static final String DEFAULT_RATE = "5";
+    private static final long CHART_INTERVAL = 250_000_000;
     private final StatisticView statisticView = new StatisticView();
+    private final PopulationChartView populationChartView = new PopulationChartView();
+    private final PopulationHistory populationHistory = new PopulationHistory();
+    private long chartUpdate;
     private BoardView boardView;
     private Game game;
     private SetupController setupController;
     private GameProperties gameProperties;
     private Board boardObject;
     private boolean fullscreen;
+    private long eventSequence;
+    private String stopCondition = "";
+    private SimulationRunner simulationRunner;
+    private final AnimationTimer renderTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            render();
+            if (populationChartView.isShowing() && now - chartUpdate >= CHART_INTERVAL) {
+                chartUpdate = now;
+                populationChartView.update(populationHistory);
+            }
+        }
+    };
     @FXML private BorderPane root;
     @FXML private Pane board;
-    @FXML private TextArea messageField;
+    @FXML private MessageLogView messageField;
     @FXML private Button nextRoundButton;
     @FXML private Button stopSimButton;
+    @FXML private ToggleButton playButton;
+    @FXML private ComboBox<String> tickRateBox;
     @FXML private Menu editMenu;
 
     /**
@@ -57,14 +88,13 @@ public class LifeWindowController {
     @FXML
     public void initialize() {
         try {
-            boardObject = new Board(ROWS, COLUMNS);
-            boardView = new BoardView(boardObject);
-            board.getChildren().add(boardView);
             board.widthProperty().addListener(observable -> updateSize());
             board.heightProperty().addListener(observable -> updateSize());
             root.addEventHandler(KeyEvent.KEY_PRESSED, keyHandler());
+            tickRateBox.getItems().addAll("1", "2", DEFAULT_RATE, "10", "30", "60", UNLIMITED_RATE);
+            tickRateBox.setValue(DEFAULT_RATE);
         } catch (Exception e) {
-            messageField.appendText(e.getMessage() + "\n");
+            messageField.addMessage(e.getMessage());
         }
     }
 
@@ -74,13 +104,10 @@ public class LifeWindowController {
             return;
         }
 
-        if (game.isOngoing()) {
-            messageField.appendText(game.nextMove() + "\n");
-            boardView.draw();
-        } else {
-            nextRoundButton.setDisable(true);
-            stopSimButton.setDisable(true);
-            showStatistics();
+        if (game.isOngoing() && !simulationRunner.isRunning()) {
+            simulationRunner.step();
+        } else if (!game.isOngoing()) {
+            finishSimulation();
         }
     }
 
@@ -89,17 +116,109 @@ public class LifeWindowController {
         if (game == null) {
             return;
         }
+        simulationRunner.pause();
         game.stop();
+        publishEvents();
+        finishSimulation();
+    }
+
+    @FXML
+    private void togglePlay() {
+        if (game == null) {
+            return;
+        }
+        if (playButton.isSelected()) {
+            changeTickRate();
+            simulationRunner.start();
+            playButton.setText("Pause");
+            nextRoundButton.setDisable(true);
+        } else {
+            simulationRunner.pause();
+            playButton.setText("Abspielen");
+            nextRoundButton.setDisable(!game.isOngoing());
+        }
+    }
+
+    @FXML
+    private void changeTickRate() {
+        if (simulationRunner == null || tickRateBox.getValue() == null) {
+            return;
+        }
+        String rate = tickRateBox.getValue();
+        simulationRunner.setTargetRate(UNLIMITED_RATE.equals(rate) ? SimulationRunner.UNLIMITED : Double.parseDouble(rate));
+    }
+
+    private void tick() {
+        game.advance();
+        boardObject.publishSnapshot();
+        publishEvents();
+        recordPopulation();
+    }
+
+    private void recordPopulation() {
+        // the history only takes a sample every few ticks once a long run has filled it
+        long currentTick = boardObject.getSimulationRandom().getTick();
+        if (populationHistory.isDue(currentTick)) {
+            populationHistory.record(currentTick, game.getSurvivedLifeForms(), game.getAverageEnergies());
+        }
+    }
+
+    /**
+     * Shows the live chart of the population.
+     */
+    @FXML
+    public void showPopulationChart() {
+        if (game == null) {
+            return;
+        }
+        if (populationChartView.getOwner() == null) {
+            populationChartView.initOwner(board.getScene().getWindow());
+        }
+        populationChartView.update(populationHistory);
+        populationChartView.show();
+    }
+
+    private void publishEvents() {
+        // the message log takes the events over on any thread and shows them on the JavaFX thread
+        eventSequence = messageField.addEvents(game.getEventLog(), eventSequence);
+    }
+
+    private void render() {
+        // draws the last published snapshot, snapshots that were published between two frames are never drawn
+        boardView.drawChanges();
+    }
+
+    private void finishSimulation() {
+        renderTimer.stop();
+        render();
+        if (populationChartView.isShowing()) {
+            populationChartView.update(populationHistory);
+        }
         nextRoundButton.setDisable(true);
         stopSimButton.setDisable(true);
+        playButton.setDisable(true);
+        playButton.setSelected(false);
         showStatistics();
     }
 
+    private void withBoard(Runnable action) {
+        if (simulationRunner == null) {
+            action.run();
+            boardObject.publishSnapshot();
+        } else {
+            synchronized (simulationRunner.getLock()) {
+                action.run();
+                boardObject.publishSnapshot();
+            }
+        }
+        boardView.draw();
+    }
+
     @FXML
     private void updateSize() {
         double newWidth = board.getWidth();
         double newHeight = board.getHeight();
-        if (newHeight > 0.0 && newWidth > 0.0) {
+        if (boardView != null && newHeight > 0.0 && newWidth > 0.0) {
             boardView.updateDimension(newWidth, newHeight);
         }
     }
@@ -151,16 +270,15 @@ public class LifeWindowController {
         SpawnSpeciesDialog dialog = new SpawnSpeciesDialog("Neue Spezies erstellen");
         Optional<Set<GameObject>> response = dialog.showAndWait();
 
-        response.ifPresent(gameObjects -> gameObjects.forEach(gameObject -> {
+        response.ifPresent(gameObjects -> withBoard(() -> gameObjects.forEach(gameObject -> {
             Optional<GameObject> duplicate = boardObject.getGameObjects().stream()
                     .filter(go -> go.getName().equalsIgnoreCase(gameObject.getName()))
                     .findAny();
             if (duplicate.isEmpty()) {
-                boardObject.addGameObject(gameObject, boardObject.getRandomPosition());
-                messageField.appendText(String.format("%s wurde zur Simulation hinzugefuegt.%n", gameObject.getName()));
-                boardView.draw();
+                game.addGameObject(gameObject, boardObject.getRandomPosition());
+                messageField.addMessage(String.format("%s wurde zur Simulation hinzugefuegt.", gameObject.getName()));
             }
-        }));
+        })));
 
     }
 
@@ -186,17 +304,17 @@ public class LifeWindowController {
     }
 
     private void showStatistics() {
-        statisticView.setStartLifeForms(game.getStartLifeForms());
-        statisticView.setBornLifeForms(game.getBornLifeForms());
-        statisticView.setDiedLifeForms(game.getDeadLifeForms());
-        statisticView.setSurvivedLifeForms(game.getSurvivedLifeForms());
-        statisticView.setSpawnLifeForms(game.getSpawnedLifeForms());
+        // the statistics are shown after the last tick, so the counters are read while no tick runs
+        Map<Category, Map<String, Integer>> counts = game.getPopulationCounts();
+        statisticView.setCounts(counts);
 
+        // the species of the setup first, then those added during the simulation
         Set<String> species = setupController.getGameObjects()
                 .keySet()
                 .stream()
                 .map(GameObject::getName)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        species.addAll(counts.get(Category.ALIVE).keySet());
 
         statisticView.initChart((Stage) board.getScene().getWindow(), species);
         statisticView.show();
@@ -221,18 +339,28 @@ public class LifeWindowController {
     }
 
     /**
-     * Initializes the game.
+     * Initializes the board with the size chosen in the setup and the game.
      */
     public void initGame() {
-        if (boardObject == null) {
-            return;
-        }
         try {
+            boardObject = new Board(setupController.getRows(), setupController.getColumns());
+            boardView = new BoardView(boardObject);
+            board.getChildren().add(boardView);
+            updateSize();
             gameProperties = new GameProperties(setupController.getGameObjects());
             game = new Game(boardObject, gameProperties);
-            game.setSpeciesToWatch(setupController.getStopCondition());
+            applyStopCondition(setupController.getStopCondition());
+            boardObject.publishSnapshot();
+            recordPopulation();
+            simulationRunner = new SimulationRunner(this::tick, game::isOngoing);
+            simulationRunner.setOnFinished(() -> Platform.runLater(this::finishSimulation));
+            changeTickRate();
+            renderTimer.start();
+            messageField.setSpecies(gameProperties.getInitGameObjects().keySet().stream()
+                                            .map(GameObject::getName)
+                                            .collect(Collectors.toList()));
         } catch (Exception e) {
-            messageField.appendText(e.getMessage() + "\n");
+            messageField.addMessage(e.getMessage());
         }
     }
 
@@ -265,32 +393,46 @@ public class LifeWindowController {
         MenuItem item = new MenuItem("Stoppbedingung aendern");
         item.setOnAction(event -> {
             StopConditionDialog dialog = new StopConditionDialog();
-            dialog.setUpComboBox(boardObject.getGameObjects());
+            dialog.setUpComboBox(setupController.getGameObjects().keySet().stream()
+                                         .filter(AnimalObject.class::isInstance)
+                                         .map(GameObject::getName)
+                                         .sorted()
+                                         .collect(Collectors.toList()), stopCondition);
             Optional<String> response = dialog.showAndWait();
-            response.ifPresent(species -> {
-                messageField.appendText(String.format("Simulation beendet, sobald nur noch %s lebt%n", species));
-                game.setSpeciesToWatch(species);
-            });
+            response.ifPresent(this::applyStopCondition);
         });
         return item;
     }
 
+    private void applyStopCondition(String expression) {
+        try {
+            StopCondition condition = StopConditionParser.parse(expression);
+            withBoard(() -> game.setStopCondition(condition));
+            stopCondition = expression;
+            messageField.addMessage(expression.isBlank()
+                                            ? "Die Simulation laeuft ohne Stoppbedingung"
+                                            : String.format("Simulation beendet, sobald %s erfuellt ist", expression));
+        } catch (LifeException e) {
+            messageField.addMessage(String.format("Ungueltige Stoppbedingung: %s", e.getMessage()));
+        }
+    }
+
     private MenuItem changeScanRadius(AnimalObject animalObject) {
         MenuItem radiusItem = new MenuItem();
         radiusItem.setText("Sichtweite aendern");
         radiusItem.setOnAction(event -> {
             ScanRadiusDialog dialog = new ScanRadiusDialog();
             Optional<Integer> response = dialog.showAndWait();
-            response.ifPresent(radius -> boardObject.getGameObjects().stream()
+            response.ifPresent(radius -> withBoard(() -> boardObject.getGameObjects().stream()
                     .filter(AnimalObject.class::isInstance)
                     .map(AnimalObject.class::cast)
                     .forEach(ao -> {
                         if (ao.getName().equals(animalObject.getName())) {
-                            messageField.appendText(String.format("Sichtweite von %s wurde von %s auf %s geaendert%n",
+                            messageField.addMessage(String.format("Sichtweite von %s wurde von %s auf %s geaendert",
                                                                   ao.getName(), ao.getScanRadius(), radius));
                             ao.setScanRadius(radius);
                         }
-                    }));
+                    })));
         });
         return radiusItem;
     }
@@ -301,14 +443,13 @@ public class LifeWindowController {
         colorItem.setOnAction(event -> {
             ColorPickerDialog dialog = new ColorPickerDialog();
             Optional<String> response = dialog.showAndWait();
-            response.ifPresent(color -> boardObject.getGameObjects().forEach(go -> {
+            response.ifPresent(color -> withBoard(() -> boardObject.getGameObjects().forEach(go -> {
                 if (go.getName().equals(gameObject.getName())) {
-                    messageField.appendText(String.format("Farbe von %s von %s auf %s geaendert%n",
+                    messageField.addMessage(String.format("Farbe von %s von %s auf %s geaendert",
                                                           go.getName(), go.getColor(), color));
                     go.setColor(color);
-                    boardView.draw();
                 }
-            }));
+            })));
         });
         return colorItem;
     }
@@ -323,21 +464,18 @@ public class LifeWindowController {
             dialog.getEditor().setTextFormatter(ValidationUtil.getNameFormatter());
             Optional<String> response = dialog.showAndWait();
 
-            response.ifPresent(name -> boardObject.getGameObjects().stream()
-                    .filter(go -> go.getName().equals(gameObject.getName()))
-                    .forEach(go -> editMenu.getItems().stream()
-                            .filter(menuItem -> menuItem.getText().equals(gameObject.getName()))
-                            .forEach(menuItem -> {
-                                if (name.isBlank()) {
-                                    return;
-                                }
-                                menuItem.setText(name);
-                                messageField.appendText(String.format(
-                                        "Name von %s wurde auf %s geaendert%n", gameObject.getName(), name));
-                                gameObject.setName(name);
-                                go.setName(name);
-
-                            })));
+            response.ifPresent(name -> withBoard(() -> {
+                if (name.isBlank()) {
+                    return;
+                }
+                String species = gameObject.getName();
+                editMenu.getItems().stream()
+                        .filter(menuItem -> menuItem.getText().equals(species))
+                        .forEach(menuItem -> menuItem.setText(name));
+                messageField.addMessage(String.format("Name von %s wurde auf %s geaendert", species, name));
+                game.renameSpecies(species, name);
+                gameObject.setName(name);
+            }));
         });
         return nameItem;
     }
@@ -352,17 +490,16 @@ public class LifeWindowController {
             dialog.getEditor().setTextFormatter(ValidationUtil.getEnergyFormatter());
             Optional<String> response = dialog.showAndWait();
 
-            response.ifPresent(energy -> boardObject.getGameObjects().stream()
+            response.ifPresent(energy -> withBoard(() -> boardObject.getGameObjects().stream()
                     .filter(go -> go.getName().equals(gameObject.getName()))
                     .forEach(go -> {
                         if (energy.matches("\\d+")) {
-                            go.setEnergy(Integer.parseInt(energy));
-                            gameProperties.getEnergyProperty(go.getName()).set(Integer.parseInt(energy));
-                            messageField.appendText(String.format(
-                                    "Energie von %s wurde auf %s gesetzt%n", go.getName(), go.getEnergy()));
-                            boardView.draw();
+                            boardObject.setEnergy(go, Integer.parseInt(energy));
+                            gameProperties.setEnergy(go.getName(), Integer.parseInt(energy));
+                            messageField.addMessage(String.format(
+                                    "Energie von %s wurde auf %s gesetzt", go.getName(), go.getEnergy()));
                         }
-                    }));
+                    })));
         });
         return energyItem;
     }
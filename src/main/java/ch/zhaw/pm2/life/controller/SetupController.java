@@ -1,9 +1,12 @@
 package ch.zhaw.pm2.life.controller;
 
 import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.Board;
 import ch.zhaw.pm2.life.model.GameObject;
 import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
 import ch.zhaw.pm2.life.parser.ConfigParser;
+import ch.zhaw.pm2.life.parser.StopConditionParser;
+import ch.zhaw.pm2.life.util.ValidationUtil;
 import javafx.application.HostServices;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -19,7 +22,6 @@ import javafx.stage.Stage;
 import java.io.IOException;
 import java.net.URL;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -34,41 +36,56 @@ public class SetupController {
      */
     public static final int HEIGHT_BOXING = 50;
     private static final int WIDTH_BOXING = 20;
+    private static final int MAX_BOARD_SIZE = 100_000;
     private static final Logger logger = Logger.getLogger(SetupController.class.getName());
     private final ComboBox<String> comboBox = new ComboBox<>();
     private final HashMap<GameObject, Spinner<Integer>> gameObjectMap = new HashMap<>();
+    private final Spinner<Integer> rowsSpinner = createSpinner(Board.MIN_ROWS, MAX_BOARD_SIZE, ConfigParser.DEFAULT_BOARD_SIZE);
+    private final Spinner<Integer> columnsSpinner = createSpinner(Board.MIN_COLUMNS, MAX_BOARD_SIZE, ConfigParser.DEFAULT_BOARD_SIZE);
     @FXML private Pane rootPane;
     @FXML private GridPane pane;
 
     private HostServices hostServices;
 
     /**
-     * Initializes the set up controller with {@link GameObject}
-     * and a Spinner to chose the amount to spawn.
+     * Initializes the set up controller with the size of the board, the {@link GameObject}
+     * and a Spinner to chose the amount to spawn, all preset from the config file.
      */
     @FXML
     public void initialize() {
+        int index = 0;
+        pane.add(new Label("Zeilen"), 0, index);
+        pane.add(rowsSpinner, 1, index++);
+        pane.add(new Label("Spalten"), 0, index);
+        pane.add(columnsSpinner, 1, index++);
         try {
             ConfigParser config = ConfigParser.getInstance();
-            List<GameObject> gameObjects = config.parseObjects();
+            rowsSpinner.getValueFactory().setValue(config.parseRows());
+            columnsSpinner.getValueFactory().setValue(config.parseColumns());
+            Map<GameObject, Integer> gameObjects = config.parseAmounts();
 
-            int index = 0;
-            for (GameObject gameObject : gameObjects) {
+            for (Map.Entry<GameObject, Integer> entry : gameObjects.entrySet()) {
+                GameObject gameObject = entry.getKey();
                 Label name = new Label();
                 name.setText("Anzahl " + gameObject.getName());
-                Spinner<Integer> amount = new Spinner<>();
-                amount.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(0, 10, 1));
+                Spinner<Integer> amount = createSpinner(0, Integer.MAX_VALUE, entry.getValue());
                 gameObjectMap.put(gameObject, amount);
                 pane.add(name, 0, index);
                 pane.add(amount, 1, index);
                 index++;
                 pane.addRow(index);
                 if (gameObject instanceof AnimalObject) {
-                    comboBox.getItems().add(gameObject.getName());
+                    comboBox.getItems().add(String.format("extinct(%s)", gameObject.getName()));
                 }
             }
-            comboBox.getSelectionModel().selectFirst();
-            pane.add(new Label("Stoppen sobald nur noch"), 0, index);
+            comboBox.setEditable(true);
+            String stopCondition = config.parseStopCondition();
+            if (stopCondition == null) {
+                comboBox.getSelectionModel().selectFirst();
+            } else {
+                comboBox.setValue(stopCondition);
+            }
+            pane.add(new Label("Stoppbedingung"), 0, index);
             pane.add(comboBox, 1, index);
             pane.setVgap(10);
             pane.setHgap(100);
@@ -78,6 +95,20 @@ public class SetupController {
         }
     }
 
+    private static Spinner<Integer> createSpinner(int min, int max, int initialValue) {
+        Spinner<Integer> spinner = new Spinner<>();
+        spinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(min, max, initialValue));
+        spinner.setEditable(true);
+        spinner.getEditor().setTextFormatter(ValidationUtil.getAmountFormatter());
+        // the typed value is only taken over on enter, unless it is committed when the spinner loses the focus
+        spinner.focusedProperty().addListener((observable, wasFocused, focused) -> {
+            if (!focused) {
+                spinner.increment(0);
+            }
+        });
+        return spinner;
+    }
+
     /**
      * Shows the simulation window and starts the simulation itself.
      */
@@ -115,11 +146,28 @@ public class SetupController {
     }
 
     /**
-     * Returns the species name that should be monitored to stop the simulation.
-     * @return String species name.
+     * Returns the number of rows of the board.
+     * @return rows as int.
+     */
+    public int getRows() {
+        return rowsSpinner.getValue();
+    }
+
+    /**
+     * Returns the number of columns of the board.
+     * @return columns as int.
+     */
+    public int getColumns() {
+        return columnsSpinner.getValue();
+    }
+
+    /**
+     * Returns the condition that stops the simulation in the format of the {@link StopConditionParser}.
+     * @return String stop condition, empty if the simulation should not stop on its own.
      */
     public String getStopCondition() {
-        return comboBox.getValue();
+        String stopCondition = comboBox.getEditor().getText();
+        return stopCondition == null ? "" : stopCondition.trim();
     }
 
     /**
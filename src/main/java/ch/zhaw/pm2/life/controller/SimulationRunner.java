@@ -0,0 +1,165 @@
+package ch.zhaw.pm2.life.controller;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs the ticks of a simulation on a background thread at a target rate, independent of the rendering.
+ * Every tick runs while holding the lock returned by {@link #getLock()}, so a change of the board on another thread
+ * that holds the same lock happens between two ticks. Views do not need the lock, they read the snapshot the tick
+ * publishes at its end.
+ */
+public class SimulationRunner {
+
+    /**
+     * Target rate that runs the ticks one after another without waiting.
+     */
+    public static final double UNLIMITED = Double.POSITIVE_INFINITY;
+
+    /**
+     * Lowest target rate in ticks per second.
+     */
+    public static final double MIN_RATE = 1;
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final Runnable tick;
+    private final BooleanSupplier ongoing;
+    private final Object lock = new Object();
+    private final AtomicLong tickCount = new AtomicLong();
+    private volatile double targetRate = MIN_RATE;
+    private volatile boolean running;
+    private Runnable onFinished = () -> { };
+    private Thread thread;
+
+    /**
+     * Creates a runner.
+     * @param tick    performs one tick of the simulation.
+     * @param ongoing returns false as soon as the simulation has ended.
+     * @throws NullPointerException when an argument is null.
+     */
+    public SimulationRunner(Runnable tick, BooleanSupplier ongoing) {
+        this.tick = Objects.requireNonNull(tick, "The tick cannot be null.");
+        this.ongoing = Objects.requireNonNull(ongoing, "The ongoing supplier cannot be null.");
+    }
+
+    /**
+     * Starts running ticks on the background thread, does nothing if it is already running.
+     */
+    public synchronized void start() {
+        if (running || !ongoing.getAsBoolean()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Pauses the simulation and waits until the current tick is done.
+     */
+    public synchronized void pause() {
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    /**
+     * Runs a single tick on the calling thread, e.g. for a step while the simulation is paused.
+     */
+    public void step() {
+        synchronized (lock) {
+            tick.run();
+        }
+        tickCount.incrementAndGet();
+    }
+
+    /**
+     * Returns true while ticks run on the background thread.
+     * @return true if the simulation is running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sets the target rate.
+     * @param targetRate ticks per second, at least {@link #MIN_RATE} or {@link #UNLIMITED}.
+     * @throws IllegalArgumentException when the rate is lower than {@link #MIN_RATE} or not a number.
+     */
+    public void setTargetRate(double targetRate) {
+        if (Double.isNaN(targetRate) || targetRate < MIN_RATE) {
+            throw new IllegalArgumentException("The target rate must be at least " + MIN_RATE + " ticks per second.");
+        }
+        this.targetRate = targetRate;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Returns the target rate.
+     * @return ticks per second.
+     */
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    /**
+     * Returns the number of ticks run so far.
+     * @return number of ticks as long.
+     */
+    public long getTickCount() {
+        return tickCount.get();
+    }
+
+    /**
+     * Returns the lock that is held during every tick.
+     * @return lock as {@link Object}.
+     */
+    public Object getLock() {
+        return lock;
+    }
+
+    /**
+     * Sets the action that runs on the background thread when the simulation has ended.
+     * @param onFinished action to run.
+     */
+    public void setOnFinished(Runnable onFinished) {
+        this.onFinished = Objects.requireNonNull(onFinished, "The action cannot be null.");
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        while (running && ongoing.getAsBoolean()) {
+            step();
+            double rate = targetRate;
+            if (rate == UNLIMITED) {
+                continue;
+            }
+            nextTick += (long) (NANOS_PER_SECOND / rate);
+            long wait = nextTick - System.nanoTime();
+            if (wait <= 0) {
+                // a slow tick is not made up for with a burst of ticks
+                nextTick = System.nanoTime();
+            }
+            while (running && wait > 0 && rate == targetRate) {
+                LockSupport.parkNanos(this, wait);
+                wait = nextTick - System.nanoTime();
+            }
+        }
+        if (running) {
+            running = false;
+            onFinished.run();
+        }
+    }
+
+}
@@ -0,0 +1,483 @@
+package ch.zhaw.pm2.life.controller;
+
+import ch.zhaw.pm2.life.model.EntityStore;
+import ch.zhaw.pm2.life.model.EntityStore.Kind;
+import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.GameProperties;
+import ch.zhaw.pm2.life.model.PackedCoordinates;
+import ch.zhaw.pm2.life.model.SimulationRandom;
+import ch.zhaw.pm2.life.model.StopCondition;
+import ch.zhaw.pm2.life.model.lifeform.LifeForm;
+import ch.zhaw.pm2.life.model.lifeform.LifeRules;
+import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Runs the rules of the {@link Game} on an {@link EntityStore} instead of a {@link ch.zhaw.pm2.life.model.Board}.
+ * Every decision is taken by {@link LifeRules}, the same rules the life forms on a board follow.
+ * Moves, collisions, births and deaths work on the primitive arrays of the store and reuse buffers that only grow
+ * with the number of entities, so a tick does not allocate per entity. In return no message log is written,
+ * the outcome of a tick is reflected in the counters of every species.
+ */
+public class StoreGame {
+
+    private static final int MAX_PLACEMENT_ATTEMPTS = 64;
+    private static final long STORE_STREAM = -3;
+
+    private final EntityStore store;
+    private final GameProperties gameProperties;
+    private final int[] startPlants;
+    private final int[] started;
+    private final int[] born;
+    private final int[] spawned;
+    private final int[] died;
+    private final int[] visitedCells;
+    private long[] nextPositions = new long[0];
+    private int[] cellMembers = new int[0];
+    private int[] births = new int[0];
+    private int birthCount;
+    private int totalStartPlants;
+    private int tick;
+    private final SimulationRandom simulationRandom;
+    private SplittableRandom random;
+    private final StopCondition.State stopState = new StopCondition.State() {
+        @Override
+        public long getTick() {
+            return tick;
+        }
+
+        @Override
+        public int getAliveCount(String species) {
+            int speciesId = store.getSpeciesId(species);
+            return speciesId == EntityStore.NO_ENTITY ? 0 : store.getAliveCount(speciesId);
+        }
+
+        @Override
+        public int getTotalAliveCount() {
+            int total = 0;
+            for (int speciesId = 0; speciesId < store.getSpeciesCount(); speciesId++) {
+                total += store.getAliveCount(speciesId);
+            }
+            return total;
+        }
+
+        @Override
+        public long getStateHash() {
+            return store.getStateHash();
+        }
+
+        @Override
+        public boolean isSpawnPossible() {
+            return totalStartPlants > 0 && store.getOccupiedCellCount() < store.getRows() * store.getColumns();
+        }
+    };
+    private boolean ongoing = true;
+    private StopCondition stopCondition = StopCondition.never();
+
+    /**
+     * Default constructor. Registers every species of the game properties and places their initial amount
+     * on random free cells.
+     * @param store          stores all entities.
+     * @param gameProperties initial amounts and energies of the species.
+     * @throws NullPointerException     when the store or the game properties are null.
+     * @throws IllegalArgumentException when an amount is negative or the sum of all amounts is higher than the
+     *                                  number of fields on the board.
+     */
+    public StoreGame(EntityStore store, GameProperties gameProperties) {
+        this(store, gameProperties, new SimulationRandom());
+    }
+
+    /**
+     * Creates a game that draws all random values from the provided {@link SimulationRandom}.
+     * The entities are processed in a fixed order, so one sequential stream per tick is enough for identical replays.
+     * @param store            stores all entities.
+     * @param gameProperties   initial amounts and energies of the species.
+     * @param simulationRandom {@link SimulationRandom} of the simulation.
+     * @throws NullPointerException     when the store, the game properties or the simulation random are null.
+     * @throws IllegalArgumentException when an amount is negative or the sum of all amounts is higher than the
+     *                                  number of fields on the board.
+     */
+    public StoreGame(EntityStore store, GameProperties gameProperties, SimulationRandom simulationRandom) {
+        this.store = Objects.requireNonNull(store, "The entity store cannot be null to create the game.");
+        this.gameProperties = Objects.requireNonNull(gameProperties, "The game properties cannot be null.");
+        this.simulationRandom = Objects.requireNonNull(simulationRandom, "The simulation random cannot be null.");
+        random = simulationRandom.split(STORE_STREAM);
+        gameProperties.getInitGameObjects().keySet().forEach(store::addSpecies);
+
+        int speciesCount = store.getSpeciesCount();
+        startPlants = new int[speciesCount];
+        started = new int[speciesCount];
+        born = new int[speciesCount];
+        spawned = new int[speciesCount];
+        died = new int[speciesCount];
+        // the store has at most Integer.MAX_VALUE cells, so the product does not overflow
+        visitedCells = new int[store.getRows() * store.getColumns()];
+        addLifeForms();
+    }
+
+    private void validateNumOfGameObjects(long num, String type) {
+        if (num < 0) {
+            throw new IllegalArgumentException(String.format("Number of %s is less than the minimal value.", type));
+        } else if (num > (long) store.getRows() * store.getColumns()) {
+            throw new IllegalArgumentException(String.format("Number of %s exceed the number of available field.", type));
+        }
+    }
+
+    private void addLifeForms() {
+        long createdLifeForms = 0;
+        for (Map.Entry<GameObject, Integer> entry : gameProperties.getInitGameObjects().entrySet()) {
+            GameObject gameObject = entry.getKey();
+            int amount = entry.getValue();
+            validateNumOfGameObjects(amount, gameObject.getName());
+            validateNumOfGameObjects(amount + createdLifeForms, "game objects");
+
+            int speciesId = store.getSpeciesId(gameObject.getName());
+            for (int i = 0; i < amount; i++) {
+                int slot = addEntity(speciesId, gameObject.getEnergy(), randomFreeCell());
+                if (gameObject instanceof LifeForm) {
+                    started[store.getSpecies(slot)]++;
+                }
+            }
+            if (gameObject instanceof Plant) {
+                startPlants[speciesId] += amount;
+                totalStartPlants += amount;
+            }
+            createdLifeForms += amount;
+        }
+    }
+
+    /**
+     * Returns a random cell that is not occupied, like {@link ch.zhaw.pm2.life.model.Board#getRandomFreePosition()}.
+     * After {@value #MAX_PLACEMENT_ATTEMPTS} occupied cells the first free cell after a random cell is taken instead.
+     */
+    private int randomFreeCell() {
+        int cellCount = store.getRows() * store.getColumns();
+        if (store.getOccupiedCellCount() < cellCount) {
+            for (int attempt = 0; attempt < MAX_PLACEMENT_ATTEMPTS; attempt++) {
+                int cell = random.nextInt(cellCount);
+                if (!store.isOccupied(cell % store.getColumns(), cell / store.getColumns())) {
+                    return cell;
+                }
+            }
+            int firstCell = random.nextInt(cellCount);
+            for (int offset = 0; offset < cellCount; offset++) {
+                int cell = (firstCell + offset) % cellCount;
+                if (!store.isOccupied(cell % store.getColumns(), cell / store.getColumns())) {
+                    return cell;
+                }
+            }
+        }
+        throw new IllegalStateException("There is no free position left on the board.");
+    }
+
+    private int addEntity(int speciesId, int energy, int cell) {
+        boolean male = LifeRules.isMale(random.nextInt(LifeRules.TRAIT_VALUES));
+        boolean poisonous = LifeRules.isPoisonous(random.nextInt(LifeRules.TRAIT_VALUES));
+        return store.add(speciesId, cell % store.getColumns(), cell / store.getColumns(), energy, male, poisonous);
+    }
+
+    /**
+     * Stops the game and sets ongoing to flag.
+     * @return message that the game stopped.
+     */
+    public String stop() {
+        ongoing = false;
+        return "Die Simulation wurde beendet, weil die Endbedingung erfuellt wurde.";
+    }
+
+    /**
+     * Returns true if the game is ongoing otherwise false.
+     * @return boolean true if the game is ongoing.
+     */
+    public boolean isOngoing() {
+        return ongoing;
+    }
+
+    /**
+     * Performs the next move for every entity of the store, see {@link Game#nextMove()}.
+     * The game stops as soon as the {@link StopCondition} is met.
+     */
+    public void nextMove() {
+        if (!ongoing || stopCondition.isMet(stopState)) {
+            stop();
+            return;
+        }
+        tick++;
+        simulationRandom.nextTick();
+        random = simulationRandom.split(STORE_STREAM);
+        for (int speciesId = 0; speciesId < store.getSpeciesCount(); speciesId++) {
+            store.setSpeciesEnergy(speciesId, gameProperties.getEnergy(store.getSpeciesName(speciesId)));
+        }
+        spawnPlantRandomlyOnMap();
+        move();
+        interact();
+    }
+
+    private void spawnPlantRandomlyOnMap() {
+        int spawnChance = random.nextInt(11);
+        if (spawnChance < Game.PLANT_RESPAWN_CHANCE && stopState.isSpawnPossible()) {
+            // every plant placed at the start is equally likely to respawn, like in the game
+            int plant = random.nextInt(totalStartPlants);
+            int speciesId = 0;
+            while (plant >= startPlants[speciesId]) {
+                plant -= startPlants[speciesId];
+                speciesId++;
+            }
+            addEntity(speciesId, store.getSpeciesEnergy(speciesId), randomFreeCell());
+            spawned[speciesId]++;
+        }
+    }
+
+    private void move() {
+        int capacity = store.getCapacity();
+        if (nextPositions.length < capacity) {
+            nextPositions = new long[capacity];
+        }
+
+        // decide every move on the unchanged store, then apply them
+        for (int slot = 0; slot < capacity; slot++) {
+            if (store.isUsed(slot) && store.getKind(store.getSpecies(slot)).isAnimal()) {
+                decideNextPosition(slot);
+            }
+        }
+        for (int slot = 0; slot < capacity; slot++) {
+            if (store.isUsed(slot) && store.getKind(store.getSpecies(slot)).isAnimal()) {
+                moveTo(slot, nextPositions[slot]);
+            }
+        }
+
+        for (int slot = 0; slot < capacity; slot++) {
+            if (store.isUsed(slot)) {
+                if (store.getKind(store.getSpecies(slot)) == Kind.PLANT) {
+                    store.consumeEnergy(slot, Plant.ENERGY_CONSUMPTION);
+                }
+                if (store.getEnergy(slot) < Game.ENERGY_VALUE_DEAD) {
+                    die(slot);
+                }
+            }
+        }
+        removeDeadEntities();
+    }
+
+    private void decideNextPosition(int slot) {
+        int x = store.getX(slot);
+        int y = store.getY(slot);
+        long current = PackedCoordinates.pack(x, y);
+        Kind kind = store.getKind(store.getSpecies(slot));
+        int radius = store.getScanRadius(store.getSpecies(slot));
+
+        // same search as AnimalObject#getNearestNeighbour
+        int target = EntityStore.NO_ENTITY;
+        if (radius > 0) {
+            int min = Integer.MAX_VALUE;
+            int maxX = Math.min(x + radius, store.getColumns() - 1);
+            int maxY = Math.min(y + radius, store.getRows() - 1);
+            for (int cellY = Math.max(y - radius, 0); cellY <= maxY; cellY++) {
+                for (int cellX = Math.max(x - radius, 0); cellX <= maxX; cellX++) {
+                    for (int other = store.getFirstInCell(cellX, cellY); other != EntityStore.NO_ENTITY;
+                         other = store.getNextInCell(other)) {
+                        int distance = LifeRules.getNeighbourDistance(current, PackedCoordinates.pack(cellX, cellY));
+                        if (other != slot && LifeRules.isFood(kind.getDiet(), store.getKind(store.getSpecies(other)).getFoodType())
+                                && distance < min) {
+                            min = distance;
+                            target = other;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (target == EntityStore.NO_ENTITY) {
+            nextPositions[slot] = chooseRandomNeighbourPosition(slot);
+        } else {
+            nextPositions[slot] = LifeRules.getNextPosition(current, PackedCoordinates.pack(store.getX(target), store.getY(target)));
+        }
+    }
+
+    private long chooseRandomNeighbourPosition(int slot) {
+        long current = PackedCoordinates.pack(store.getX(slot), store.getY(slot));
+        int neighbourIndex = random.nextInt(PackedCoordinates.getNeighbourCount(current, store.getColumns(), store.getRows()));
+        return PackedCoordinates.getNeighbour(current, store.getColumns(), store.getRows(), neighbourIndex);
+    }
+
+    private void moveTo(int slot, long nextPosition) {
+        int consumeEnergy = 0;
+        if (store.isPoisoned(slot)) {
+            int energyConsumption = store.getPoisonCounter(slot);
+            if (LifeRules.isPoisonWornOff(energyConsumption)) {
+                store.setPoisoned(slot, false);
+            }
+            store.setPoisonCounter(slot, energyConsumption - 1);
+            consumeEnergy += LifeRules.getPoisonedEnergyConsumption(energyConsumption);
+        }
+        int x = PackedCoordinates.getX(nextPosition);
+        int y = PackedCoordinates.getY(nextPosition);
+        if (store.getX(slot) != x || store.getY(slot) != y) {
+            consumeEnergy += LifeRules.MOVE_ENERGY_CONSUMPTION;
+            store.move(slot, x, y);
+        }
+        store.setFertilityThreshold(slot, store.getFertilityThreshold(slot) + 1);
+        store.setEnergy(slot, store.getEnergy(slot) - consumeEnergy);
+    }
+
+    private void die(int slot) {
+        if (!store.isDead(slot)) {
+            store.die(slot);
+            died[store.getSpecies(slot)]++;
+        }
+    }
+
+    private void removeDeadEntities() {
+        int capacity = store.getCapacity();
+        for (int slot = 0; slot < capacity; slot++) {
+            if (store.isUsed(slot) && store.isDead(slot)) {
+                store.remove(slot);
+            }
+        }
+    }
+
+    private void interact() {
+        birthCount = 0;
+        int capacity = store.getCapacity();
+        for (int slot = 0; slot < capacity; slot++) {
+            if (store.isUsed(slot) && store.getKind(store.getSpecies(slot)).isAnimal()) {
+                int cell = store.getCellIndex(store.getX(slot), store.getY(slot));
+                if (visitedCells[cell] != tick) {
+                    visitedCells[cell] = tick;
+                    interact(store.getX(slot), store.getY(slot));
+                }
+            }
+        }
+
+        removeDeadEntities();
+        for (int i = 0; i < birthCount; i++) {
+            int speciesId = births[2 * i];
+            addEntity(speciesId, store.getSpeciesEnergy(speciesId), births[2 * i + 1]);
+            born[speciesId]++;
+        }
+    }
+
+    private void interact(int x, int y) {
+        int members = 0;
+        for (int slot = store.getFirstInCell(x, y); slot != EntityStore.NO_ENTITY; slot = store.getNextInCell(slot)) {
+            if (members == cellMembers.length) {
+                cellMembers = Arrays.copyOf(cellMembers, Math.max(8, 2 * members));
+            }
+            cellMembers[members++] = slot;
+        }
+
+        for (int i = 0; i < members; i++) {
+            int animal = cellMembers[i];
+            if (!store.getKind(store.getSpecies(animal)).isAnimal()) {
+                continue;
+            }
+            for (int j = 0; j < members; j++) {
+                int lifeForm = cellMembers[j];
+                if (lifeForm != animal && !store.isDead(animal) && !store.isDead(lifeForm)) {
+                    Kind kind = store.getKind(store.getSpecies(animal));
+                    if (kind == store.getKind(store.getSpecies(lifeForm)) && store.isMale(animal) != store.isMale(lifeForm)) {
+                        reproduce(animal, lifeForm);
+                    } else {
+                        eat(animal, lifeForm);
+                    }
+                }
+            }
+        }
+    }
+
+    private void reproduce(int animal, int partner) {
+        // only the female gives birth and only if she is fertile, see AnimalObject#reproduce
+        if (store.isMale(partner) && LifeRules.isFertile(store.getFertilityThreshold(animal))) {
+            store.setFertilityThreshold(animal, 0);
+            long childPosition = chooseRandomNeighbourPosition(animal);
+            if (2 * birthCount + 1 >= births.length) {
+                births = Arrays.copyOf(births, Math.max(16, 2 * births.length));
+            }
+            births[2 * birthCount] = store.getSpecies(animal);
+            births[2 * birthCount + 1] = store.getCellIndex(PackedCoordinates.getX(childPosition), PackedCoordinates.getY(childPosition));
+            birthCount++;
+        }
+    }
+
+    private void eat(int animal, int lifeForm) {
+        Kind hunter = store.getKind(store.getSpecies(animal));
+        Kind prey = store.getKind(store.getSpecies(lifeForm));
+        // same rules as Herbivore#getEatRules and Carnivore#getEatRules
+        boolean allowed = LifeRules.isFood(hunter.getDiet(), prey.getFoodType())
+                && (prey != Kind.CARNIVORE || LifeRules.canOverpower(store.getEnergy(animal), store.getEnergy(lifeForm)));
+        if (allowed) {
+            store.setEnergy(animal, store.getEnergy(animal) + store.getEnergy(lifeForm));
+            if (store.isPoisonous(lifeForm)) {
+                store.setPoisoned(animal, true);
+                store.setPoisonCounter(animal, LifeRules.getPoisonEnergyConsumption(store.getEnergy(animal)));
+            }
+            die(lifeForm);
+        }
+    }
+
+    /**
+     * Sets the condition that ends the simulation, see {@link Game#setStopCondition(StopCondition)}.
+     * @param stopCondition {@link StopCondition} of the simulation.
+     * @throws NullPointerException when the stop condition is null.
+     */
+    public void setStopCondition(StopCondition stopCondition) {
+        this.stopCondition = Objects.requireNonNull(stopCondition, "The stop condition cannot be null.");
+    }
+
+    /**
+     * Returns the number of {@link LifeForm} of a species that were placed at the start.
+     * @param species name of the species.
+     * @return number of life forms as int.
+     */
+    public int getStartCount(String species) {
+        return count(started, species);
+    }
+
+    /**
+     * Returns the number of {@link AnimalObject} of a species that were born.
+     * @param species name of the species.
+     * @return number of life forms as int.
+     */
+    public int getBornCount(String species) {
+        return count(born, species);
+    }
+
+    /**
+     * Returns the number of {@link Plant} of a species that spawned.
+     * @param species name of the species.
+     * @return number of life forms as int.
+     */
+    public int getSpawnedCount(String species) {
+        return count(spawned, species);
+    }
+
+    /**
+     * Returns the number of {@link LifeForm} of a species that died.
+     * @param species name of the species.
+     * @return number of life forms as int.
+     */
+    public int getDeadCount(String species) {
+        return count(died, species);
+    }
+
+    /**
+     * Returns the number of {@link LifeForm} of a species that are alive.
+     * @param species name of the species.
+     * @return number of life forms as int.
+     */
+    public int getSurvivedCount(String species) {
+        int speciesId = store.getSpeciesId(species);
+        return speciesId == EntityStore.NO_ENTITY ? 0 : store.getAliveCount(speciesId);
+    }
+
+    private int count(int[] counters, String species) {
+        int speciesId = store.getSpeciesId(species);
+        return speciesId == EntityStore.NO_ENTITY ? 0 : counters[speciesId];
+    }
+
+}
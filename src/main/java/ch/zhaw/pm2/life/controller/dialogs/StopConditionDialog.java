@@ -1,21 +1,18 @@
 package ch.zhaw.pm2.life.controller.dialogs;
 
-import ch.zhaw.pm2.life.model.GameObject;
-import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+import ch.zhaw.pm2.life.parser.StopConditionParser;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collection;
 
 /**
- * Allows the user to change the stop condition.
+ * Allows the user to change the stop condition, written in the format of the {@link StopConditionParser}.
  */
 public class StopConditionDialog extends LifeDialog<String> {
 
     private final ComboBox<String> choice = new ComboBox<>();
-    private final Set<GameObject> gameObjects = new HashSet<>();
 
     /**
      * Creates the stop condition dialog.
@@ -28,27 +25,26 @@ public class StopConditionDialog extends LifeDialog<String> {
     @Override
     protected void setUp() {
         GridPane grid = getGrid();
-        setUpComboBox(gameObjects);
-        grid.add(new Label("Beende die Simultion sobald X ausstirbt"), 0, 0);
+        choice.setEditable(true);
+        grid.add(new Label("Beende die Simulation sobald"), 0, 0);
         grid.add(choice, 1, 0);
+        grid.add(new Label("z.B. extinct(Wolf) or ticks(1000)"), 1, 1);
         getDialogPane().setContent(grid);
     }
 
     @Override
     protected String returnValue() {
-        return choice.getValue();
+        return choice.getEditor().getText().trim();
     }
 
     /**
-     * Take a set of {@link GameObject} to add them to the combo box.
-     * @param gameObjects set of {@link GameObject} to add.
+     * Suggests that a species dies out for every species and preselects the current stop condition.
+     * @param species          names of the animal species.
+     * @param currentCondition the current stop condition.
      */
-    public void setUpComboBox(Set<GameObject> gameObjects) {
-        gameObjects.stream()
-                .filter(AnimalObject.class::isInstance)
-                .map(AnimalObject.class::cast)
-                .forEach(animalObject -> choice.getItems().add(animalObject.getName()));
-        choice.getSelectionModel().selectFirst();
+    public void setUpComboBox(Collection<String> species, String currentCondition) {
+        species.forEach(name -> choice.getItems().add(String.format("extinct(%s)", name)));
+        choice.setValue(currentCondition);
     }
 
 }
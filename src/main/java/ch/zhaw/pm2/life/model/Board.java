@@ -3,17 +3,43 @@ package ch.zhaw.pm2.life.model;
 import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
 
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
-import static ch.zhaw.pm2.life.model.GameObject.*;
-import static java.util.function.Predicate.*;
-
 /**
  * This model class represents the board containing all the {@link GameObject}.
+ * Besides the set of all {@link GameObject} the board keeps the cells in chunks of
+ * {@value #CHUNK_SIZE} x {@value #CHUNK_SIZE} cells, so that looking up the objects of a single position does not
+ * require a scan over every {@link GameObject} on the board. A chunk is only allocated while at least one of its cells
+ * is occupied, kept in a hash map by its coordinates and holds only its occupied cells, so the memory grows with the
+ * population and not with the area: a board of 100000 x 100000 cells with a few scattered animals needs a few small
+ * chunks, not a few thousand cells per animal.
+ * The board registers itself as {@link PositionListener} on every {@link GameObject} it contains, so the chunks and
+ * the occupied positions follow every move.
+ * On a sparse board most objects are plants that do nothing but lose energy. The board therefore keeps the
+ * {@link AnimalObject} in a set of their own, and the objects whose energy drops by itself in a schedule ordered by
+ * the tick in which their energy runs out (see {@link GameObject#getDepletionTick()}), so a tick only needs to visit
+ * the animals and the objects that are due.
+ * The board also keeps a {@link StateHash} of all its objects up to date on every add, move and remove, which tells
+ * in constant time if the board looks like it did in an earlier tick. The energy of an object is read when its key is
+ * updated, energy that changes outside of the board is taken over with {@link #updateStateKey(GameObject)}. Energy
+ * that drops by itself is not part of the hash, see {@link GameObject#getStateEnergy()}. Along with the hash the board
+ * keeps the total energy of every species, so the average energies are known without a scan over the board.
+ * The views never read the board itself: after a tick the simulation publishes an immutable {@link BoardSnapshot}
+ * through a volatile reference, which the views read on their own thread without any lock.
  */
 public class Board {
 
@@ -27,11 +53,31 @@ public class Board {
      */
     public static final int MIN_COLUMNS = 3;
 
-    private final Random random = new Random();
-    private final Set<GameObject> gameObjects = new HashSet<>();
-    private final Set<Vector2D> occupiedPositions = new HashSet<>();
+    /**
+     * Number of rows and columns of a chunk.
+     */
+    public static final int CHUNK_SIZE = 1 << 6;
+
+    private static final int CHUNK_BITS = Integer.numberOfTrailingZeros(CHUNK_SIZE);
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_PLACEMENT_ATTEMPTS = 64;
+    private static final long PLACEMENT_STREAM = -1;
+
+    private final SimulationRandom simulationRandom;
+    private final SplittableRandom random;
+    private final Set<GameObject> gameObjects = new LinkedHashSet<>();
+    private final Set<AnimalObject> animalObjects = new LinkedHashSet<>();
+    private final TreeMap<Long, Set<GameObject>> depletions = new TreeMap<>();
+    private final Set<Vector2D> occupiedPositions = new OccupiedPositions();
+    private final Map<Long, Chunk> chunks = new HashMap<>();
+    private long occupiedCellCount;
+    private long stateHash;
+    private final Map<String, EnergyTotal> energyTotals = new LinkedHashMap<>();
+    private final PositionListener positionListener = this::moveToCell;
     private final int rows;
     private final int columns;
+    private final int chunkColumns;
+    private volatile BoardSnapshot snapshot;
 
     /**
      * Default constructor.
@@ -40,6 +86,19 @@ public class Board {
      * @throws IllegalArgumentException when rows is less than {@link Board#MIN_ROWS} or columns is less than {@link Board#MIN_COLUMNS}
      */
     public Board(int rows, int columns) {
+        this(rows, columns, new SimulationRandom());
+    }
+
+    /**
+     * Creates a board whose simulation draws all random values from the provided {@link SimulationRandom}.
+     * @param rows             Number of rows as int.
+     * @param columns          Number of columns as int.
+     * @param simulationRandom {@link SimulationRandom} of the simulation.
+     * @throws IllegalArgumentException when rows is less than {@link Board#MIN_ROWS} or columns is less than {@link Board#MIN_COLUMNS}
+     * @throws NullPointerException     when the simulation random is null.
+     */
+    public Board(int rows, int columns, SimulationRandom simulationRandom) {
+        this.simulationRandom = Objects.requireNonNull(simulationRandom, "The simulation random cannot be null.");
         if (rows < MIN_ROWS) {
             throw new IllegalArgumentException("The number of rows cannot be less than " + MIN_ROWS);
         }
@@ -48,29 +107,53 @@ public class Board {
         }
         this.rows = rows;
         this.columns = columns;
+        chunkColumns = (columns + CHUNK_MASK) >> CHUNK_BITS;
+        random = simulationRandom.split(PLACEMENT_STREAM);
+        snapshot = BoardSnapshot.of(rows, columns, simulationRandom.getTick(), gameObjects);
     }
 
     /**
      * Adds a {@link GameObject} to the set of GameObjects on the board and it's position to the set of
      * occupiedPositions which is later used to handle collisions and interactions.
+     * If the {@link GameObject} is already on the board it is moved to the new position.
      * @param gameObject {@link GameObject}
      * @param position   {@link Vector2D}
-     * @throws NullPointerException when the {@link GameObject} is null.
+     * @throws NullPointerException     when the {@link GameObject} or the position is null.
+     * @throws IllegalArgumentException when the position does not exist on the board.
      */
     public void addGameObject(GameObject gameObject, Vector2D position) {
         Objects.requireNonNull(gameObject, "Game object cannot be null to add it on the board.");
         Objects.requireNonNull(position, "The position cannot be null to add the game object on the board.");
-        if (Vector2D.isNegative(position) || position.getX() >= columns || position.getY() >= rows) {
+        if (!isOnBoard(position)) {
             String message = String.format("The position %s of the provided game object does not exist on the board.", position);
             throw new IllegalArgumentException(message);
         }
 
-        gameObject.setPosition(position);
         gameObject.setColumns(columns);
         gameObject.setRows(rows);
 
-        gameObjects.add(gameObject);
-        occupiedPositions.add(position);
+        if (gameObjects.add(gameObject)) {
+            gameObject.setSimulationRandom(simulationRandom, simulationRandom.nextId());
+            gameObject.setPosition(position);
+            addToCell(gameObject, position);
+            addEnergy(gameObject);
+            updateStateKey(gameObject, position);
+            gameObject.setPositionListener(positionListener);
+            if (gameObject instanceof AnimalObject) {
+                animalObjects.add((AnimalObject) gameObject);
+            }
+            scheduleDepletion(gameObject);
+        } else {
+            gameObject.setPosition(position);
+        }
+    }
+
+    /**
+     * Returns the {@link SimulationRandom} every object on this board draws from.
+     * @return SimulationRandom of the simulation.
+     */
+    public SimulationRandom getSimulationRandom() {
+        return simulationRandom;
     }
 
     /**
@@ -83,26 +166,289 @@ public class Board {
         return new Vector2D(xPos, yPos);
     }
 
+    /**
+     * Returns a random position on the board that is not occupied by any {@link GameObject}, every free cell is
+     * equally likely. Random positions are drawn until a free one is found, which takes only a few draws unless the
+     * board is almost full. After {@value #MAX_PLACEMENT_ATTEMPTS} occupied positions a random number below the number
+     * of free cells is drawn instead, which picks a chunk by the number of its free cells and then the free cell
+     * of that number within the chunk.
+     * @return a free position as {@link Vector2D}.
+     * @throws IllegalStateException when every cell is occupied.
+     */
+    public Vector2D getRandomFreePosition() {
+        long freeCellCount = getFreeCellCount();
+        if (freeCellCount == 0) {
+            throw new IllegalStateException("There is no free position left on the board.");
+        }
+        for (int attempt = 0; attempt < MAX_PLACEMENT_ATTEMPTS; attempt++) {
+            Vector2D position = getRandomPosition();
+            if (!isOccupied(position.getX(), position.getY())) {
+                return position;
+            }
+        }
+        long freeCell = random.nextLong(freeCellCount);
+        int chunkRows = (rows + CHUNK_MASK) >> CHUNK_BITS;
+        for (int chunkY = 0; chunkY < chunkRows; chunkY++) {
+            for (int chunkX = 0; chunkX < chunkColumns; chunkX++) {
+                Chunk chunk = chunks.get(getChunkKeyOfChunk(chunkX, chunkY));
+                int toX = Math.min(columns, (chunkX + 1) << CHUNK_BITS);
+                int toY = Math.min(rows, (chunkY + 1) << CHUNK_BITS);
+                long chunkFreeCellCount = (long) (toX - (chunkX << CHUNK_BITS)) * (toY - (chunkY << CHUNK_BITS))
+                        - (chunk == null ? 0 : chunk.cells.size());
+                if (freeCell >= chunkFreeCellCount) {
+                    freeCell -= chunkFreeCellCount;
+                    continue;
+                }
+                for (int y = chunkY << CHUNK_BITS; y < toY; y++) {
+                    for (int x = chunkX << CHUNK_BITS; x < toX; x++) {
+                        if ((chunk == null || !chunk.cells.containsKey(getIndexInChunk(x, y))) && freeCell-- == 0) {
+                            return new Vector2D(x, y);
+                        }
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("There is no free position left on the board.");
+    }
+
+    /**
+     * Returns the number of cells that are not occupied by any {@link GameObject}.
+     * @return number of free cells as long.
+     */
+    public long getFreeCellCount() {
+        return (long) rows * columns - occupiedCellCount;
+    }
+
+    /**
+     * Returns the number of chunks that are allocated, because at least one of their cells is occupied.
+     * @return number of chunks as int.
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Sets the energy of a {@link GameObject} on the board. Unlike {@link GameObject#setEnergy(int)} the tick in which
+     * its energy runs out is scheduled again, which matters if it runs out earlier than before.
+     * @param gameObject {@link GameObject} on the board.
+     * @param energy     the energy as int.
+     */
+    public void setEnergy(GameObject gameObject, int energy) {
+        gameObject.setEnergy(energy);
+        if (gameObjects.contains(gameObject)) {
+            scheduleDepletion(gameObject);
+            updateStateKey(gameObject);
+        }
+    }
+
+    /**
+     * Renames a {@link GameObject}. Unlike {@link GameObject#setName(String)} its key of the {@link StateHash}
+     * and its energy move to the new name if it is on the board.
+     * @param gameObject {@link GameObject} to rename.
+     * @param name       the new name.
+     */
+    public void setName(GameObject gameObject, String name) {
+        if (!gameObjects.contains(gameObject)) {
+            gameObject.setName(name);
+            return;
+        }
+        removeEnergy(gameObject);
+        gameObject.setName(name);
+        addEnergy(gameObject);
+        updateStateKey(gameObject);
+    }
+
+    /**
+     * Updates the key a {@link GameObject} on the board contributes to the {@link StateHash} and the energy of its
+     * species, after its energy changed without the board noticing. Objects that are not on the board are ignored.
+     * @param gameObject {@link GameObject} on the board.
+     */
+    public void updateStateKey(GameObject gameObject) {
+        if (gameObjects.contains(gameObject)) {
+            updateStateKey(gameObject, gameObject.getPosition());
+        }
+    }
+
+    private void updateStateKey(GameObject gameObject, Vector2D position) {
+        long cell = (long) position.getY() * columns + position.getX();
+        long key = StateHash.key(cell, gameObject.getName(), gameObject.getStateEnergy());
+        stateHash += key - gameObject.getStateKey();
+        gameObject.setStateKey(key);
+        EnergyTotal energyTotal = energyTotals.get(gameObject.getName());
+        if (energyTotal != null && gameObject instanceof LifeForm) {
+            long reference = getEnergyReference(gameObject);
+            energyTotal.energy += reference - gameObject.getEnergyReference();
+            gameObject.setEnergyReference(reference);
+        }
+    }
+
+    private void addEnergy(GameObject gameObject) {
+        if (gameObject instanceof LifeForm) {
+            EnergyTotal energyTotal = energyTotals.computeIfAbsent(gameObject.getName(), key -> new EnergyTotal());
+            long reference = getEnergyReference(gameObject);
+            energyTotal.count++;
+            energyTotal.energy += reference;
+            energyTotal.consumption += gameObject.getEnergyConsumption();
+            gameObject.setEnergyReference(reference);
+        }
+    }
+
+    private void removeEnergy(GameObject gameObject) {
+        EnergyTotal energyTotal = energyTotals.get(gameObject.getName());
+        if (energyTotal != null && gameObject instanceof LifeForm) {
+            energyTotal.energy -= gameObject.getEnergyReference();
+            energyTotal.consumption -= gameObject.getEnergyConsumption();
+            if (--energyTotal.count == 0) {
+                energyTotals.remove(gameObject.getName());
+            }
+            gameObject.setEnergyReference(0);
+        }
+    }
+
+    private long getEnergyReference(GameObject gameObject) {
+        // the energy an object loses by itself is added back, so the reference stays the same while it drops
+        return gameObject.getEnergy() + (long) gameObject.getEnergyConsumption() * simulationRandom.getTick();
+    }
+
+    /**
+     * Returns the average energy of the {@link LifeForm} per species on the board. The energy of every species
+     * is kept up to date on every add, update and remove, so this does not visit any object.
+     * @return map of the species names to their average energy, in the order the species were added.
+     */
+    public Map<String, Double> getAverageEnergies() {
+        long tick = simulationRandom.getTick();
+        Map<String, Double> averageEnergies = new LinkedHashMap<>();
+        energyTotals.forEach((species, energyTotal) -> averageEnergies.put(
+                species, (double) (energyTotal.energy - energyTotal.consumption * tick) / energyTotal.count));
+        return averageEnergies;
+    }
+
+    /**
+     * Returns the {@link StateHash} of all {@link GameObject} on the board in the current tick. Equal boards have
+     * equal hashes, different boards almost always different ones. The energy that objects lose by themselves
+     * is not included, so a plant only changes the hash when something happens to it.
+     * @return hash as long.
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * Returns the {@link GameObject} on the board whose energy has run out by itself up to the provided tick and
+     * removes them from the schedule. Objects whose energy was raised in the meantime are scheduled again.
+     * @param tick the current tick.
+     * @return the objects in the order of the ticks in which their energy ran out.
+     */
+    public Set<GameObject> pollDepleted(long tick) {
+        Set<GameObject> depleted = new LinkedHashSet<>();
+        while (!depletions.isEmpty() && depletions.firstKey() <= tick) {
+            for (GameObject gameObject : depletions.pollFirstEntry().getValue()) {
+                if (!gameObjects.contains(gameObject)) {
+                    continue;
+                }
+                if (gameObject.getDepletionTick() <= tick) {
+                    depleted.add(gameObject);
+                } else {
+                    scheduleDepletion(gameObject);
+                }
+            }
+        }
+        return depleted;
+    }
+
+    private void scheduleDepletion(GameObject gameObject) {
+        long tick = gameObject.getDepletionTick();
+        if (tick != Long.MAX_VALUE) {
+            depletions.computeIfAbsent(tick, key -> new LinkedHashSet<>()).add(gameObject);
+        }
+    }
+
     /**
      * Remove all dead {@link LifeForm} from the board.
      */
     public void removeDeadLifeForms() {
-        Set<LifeForm> deadLifeForms = getLifeForms().stream()
-                .filter(LifeForm::isDead)
-                .collect(Collectors.toSet());
-        gameObjects.removeAll(deadLifeForms);
-        occupiedPositions.removeAll(getFreedPositions(deadLifeForms));
+        removeDeadLifeForms(new ArrayList<>(gameObjects));
     }
 
-    private Set<Vector2D> getFreedPositions(Set<LifeForm> deadLifeForms) {
-        Set<Vector2D> currentOccupiedPositions = gameObjects.stream()
-                .map(GameObject::getPosition)
-                .collect(Collectors.toSet());
+    /**
+     * Removes the dead {@link LifeForm} among the provided objects from the board, without a scan over every
+     * {@link GameObject} on the board.
+     * @param candidates objects that might have died.
+     */
+    public void removeDeadLifeForms(Collection<? extends GameObject> candidates) {
+        for (GameObject gameObject : candidates) {
+            if (gameObject instanceof LifeForm && ((LifeForm) gameObject).isDead() && gameObjects.remove(gameObject)) {
+                animalObjects.remove(gameObject);
+                gameObject.setPositionListener(null);
+                removeFromCell(gameObject, gameObject.getPosition());
+                removeEnergy(gameObject);
+                stateHash -= gameObject.getStateKey();
+                gameObject.setStateKey(0);
+            }
+        }
+    }
 
-        return deadLifeForms.stream()
-                .map(GameObject::getPosition)
-                .filter(not(currentOccupiedPositions::contains)) // positions of dead life forms that were alone on that position
-                .collect(Collectors.toSet());
+    private List<GameObject> getCell(int x, int y) {
+        Chunk chunk = chunks.get(getChunkKey(x, y));
+        if (chunk == null) {
+            return Collections.emptyList();
+        }
+        List<GameObject> cell = chunk.cells.get(getIndexInChunk(x, y));
+        return cell == null ? Collections.emptyList() : cell;
+    }
+
+    private boolean isOccupied(int x, int y) {
+        return !getCell(x, y).isEmpty();
+    }
+
+    private void moveToCell(GameObject gameObject, Vector2D previousPosition) {
+        // added before it is removed, so a lone object that moves within its chunk keeps the chunk allocated
+        Vector2D position = gameObject.getPosition();
+        addToCell(gameObject, position);
+        removeFromCell(gameObject, previousPosition);
+        updateStateKey(gameObject, position);
+    }
+
+    private void addToCell(GameObject gameObject, Vector2D position) {
+        Chunk chunk = chunks.computeIfAbsent(getChunkKey(position.getX(), position.getY()), key -> new Chunk());
+        int index = getIndexInChunk(position.getX(), position.getY());
+        List<GameObject> cell = chunk.cells.get(index);
+        if (cell == null) {
+            cell = new ArrayList<>(1);
+            chunk.cells.put(index, cell);
+            occupiedCellCount++;
+        }
+        cell.add(gameObject);
+    }
+
+    private void removeFromCell(GameObject gameObject, Vector2D position) {
+        long key = getChunkKey(position.getX(), position.getY());
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+            return;
+        }
+        int index = getIndexInChunk(position.getX(), position.getY());
+        List<GameObject> cell = chunk.cells.get(index);
+        if (cell != null && cell.remove(gameObject) && cell.isEmpty()) {
+            chunk.cells.remove(index);
+            occupiedCellCount--;
+            if (chunk.cells.isEmpty()) {
+                chunks.remove(key);
+            }
+        }
+    }
+
+    private long getChunkKey(int x, int y) {
+        return getChunkKeyOfChunk(x >> CHUNK_BITS, y >> CHUNK_BITS);
+    }
+
+    private long getChunkKeyOfChunk(int chunkX, int chunkY) {
+        // numbered row by row, so the hash codes of the keys differ as long as there are less than 2^32 chunks
+        return (long) chunkY * chunkColumns + chunkX;
+    }
+
+    private static int getIndexInChunk(int x, int y) {
+        return (y & CHUNK_MASK) << CHUNK_BITS | (x & CHUNK_MASK);
     }
 
     /**
@@ -122,15 +468,10 @@ public class Board {
      * @return Set<GameObject> of all the {@link GameObject} of a position.
      */
     public Set<GameObject> getAllGameObjects(Vector2D pos) {
-        Set<GameObject> found = new HashSet<>();
-
-        if (isNeighbourPositionOnBoard(pos)) {
-            gameObjects.stream()
-                    .filter(gameObject -> gameObject.getPosition().equals(pos))
-                    .forEach(found::add);
+        if (isOnBoard(pos)) {
+            return new LinkedHashSet<>(getCell(pos.getX(), pos.getY()));
         }
-
-        return found;
+        return new LinkedHashSet<>();
     }
 
     /**
@@ -142,33 +483,41 @@ public class Board {
      * @return Set<GameObject> of neighbours.
      */
     public Set<GameObject> getNeighbourObjects(GameObject gameObject, int radius) {
-        Set<GameObject> neighbours = new HashSet<>();
+        Set<GameObject> neighbours = new LinkedHashSet<>();
         int diameter = 2 * radius;
         if (gameObject == null || diameter <= 0) {
             return neighbours;
         }
 
-        Vector2D topLeftCorner = Vector2D.add(gameObject.getPosition(),
-                                              Vector2D.multiply(radius, Direction.UP_LEFT.getDirectionVector()));
+        Vector2D position = gameObject.getPosition();
+        int minX = Math.max(position.getX() - radius, 0);
+        int maxX = Math.min(position.getX() + radius, columns - 1);
+        int minY = Math.max(position.getY() - radius, 0);
+        int maxY = Math.min(position.getY() + radius, rows - 1);
 
-        for (int i = 0; i <= diameter; i++) {
-            for (int j = 0; j <= diameter; j++) {
-                Vector2D next = new Vector2D(topLeftCorner.getX() + j, topLeftCorner.getY() + i);
-                if (isNeighbourPositionOnBoard(next)) {
-                    Set<GameObject> found = getAllGameObjects(next);
-                    if (found.size() > 0) {
-                        found.remove(gameObject);
-                        neighbours.addAll(found);
+        // row by row as on a dense board, every chunk of a row is looked up once
+        for (int y = minY; y <= maxY; y++) {
+            for (int chunkX = minX >> CHUNK_BITS; chunkX <= maxX >> CHUNK_BITS; chunkX++) {
+                Chunk chunk = chunks.get(getChunkKeyOfChunk(chunkX, y >> CHUNK_BITS));
+                if (chunk == null) {
+                    continue;
+                }
+                int toX = Math.min(maxX, (chunkX << CHUNK_BITS) + CHUNK_MASK);
+                for (int x = Math.max(minX, chunkX << CHUNK_BITS); x <= toX; x++) {
+                    List<GameObject> cell = chunk.cells.get(getIndexInChunk(x, y));
+                    if (cell != null) {
+                        neighbours.addAll(cell);
                     }
                 }
             }
         }
+        neighbours.remove(gameObject);
 
         return neighbours;
     }
 
-    private boolean isNeighbourPositionOnBoard(Vector2D vector) {
-        return (Vector2D.isPositive(vector) && vector.getY() < columns && vector.getX() < rows);
+    private boolean isOnBoard(Vector2D vector) {
+        return Vector2D.isPositive(vector) && vector.getX() < columns && vector.getY() < rows;
     }
 
     /**
@@ -177,9 +526,7 @@ public class Board {
      * @return true if species is still alive, else false.
      */
     public boolean isSpeciesAlive(String species) {
-        return gameObjects.stream()
-                .filter(AnimalObject.class::isInstance)
-                .map(AnimalObject.class::cast)
+        return animalObjects.stream()
                 .map(AnimalObject::getName)
                 .anyMatch(species::equals);
     }
@@ -202,18 +549,92 @@ public class Board {
 
     /**
      * Returns a set of game objects
-     * @return set of game objects.
+     * @return unmodifiable set of game objects.
      */
     public Set<GameObject> getGameObjects() {
-        return gameObjects;
+        return Collections.unmodifiableSet(gameObjects);
+    }
+
+    /**
+     * Returns the {@link AnimalObject} on the board, in the same order as in {@link #getGameObjects()}.
+     * @return unmodifiable set of animal objects.
+     */
+    public Set<AnimalObject> getAnimalObjects() {
+        return Collections.unmodifiableSet(animalObjects);
     }
 
     /**
-     * Returns a set of occupied positions.
+     * Copies the current state of the board into a new {@link BoardSnapshot} and publishes it.
+     * Must be called by the thread that changes the board, e.g. at the end of a tick.
+     * @return the published {@link BoardSnapshot}.
+     */
+    public BoardSnapshot publishSnapshot() {
+        snapshot = BoardSnapshot.of(rows, columns, simulationRandom.getTick(), gameObjects);
+        return snapshot;
+    }
+
+    /**
+     * Returns the last published {@link BoardSnapshot}. Can be called on any thread.
+     * @return the last published {@link BoardSnapshot}.
+     */
+    public BoardSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns a set of occupied positions. The set is a read-only view of the board that follows every move.
      * @return set of position objects.
      */
     public Set<Vector2D> getOccupiedPositions() {
         return occupiedPositions;
     }
 
+    /**
+     * Occupied cells of a chunk by their index within the chunk, allocated while at least one of them is occupied.
+     * Only the occupied cells take up memory, so a chunk with a single animal stays small.
+     */
+    private static class Chunk {
+        private final Map<Integer, List<GameObject>> cells = new HashMap<>();
+    }
+
+    /**
+     * Energy of the {@link LifeForm} of a species. Objects that lose energy by themselves contribute their energy plus
+     * the energy they lost until the tick of their last update, their consumption per tick is taken off once.
+     */
+    private static class EnergyTotal {
+        private int count;
+        private long energy;
+        private long consumption;
+    }
+
+    /**
+     * Read-only view of the occupied cells as positions, computed from the chunks instead of kept in a hash set.
+     */
+    private class OccupiedPositions extends AbstractSet<Vector2D> {
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Vector2D) || !isOnBoard((Vector2D) o)) {
+                return false;
+            }
+            Vector2D position = (Vector2D) o;
+            return isOccupied(position.getX(), position.getY());
+        }
+
+        @Override
+        public Iterator<Vector2D> iterator() {
+            return chunks.entrySet().stream()
+                    .flatMap(entry -> entry.getValue().cells.keySet().stream()
+                            .map(index -> new Vector2D(
+                                    (int) (entry.getKey() % chunkColumns << CHUNK_BITS) + (index & CHUNK_MASK),
+                                    (int) (entry.getKey() / chunkColumns << CHUNK_BITS) + (index >> CHUNK_BITS))))
+                    .iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(occupiedCellCount, Integer.MAX_VALUE);
+        }
+    }
+
 }
@@ -0,0 +1,270 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.LifeForm;
+import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of the {@link Board} after a tick, made for the views. Everything a view draws is copied into
+ * primitive arrays, one entry per {@link GameObject}, ordered by the index {@code y * columns + x} of its cell,
+ * a long so that boards with more than {@link Integer#MAX_VALUE} cells are covered.
+ * The colors are kept once in a table and referenced by their index. Since a snapshot never changes,
+ * it can be read on any thread while the simulation already works on the next tick.
+ */
+public final class BoardSnapshot {
+
+    private static final int LIFE_FORM = 1;
+    private static final int ANIMAL = 1 << 1;
+    private static final int MALE = 1 << 2;
+    private static final int POISONOUS = 1 << 3;
+    private static final int POISONED = 1 << 4;
+
+    private final int rows;
+    private final int columns;
+    private final long tick;
+    private final long[] cells;
+    private final int[] colorIndices;
+    private final int[] energies;
+    private final int[] sizes;
+    private final int[] fertilityThresholds;
+    private final byte[] flags;
+    private final String[] colors;
+
+    private BoardSnapshot(int rows, int columns, long tick, int count, String[] colors) {
+        this.rows = rows;
+        this.columns = columns;
+        this.tick = tick;
+        this.colors = colors;
+        cells = new long[count];
+        colorIndices = new int[count];
+        energies = new int[count];
+        sizes = new int[count];
+        fertilityThresholds = new int[count];
+        flags = new byte[count];
+    }
+
+    /**
+     * Copies the provided {@link GameObject}.
+     * @param rows        number of rows of the board.
+     * @param columns     number of columns of the board.
+     * @param tick        tick after which the copy is made.
+     * @param gameObjects the {@link GameObject} on the board.
+     * @return the snapshot.
+     */
+    static BoardSnapshot of(int rows, int columns, long tick, Collection<GameObject> gameObjects) {
+        GameObject[] objects = gameObjects.toArray(new GameObject[0]);
+        // sorts by cell, the objects of a cell keep their order on the board
+        int indexBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(objects.length));
+        long indexMask = (1L << indexBits) - 1;
+        long[] keys = new long[objects.length];
+        for (int index = 0; index < objects.length; index++) {
+            Vector2D position = objects[index].getPosition();
+            keys[index] = ((long) position.getY() * columns + position.getX()) << indexBits | index;
+        }
+        Arrays.sort(keys);
+
+        Map<String, Integer> colorTable = new HashMap<>();
+        List<String> colors = new ArrayList<>();
+        for (GameObject gameObject : objects) {
+            colorTable.computeIfAbsent(gameObject.getColor(), color -> {
+                colors.add(color);
+                return colors.size() - 1;
+            });
+        }
+
+        BoardSnapshot snapshot = new BoardSnapshot(rows, columns, tick, objects.length, colors.toArray(new String[0]));
+        for (int index = 0; index < keys.length; index++) {
+            GameObject gameObject = objects[(int) (keys[index] & indexMask)];
+            snapshot.cells[index] = keys[index] >>> indexBits;
+            snapshot.colorIndices[index] = colorTable.get(gameObject.getColor());
+            snapshot.energies[index] = gameObject.getEnergy();
+            snapshot.sizes[index] = gameObject.getSize();
+            snapshot.flags[index] = getFlags(gameObject);
+            if (gameObject instanceof AnimalObject) {
+                snapshot.fertilityThresholds[index] = ((AnimalObject) gameObject).getFertilityThreshold();
+            }
+        }
+        return snapshot;
+    }
+
+    private static byte getFlags(GameObject gameObject) {
+        int flags = 0;
+        if (gameObject instanceof LifeForm) {
+            LifeForm lifeForm = (LifeForm) gameObject;
+            flags |= LIFE_FORM;
+            flags |= "M".equals(lifeForm.getGender()) ? MALE : 0;
+            flags |= lifeForm.isPoisonous() ? POISONOUS : 0;
+            flags |= lifeForm.isPoisoned() ? POISONED : 0;
+        }
+        if (gameObject instanceof AnimalObject) {
+            flags |= ANIMAL;
+        }
+        return (byte) flags;
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return rows as int.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     * @return columns as int.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the tick after which this snapshot was made.
+     * @return tick as long.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of {@link GameObject}.
+     * @return number of objects as int.
+     */
+    public int getObjectCount() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the index of the first object in a cell or, if the cell is empty, of the first object after it.
+     * @param cell index {@code y * columns + x} of the cell.
+     * @return index of an object, {@link #getObjectCount()} if there is no object in or after the cell.
+     */
+    public int getFirstObject(long cell) {
+        int low = 0;
+        int high = cells.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cells[middle] < cell) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the cell of an object.
+     * @param object index of the object.
+     * @return index {@code y * columns + x} of the cell as long.
+     */
+    public long getCell(int object) {
+        return cells[object];
+    }
+
+    /**
+     * Returns the X-Coordinate of an object.
+     * @param object index of the object.
+     * @return X-Coordinate as int.
+     */
+    public int getX(int object) {
+        return (int) (cells[object] % columns);
+    }
+
+    /**
+     * Returns the Y-Coordinate of an object.
+     * @param object index of the object.
+     * @return Y-Coordinate as int.
+     */
+    public int getY(int object) {
+        return (int) (cells[object] / columns);
+    }
+
+    /**
+     * Returns the color of an object.
+     * @param object index of the object.
+     * @return color as {@link String}, e.g. #0F0.
+     */
+    public String getColor(int object) {
+        return colors[colorIndices[object]];
+    }
+
+    /**
+     * Returns the energy of an object.
+     * @param object index of the object.
+     * @return energy as int.
+     */
+    public int getEnergy(int object) {
+        return energies[object];
+    }
+
+    /**
+     * Returns the size of an object.
+     * @param object index of the object.
+     * @return size as int.
+     */
+    public int getSize(int object) {
+        return sizes[object];
+    }
+
+    /**
+     * Returns the fertility threshold of an object.
+     * @param object index of the object.
+     * @return fertility threshold, 0 if the object is no {@link AnimalObject}.
+     */
+    public int getFertilityThreshold(int object) {
+        return fertilityThresholds[object];
+    }
+
+    /**
+     * Checks if an object is a {@link LifeForm}.
+     * @param object index of the object.
+     * @return true if it is a {@link LifeForm}.
+     */
+    public boolean isLifeForm(int object) {
+        return (flags[object] & LIFE_FORM) != 0;
+    }
+
+    /**
+     * Checks if an object is an {@link AnimalObject}.
+     * @param object index of the object.
+     * @return true if it is an {@link AnimalObject}.
+     */
+    public boolean isAnimal(int object) {
+        return (flags[object] & ANIMAL) != 0;
+    }
+
+    /**
+     * Returns the symbol of the gender of a {@link LifeForm}.
+     * @param object index of the object.
+     * @return the symbol of the gender as {@link String}, see {@link LifeForm#getGender()}.
+     */
+    public String getGender(int object) {
+        return (flags[object] & MALE) != 0 ? "M" : "F";
+    }
+
+    /**
+     * Checks if a {@link LifeForm} is poisonous.
+     * @param object index of the object.
+     * @return true if it is poisonous.
+     */
+    public boolean isPoisonous(int object) {
+        return (flags[object] & POISONOUS) != 0;
+    }
+
+    /**
+     * Checks if a {@link LifeForm} is poisoned.
+     * @param object index of the object.
+     * @return true if it is poisoned.
+     */
+    public boolean isPoisoned(int object) {
+        return (flags[object] & POISONED) != 0;
+    }
+
+}
@@ -0,0 +1,733 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.LifeForm;
+import ch.zhaw.pm2.life.model.lifeform.LifeForm.FoodType;
+import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+import ch.zhaw.pm2.life.model.lifeform.animal.Carnivore;
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Alternative to the {@link Board} that stores the entities of the simulation as structure of arrays.
+ * Every entity is a slot in parallel primitive arrays (position, energy, fertility threshold, poison counter,
+ * flags and species id), slots of removed entities are reused through a free list. Every cell of the grid
+ * holds an intrusive doubly linked list of its slots, so moving an entity and iterating the entities of a cell
+ * does not allocate.
+ * <p>
+ * Name, color, kind and scan radius are stored once per species. {@link GameObject} instances are only created
+ * on demand by {@link #getGameObject(int)} as views that read their state from this store.
+ * <p>
+ * Like the {@link Board} the store keeps a {@link StateHash} of its entities, updated whenever an entity is added,
+ * moved, removed or its energy changes.
+ * <p>
+ * Unlike the {@link Board} the store is dense: it keeps the head of the list of every cell in one array, so it only
+ * supports boards of at most {@value Integer#MAX_VALUE} cells. Larger and sparse boards are left to the {@link Board}.
+ */
+public class EntityStore {
+
+    /**
+     * Marks the end of a cell list or a missing entity.
+     */
+    public static final int NO_ENTITY = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final byte USED = 1;
+    private static final byte DEAD = 1 << 1;
+    private static final byte MALE = 1 << 2;
+    private static final byte POISONOUS = 1 << 3;
+    private static final byte POISONED = 1 << 4;
+
+    private final int rows;
+    private final int columns;
+    private final int[] cellHeads;
+    private int occupiedCells;
+    private long stateHash;
+
+    private final List<GameObject> speciesTemplates = new ArrayList<>();
+    private Kind[] speciesKinds = new Kind[0];
+    private int[] speciesScanRadius = new int[0];
+    private int[] speciesEnergy = new int[0];
+    private int[] speciesAlive = new int[0];
+
+    private int[] x = new int[INITIAL_CAPACITY];
+    private int[] y = new int[INITIAL_CAPACITY];
+    private int[] energy = new int[INITIAL_CAPACITY];
+    private int[] stateEnergy = new int[INITIAL_CAPACITY];
+    private int[] fertilityThreshold = new int[INITIAL_CAPACITY];
+    private int[] poisonCounter = new int[INITIAL_CAPACITY];
+    private int[] species = new int[INITIAL_CAPACITY];
+    private int[] nextInCell = new int[INITIAL_CAPACITY];
+    private int[] previousInCell = new int[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int capacity;
+    private int size;
+
+    /**
+     * Default constructor.
+     * @param rows    Number of rows as int.
+     * @param columns Number of columns as int.
+     * @throws IllegalArgumentException when rows is less than {@link Board#MIN_ROWS} or columns is less than {@link Board#MIN_COLUMNS}
+     *                                  or the board has more than {@value Integer#MAX_VALUE} cells.
+     */
+    public EntityStore(int rows, int columns) {
+        if (rows < Board.MIN_ROWS) {
+            throw new IllegalArgumentException("The number of rows cannot be less than " + Board.MIN_ROWS);
+        }
+        if (columns < Board.MIN_COLUMNS) {
+            throw new IllegalArgumentException("The number of columns cannot be less than " + Board.MIN_COLUMNS);
+        }
+        long cellCount = (long) rows * columns;
+        if (cellCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The number of cells cannot be more than " + Integer.MAX_VALUE);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        cellHeads = new int[(int) cellCount];
+        Arrays.fill(cellHeads, NO_ENTITY);
+    }
+
+    /**
+     * Registers a species. The name, color, energy and scan radius are taken from the template.
+     * A species that is already registered keeps its id.
+     * @param template {@link GameObject} describing the species.
+     * @return id of the species.
+     * @throws NullPointerException     when the template is null.
+     * @throws IllegalArgumentException when the template is neither a {@link Plant}, {@link Herbivore} nor {@link Carnivore}.
+     */
+    public int addSpecies(GameObject template) {
+        Objects.requireNonNull(template, "The template of the species cannot be null.");
+        int speciesId = getSpeciesId(template.getName());
+        if (speciesId != NO_ENTITY) {
+            return speciesId;
+        }
+
+        speciesId = speciesTemplates.size();
+        speciesTemplates.add(template);
+        speciesKinds = Arrays.copyOf(speciesKinds, speciesId + 1);
+        speciesScanRadius = Arrays.copyOf(speciesScanRadius, speciesId + 1);
+        speciesEnergy = Arrays.copyOf(speciesEnergy, speciesId + 1);
+        speciesAlive = Arrays.copyOf(speciesAlive, speciesId + 1);
+        speciesKinds[speciesId] = Kind.of(template);
+        speciesScanRadius[speciesId] = template instanceof AnimalObject ? ((AnimalObject) template).getScanRadius() : 0;
+        speciesEnergy[speciesId] = template.getEnergy();
+        return speciesId;
+    }
+
+    /**
+     * Returns the id of a species.
+     * @param name name of the species.
+     * @return id of the species or {@link #NO_ENTITY} if it is not registered.
+     */
+    public int getSpeciesId(String name) {
+        for (int i = 0; i < speciesTemplates.size(); i++) {
+            if (speciesTemplates.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        return NO_ENTITY;
+    }
+
+    /**
+     * Returns the number of registered species.
+     * @return number of species as int.
+     */
+    public int getSpeciesCount() {
+        return speciesTemplates.size();
+    }
+
+    /**
+     * Returns the name of a species.
+     * @param speciesId id of the species.
+     * @return name as {@link String}.
+     */
+    public String getSpeciesName(int speciesId) {
+        return speciesTemplates.get(speciesId).getName();
+    }
+
+    /**
+     * Returns the kind of a species.
+     * @param speciesId id of the species.
+     * @return {@link Kind} of the species.
+     */
+    public Kind getKind(int speciesId) {
+        return speciesKinds[speciesId];
+    }
+
+    /**
+     * Returns the scan radius of a species.
+     * @param speciesId id of the species.
+     * @return scan radius as int, 0 for plants.
+     */
+    public int getScanRadius(int speciesId) {
+        return speciesScanRadius[speciesId];
+    }
+
+    /**
+     * Returns the energy a new entity of a species starts with.
+     * @param speciesId id of the species.
+     * @return energy as int.
+     */
+    public int getSpeciesEnergy(int speciesId) {
+        return speciesEnergy[speciesId];
+    }
+
+    /**
+     * Sets the energy a new entity of a species starts with.
+     * @param speciesId id of the species.
+     * @param energy    energy as int.
+     */
+    public void setSpeciesEnergy(int speciesId, int energy) {
+        speciesEnergy[speciesId] = energy;
+    }
+
+    /**
+     * Returns the number of living entities of a species. Dead entities count until they are removed.
+     * @param speciesId id of the species.
+     * @return number of entities as int.
+     */
+    public int getAliveCount(int speciesId) {
+        return speciesAlive[speciesId];
+    }
+
+    /**
+     * Adds an entity to the store. A slot of a removed entity is reused if there is one.
+     * @param speciesId id of the species.
+     * @param x         X-Coordinate as int.
+     * @param y         Y-Coordinate as int.
+     * @param energy    energy as int.
+     * @param male      true if the entity is male.
+     * @param poisonous true if the entity is poisonous.
+     * @return slot of the entity.
+     * @throws IllegalArgumentException when the position does not exist on the board or the species is unknown.
+     */
+    public int add(int speciesId, int x, int y, int energy, boolean male, boolean poisonous) {
+        if (!isOnBoard(x, y)) {
+            throw new IllegalArgumentException(String.format("The position (%d, %d) does not exist on the board.", x, y));
+        }
+        if (speciesId < 0 || speciesId >= speciesTemplates.size()) {
+            throw new IllegalArgumentException("Unknown species " + speciesId);
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (capacity == flags.length) {
+                grow();
+            }
+            slot = capacity++;
+        }
+
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.energy[slot] = energy;
+        stateEnergy[slot] = energy;
+        fertilityThreshold[slot] = 0;
+        poisonCounter[slot] = 0;
+        species[slot] = speciesId;
+        byte slotFlags = USED;
+        if (male) {
+            slotFlags |= MALE;
+        }
+        if (poisonous) {
+            slotFlags |= POISONOUS;
+        }
+        flags[slot] = slotFlags;
+        link(slot);
+        stateHash += getStateKey(slot);
+        speciesAlive[speciesId]++;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Removes an entity and frees its slot for reuse.
+     * @param slot slot of the entity.
+     */
+    public void remove(int slot) {
+        checkUsed(slot);
+        unlink(slot);
+        stateHash -= getStateKey(slot);
+        if ((flags[slot] & DEAD) == 0) {
+            speciesAlive[species[slot]]--;
+        }
+        flags[slot] = 0;
+        // views of the removed entity must not read the next entity in this slot
+        generations[slot]++;
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    /**
+     * Moves an entity to another position.
+     * @param slot slot of the entity.
+     * @param x    X-Coordinate as int.
+     * @param y    Y-Coordinate as int.
+     * @throws IllegalArgumentException when the position does not exist on the board.
+     */
+    public void move(int slot, int x, int y) {
+        checkUsed(slot);
+        if (!isOnBoard(x, y)) {
+            throw new IllegalArgumentException(String.format("The position (%d, %d) does not exist on the board.", x, y));
+        }
+        if (this.x[slot] != x || this.y[slot] != y) {
+            unlink(slot);
+            stateHash -= getStateKey(slot);
+            this.x[slot] = x;
+            this.y[slot] = y;
+            link(slot);
+            stateHash += getStateKey(slot);
+        }
+    }
+
+    private long getStateKey(int slot) {
+        return StateHash.key(getCellIndex(x[slot], y[slot]), speciesTemplates.get(species[slot]).getName(), stateEnergy[slot]);
+    }
+
+    /**
+     * Returns the {@link StateHash} of all entities in the store, see {@link Board#getStateHash()}.
+     * @return hash as long.
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    private void link(int slot) {
+        int cell = getCellIndex(x[slot], y[slot]);
+        int head = cellHeads[cell];
+        previousInCell[slot] = NO_ENTITY;
+        nextInCell[slot] = head;
+        if (head == NO_ENTITY) {
+            occupiedCells++;
+        } else {
+            previousInCell[head] = slot;
+        }
+        cellHeads[cell] = slot;
+    }
+
+    private void unlink(int slot) {
+        int previous = previousInCell[slot];
+        int next = nextInCell[slot];
+        if (previous == NO_ENTITY) {
+            int cell = getCellIndex(x[slot], y[slot]);
+            cellHeads[cell] = next;
+            if (next == NO_ENTITY) {
+                occupiedCells--;
+            }
+        } else {
+            nextInCell[previous] = next;
+        }
+        if (next != NO_ENTITY) {
+            previousInCell[next] = previous;
+        }
+    }
+
+    private void grow() {
+        int newLength = flags.length * 2;
+        x = Arrays.copyOf(x, newLength);
+        y = Arrays.copyOf(y, newLength);
+        energy = Arrays.copyOf(energy, newLength);
+        stateEnergy = Arrays.copyOf(stateEnergy, newLength);
+        fertilityThreshold = Arrays.copyOf(fertilityThreshold, newLength);
+        poisonCounter = Arrays.copyOf(poisonCounter, newLength);
+        species = Arrays.copyOf(species, newLength);
+        nextInCell = Arrays.copyOf(nextInCell, newLength);
+        previousInCell = Arrays.copyOf(previousInCell, newLength);
+        flags = Arrays.copyOf(flags, newLength);
+        generations = Arrays.copyOf(generations, newLength);
+        freeSlots = Arrays.copyOf(freeSlots, newLength);
+    }
+
+    private void checkUsed(int slot) {
+        if (!isUsed(slot)) {
+            throw new IllegalArgumentException("There is no entity in slot " + slot);
+        }
+    }
+
+    /**
+     * Returns the index of a cell in the flat grid.
+     * @param x X-Coordinate as int.
+     * @param y Y-Coordinate as int.
+     * @return index of the cell.
+     */
+    public int getCellIndex(int x, int y) {
+        return y * columns + x;
+    }
+
+    /**
+     * Returns true if the position exists on the board.
+     * @param x X-Coordinate as int.
+     * @param y Y-Coordinate as int.
+     * @return true if the position is on the board.
+     */
+    public boolean isOnBoard(int x, int y) {
+        return x >= 0 && y >= 0 && x < columns && y < rows;
+    }
+
+    /**
+     * Returns the first entity of a cell, the others are reached with {@link #getNextInCell(int)}.
+     * @param x X-Coordinate as int.
+     * @param y Y-Coordinate as int.
+     * @return slot of the entity or {@link #NO_ENTITY} if the cell is empty.
+     */
+    public int getFirstInCell(int x, int y) {
+        return cellHeads[getCellIndex(x, y)];
+    }
+
+    /**
+     * Returns the next entity in the same cell.
+     * @param slot slot of the entity.
+     * @return slot of the next entity or {@link #NO_ENTITY} at the end of the cell.
+     */
+    public int getNextInCell(int slot) {
+        return nextInCell[slot];
+    }
+
+    /**
+     * Returns true if the cell contains at least one entity.
+     * @param x X-Coordinate as int.
+     * @param y Y-Coordinate as int.
+     * @return true if the cell is occupied.
+     */
+    public boolean isOccupied(int x, int y) {
+        return cellHeads[getCellIndex(x, y)] != NO_ENTITY;
+    }
+
+    /**
+     * Returns the number of cells that contain at least one entity.
+     * @return number of occupied cells as int.
+     */
+    public int getOccupiedCellCount() {
+        return occupiedCells;
+    }
+
+    /**
+     * Returns the number of slots in use or free, slots below this value can be iterated with {@link #isUsed(int)}.
+     * @return number of slots as int.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of entities in the store.
+     * @return number of entities as int.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the slot contains an entity.
+     * @param slot slot of the entity.
+     * @return true if the slot is in use.
+     */
+    public boolean isUsed(int slot) {
+        return slot >= 0 && slot < capacity && (flags[slot] & USED) != 0;
+    }
+
+    /**
+     * Returns the X-Coordinate of an entity.
+     * @param slot slot of the entity.
+     * @return X-Coordinate as int.
+     */
+    public int getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Returns the Y-Coordinate of an entity.
+     * @param slot slot of the entity.
+     * @return Y-Coordinate as int.
+     */
+    public int getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Returns the energy of an entity.
+     * @param slot slot of the entity.
+     * @return energy as int.
+     */
+    public int getEnergy(int slot) {
+        return energy[slot];
+    }
+
+    /**
+     * Sets the energy of an entity.
+     * @param slot   slot of the entity.
+     * @param energy energy as int.
+     */
+    public void setEnergy(int slot, int energy) {
+        this.energy[slot] = energy;
+        if (stateEnergy[slot] == energy || !isUsed(slot)) {
+            stateEnergy[slot] = energy;
+            return;
+        }
+        stateHash -= getStateKey(slot);
+        stateEnergy[slot] = energy;
+        stateHash += getStateKey(slot);
+    }
+
+    /**
+     * Lowers the energy of an entity by the energy it loses by itself in a tick. Unlike
+     * {@link #setEnergy(int, int)} the {@link StateHash} keeps the energy of the last update, see
+     * {@link GameObject#getStateEnergy()}.
+     * @param slot        slot of the entity.
+     * @param consumption energy lost as int.
+     */
+    public void consumeEnergy(int slot, int consumption) {
+        energy[slot] -= consumption;
+    }
+
+    /**
+     * Returns the fertility threshold of an entity.
+     * @param slot slot of the entity.
+     * @return fertility threshold as int.
+     */
+    public int getFertilityThreshold(int slot) {
+        return fertilityThreshold[slot];
+    }
+
+    /**
+     * Sets the fertility threshold of an entity.
+     * @param slot               slot of the entity.
+     * @param fertilityThreshold fertility threshold as int.
+     */
+    public void setFertilityThreshold(int slot, int fertilityThreshold) {
+        this.fertilityThreshold[slot] = fertilityThreshold;
+    }
+
+    /**
+     * Returns the energy the poison of an entity consumes on its next move.
+     * @param slot slot of the entity.
+     * @return energy consumption as int.
+     */
+    public int getPoisonCounter(int slot) {
+        return poisonCounter[slot];
+    }
+
+    /**
+     * Sets the energy the poison of an entity consumes on its next move.
+     * @param slot          slot of the entity.
+     * @param poisonCounter energy consumption as int.
+     */
+    public void setPoisonCounter(int slot, int poisonCounter) {
+        this.poisonCounter[slot] = poisonCounter;
+    }
+
+    /**
+     * Returns the species id of an entity.
+     * @param slot slot of the entity.
+     * @return species id as int.
+     */
+    public int getSpecies(int slot) {
+        return species[slot];
+    }
+
+    /**
+     * Returns true if the entity is dead but not removed yet.
+     * @param slot slot of the entity.
+     * @return true if the entity is dead.
+     */
+    public boolean isDead(int slot) {
+        return (flags[slot] & DEAD) != 0;
+    }
+
+    /**
+     * Marks an entity as dead. The entity stays in its slot until it is removed.
+     * @param slot slot of the entity.
+     */
+    public void die(int slot) {
+        if ((flags[slot] & DEAD) == 0) {
+            flags[slot] |= DEAD;
+            speciesAlive[species[slot]]--;
+        }
+    }
+
+    /**
+     * Returns true if the entity is male.
+     * @param slot slot of the entity.
+     * @return true if the entity is male.
+     */
+    public boolean isMale(int slot) {
+        return (flags[slot] & MALE) != 0;
+    }
+
+    /**
+     * Returns true if the entity is poisonous.
+     * @param slot slot of the entity.
+     * @return true if the entity is poisonous.
+     */
+    public boolean isPoisonous(int slot) {
+        return (flags[slot] & POISONOUS) != 0;
+    }
+
+    /**
+     * Returns true if the entity is poisoned.
+     * @param slot slot of the entity.
+     * @return true if the entity is poisoned.
+     */
+    public boolean isPoisoned(int slot) {
+        return (flags[slot] & POISONED) != 0;
+    }
+
+    /**
+     * Sets the poisoned flag of an entity.
+     * @param slot     slot of the entity.
+     * @param poisoned true if the entity is poisoned.
+     */
+    public void setPoisoned(int slot, boolean poisoned) {
+        if (poisoned) {
+            flags[slot] |= POISONED;
+        } else {
+            flags[slot] &= ~POISONED;
+        }
+    }
+
+    /**
+     * Returns the position of an entity. Allocates a {@link Vector2D}, so it is meant for views and not for the tick.
+     * @param slot slot of the entity.
+     * @return position as {@link Vector2D}.
+     */
+    public Vector2D getPosition(int slot) {
+        return new Vector2D(x[slot], y[slot]);
+    }
+
+    /**
+     * Returns the generation of a slot, which counts the entities removed from it. A view remembers the generation
+     * of its slot and is no longer valid once it changed.
+     * @param slot slot of the entity.
+     * @return generation as int.
+     */
+    int getGeneration(int slot) {
+        return generations[slot];
+    }
+
+    /**
+     * Creates a {@link GameObject} view of an entity. The view is an instance of the class of the species
+     * and reads its position and state from this store, so it stays valid while the entity moves, but not after
+     * it was removed.
+     * @param slot slot of the entity.
+     * @return {@link GameObject} backed by the store.
+     * @throws IllegalArgumentException when the slot is not in use.
+     */
+    public GameObject getGameObject(int slot) {
+        checkUsed(slot);
+        GameObject template = speciesTemplates.get(species[slot]);
+        GameObject gameObject = speciesKinds[species[slot]].getType().create();
+        gameObject.setName(template.getName());
+        gameObject.setColor(template.getColor());
+        gameObject.setRows(rows);
+        gameObject.setColumns(columns);
+        gameObject.bind(this, slot, generations[slot]);
+        return gameObject;
+    }
+
+    /**
+     * Creates views of all entities in the store.
+     * @return List of {@link GameObject} backed by the store.
+     */
+    public List<GameObject> getGameObjects() {
+        List<GameObject> gameObjects = new ArrayList<>(size);
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isUsed(slot)) {
+                gameObjects.add(getGameObject(slot));
+            }
+        }
+        return gameObjects;
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return number of rows as int.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     * @return number of columns as int.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Kind of a species, decides how its entities move, eat and reproduce.
+     */
+    public enum Kind {
+        PLANT(SpeciesRegistry.Type.PLANT, FoodType.PLANT, null),
+        HERBIVORE(SpeciesRegistry.Type.HERBIVORE, FoodType.MEAT, FoodType.PLANT),
+        CARNIVORE(SpeciesRegistry.Type.CARNIVORE, FoodType.MEAT, FoodType.MEAT);
+
+        private final SpeciesRegistry.Type type;
+        private final FoodType foodType;
+        private final FoodType diet;
+
+        Kind(SpeciesRegistry.Type type, FoodType foodType, FoodType diet) {
+            this.type = type;
+            this.foodType = foodType;
+            this.diet = diet;
+        }
+
+        /**
+         * Returns the kind of a {@link GameObject}.
+         * @param gameObject template of a species.
+         * @return the matching {@link Kind}.
+         * @throws IllegalArgumentException when the game object is of no known kind.
+         */
+        public static Kind of(GameObject gameObject) {
+            if (gameObject instanceof Plant) {
+                return PLANT;
+            } else if (gameObject instanceof Herbivore) {
+                return HERBIVORE;
+            } else if (gameObject instanceof Carnivore) {
+                return CARNIVORE;
+            }
+            throw new IllegalArgumentException("Unknown kind of game object " + gameObject.getClass().getName());
+        }
+
+        /**
+         * Returns the {@link SpeciesRegistry.Type} that creates objects of this kind.
+         * @return {@link SpeciesRegistry.Type}.
+         */
+        public SpeciesRegistry.Type getType() {
+            return type;
+        }
+
+        /**
+         * Returns which type of food entities of this kind are, see {@link LifeForm#getFoodType()}.
+         * @return {@link FoodType}
+         */
+        public FoodType getFoodType() {
+            return foodType;
+        }
+
+        /**
+         * Returns which type of food entities of this kind eat, see {@link AnimalObject#getDiet()}.
+         * @return {@link FoodType} or null for plants.
+         */
+        public FoodType getDiet() {
+            return diet;
+        }
+
+        /**
+         * Returns true if entities of this kind move and interact.
+         * @return true for herbivores and carnivores.
+         */
+        public boolean isAnimal() {
+            return this != PLANT;
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package ch.zhaw.pm2.life.model;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Ring buffer of the latest {@link GameEvent} of a simulation. The buffer is allocated once, when it is full
+ * the oldest events are overwritten. Every event gets a sequence number, readers remember the sequence number
+ * they stopped at and ask for the events that were recorded since then.
+ */
+public class EventLog {
+
+    /**
+     * Number of events kept by default.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final GameEvent[] events;
+    private final int mask;
+    private long nextSequence;
+
+    /**
+     * Creates an event log with the {@link #DEFAULT_CAPACITY}.
+     */
+    public EventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an event log, the capacity is rounded up to the next power of two.
+     * @param capacity minimal number of events kept.
+     * @throws IllegalArgumentException when the capacity is not positive.
+     */
+    public EventLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        events = new GameEvent[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Records an event.
+     * @param event {@link GameEvent} to record.
+     */
+    public void record(GameEvent event) {
+        events[(int) (nextSequence & mask)] = event;
+        nextSequence++;
+    }
+
+    /**
+     * Returns the sequence number of the oldest event that is still kept.
+     * @return sequence number as long.
+     */
+    public long getFirstSequence() {
+        return Math.max(0, nextSequence - events.length);
+    }
+
+    /**
+     * Returns the sequence number the next event will get.
+     * @return sequence number as long.
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Returns the number of events that can be kept.
+     * @return capacity as int.
+     */
+    public int getCapacity() {
+        return events.length;
+    }
+
+    /**
+     * Returns an event.
+     * @param sequence sequence number of the event.
+     * @return {@link GameEvent}.
+     * @throws IndexOutOfBoundsException when the event was not recorded yet or is already overwritten.
+     */
+    public GameEvent get(long sequence) {
+        if (sequence < getFirstSequence() || sequence >= nextSequence) {
+            throw new IndexOutOfBoundsException("There is no event with the sequence number " + sequence);
+        }
+        return events[(int) (sequence & mask)];
+    }
+
+    /**
+     * Passes all events from a sequence number on to a consumer, events that are already overwritten are skipped.
+     * @param from     sequence number of the first event.
+     * @param consumer {@link Consumer} of the events.
+     * @return the sequence number to continue with.
+     */
+    public long forEachSince(long from, Consumer<GameEvent> consumer) {
+        for (long sequence = Math.max(from, getFirstSequence()); sequence < nextSequence; sequence++) {
+            consumer.accept(events[(int) (sequence & mask)]);
+        }
+        return nextSequence;
+    }
+
+    /**
+     * Formats all events of the provided types from a sequence number on.
+     * @param from  sequence number of the first event.
+     * @param types {@link GameEvent.Type} of the events to format.
+     * @return the messages of the events, one after another.
+     */
+    public String format(long from, Set<GameEvent.Type> types) {
+        StringBuilder stringBuilder = new StringBuilder();
+        forEachSince(from, event -> {
+            if (types.contains(event.getType())) {
+                stringBuilder.append(event.format());
+            }
+        });
+        return stringBuilder.toString();
+    }
+
+}
@@ -0,0 +1,184 @@
+package ch.zhaw.pm2.life.model;
+
+import java.util.Objects;
+
+/**
+ * Something that happened to a {@link GameObject} during a tick, e.g. a meal or a death.
+ * An event only keeps the ids and names of the objects involved, the message is formatted on demand
+ * so that runs without a reader of the log do not pay for building strings.
+ */
+public final class GameEvent {
+
+    private final Type type;
+    private final long tick;
+    private final long actorId;
+    private final String actorName;
+    private final long targetId;
+    private final String targetName;
+    private final String message;
+
+    private GameEvent(Type type, long tick, long actorId, String actorName, long targetId, String targetName, String message) {
+        this.type = Objects.requireNonNull(type, "The type cannot be null.");
+        this.tick = tick;
+        this.actorId = actorId;
+        this.actorName = actorName;
+        this.targetId = targetId;
+        this.targetName = targetName;
+        this.message = message;
+    }
+
+    /**
+     * Creates an event of a single {@link GameObject}, e.g. {@link Type#DIED} or {@link Type#SPAWNED}.
+     * @param type  {@link Type} of the event.
+     * @param tick  tick in which the event happened.
+     * @param actor {@link GameObject} the event happened to.
+     * @return new GameEvent.
+     */
+    public static GameEvent of(Type type, long tick, GameObject actor) {
+        return new GameEvent(type, tick, actor.getId(), actor.getName(), -1, null, null);
+    }
+
+    /**
+     * Creates an event between two {@link GameObject}, e.g. {@link Type#ATE} or {@link Type#MATED}.
+     * @param type   {@link Type} of the event.
+     * @param tick   tick in which the event happened.
+     * @param actor  {@link GameObject} that acted.
+     * @param target {@link GameObject} the actor acted on.
+     * @return new GameEvent.
+     */
+    public static GameEvent of(Type type, long tick, GameObject actor, GameObject target) {
+        return new GameEvent(type, tick, actor.getId(), actor.getName(), target.getId(), target.getName(), null);
+    }
+
+    /**
+     * Creates an event of an interaction that failed.
+     * @param tick    tick in which the event happened.
+     * @param actor   {@link GameObject} that tried to act.
+     * @param message reason of the failure, already formatted by the thrower.
+     * @return new GameEvent.
+     */
+    public static GameEvent failed(long tick, GameObject actor, String message) {
+        return new GameEvent(Type.FAILED, tick, actor.getId(), actor.getName(), -1, null, message);
+    }
+
+    /**
+     * Creates the event of the end of the simulation.
+     * @param tick tick in which the simulation ended.
+     * @return new GameEvent.
+     */
+    public static GameEvent stopped(long tick) {
+        return new GameEvent(Type.STOPPED, tick, -1, null, -1, null, null);
+    }
+
+    /**
+     * Formats the message of this event.
+     * @return message as {@link String}.
+     */
+    public String format() {
+        return type.format(this);
+    }
+
+    /**
+     * Returns the type.
+     * @return {@link Type} of the event.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the tick in which the event happened.
+     * @return tick as long.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the id of the acting {@link GameObject}.
+     * @return id as long or -1 if there is no actor.
+     */
+    public long getActorId() {
+        return actorId;
+    }
+
+    /**
+     * Returns the name of the acting {@link GameObject}.
+     * @return name as {@link String} or null if there is no actor.
+     */
+    public String getActorName() {
+        return actorName;
+    }
+
+    /**
+     * Returns the id of the {@link GameObject} the actor acted on.
+     * @return id as long or -1 if there is no target.
+     */
+    public long getTargetId() {
+        return targetId;
+    }
+
+    /**
+     * Returns the name of the {@link GameObject} the actor acted on.
+     * @return name as {@link String} or null if there is no target.
+     */
+    public String getTargetName() {
+        return targetName;
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    /**
+     * Types of events with the message that is shown in the log.
+     */
+    public enum Type {
+        DIED {
+            @Override
+            String format(GameEvent event) {
+                return String.format("%s: ist vor Ermuedung gestorben.%n", event.actorName);
+            }
+        },
+        ATE {
+            @Override
+            String format(GameEvent event) {
+                return event.actorName + ": Das war lecker (" + event.targetName + ")!\n";
+            }
+        },
+        MATED {
+            @Override
+            String format(GameEvent event) {
+                return event.actorName + ": Wir haben uns soeben gepaart\n";
+            }
+        },
+        SPAWNED {
+            @Override
+            String format(GameEvent event) {
+                return String.format("%s: ist gewachsen.%n", event.actorName);
+            }
+        },
+        POISONED {
+            @Override
+            String format(GameEvent event) {
+                return String.format("%s: wurde vergiftet (%s).%n", event.actorName, event.targetName);
+            }
+        },
+        FAILED {
+            @Override
+            String format(GameEvent event) {
+                return String.format("%s%n", event.message);
+            }
+        },
+        STOPPED {
+            @Override
+            String format(GameEvent event) {
+                return "Die Simulation wurde beendet, weil die Endbedingung erfuellt wurde.";
+            }
+        };
+
+        abstract String format(GameEvent event);
+    }
+
+}
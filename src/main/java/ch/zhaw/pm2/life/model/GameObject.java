@@ -1,7 +1,5 @@
 package ch.zhaw.pm2.life.model;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 
@@ -20,7 +18,17 @@ public abstract class GameObject {
      * The current position of this {@link GameObject}.
      */
     protected Vector2D position;
-    private Random random = new Random();
+    private SimulationRandom simulationRandom = SimulationRandom.unseeded();
+    private long id = simulationRandom.nextId();
+    private long drawTick;
+    private int draws;
+    private Random random;
+    private PositionListener positionListener;
+    private EntityStore store;
+    private int slot = EntityStore.NO_ENTITY;
+    private int generation;
+    private long stateKey;
+    private long energyReference;
     private String name;
     private String color;
     private int rows;
@@ -34,7 +42,7 @@ public abstract class GameObject {
         if (energy < 0) {
             throw new IllegalArgumentException("Energy cannot increase with a negative value.");
         }
-        this.energy += energy;
+        setEnergy(getEnergy() + energy);
     }
 
     /**
@@ -45,29 +53,16 @@ public abstract class GameObject {
         if (energy < 0) {
             throw new IllegalArgumentException("Energy cannot decrease with a negative value.");
         }
-        this.energy -= energy;
+        setEnergy(getEnergy() - energy);
     }
 
     /**
      * Chooses 1 of the 8 fields around the {@link GameObject} or the current position.
      */
     public Vector2D chooseRandomNeighbourPosition() {
-        List<Vector2D> neighbours = getNeighbourFields();
-        int neighbourIndex = random.nextInt(neighbours.size());
-        return neighbours.get(neighbourIndex);
-    }
-
-    private List<Vector2D> getNeighbourFields() {
-        List<Vector2D> neighbours = new ArrayList<>();
-        for (Direction direction : Direction.values()) {
-            Vector2D neighbourPosition = Vector2D.add(position, direction.directionVector);
-            int neighbourX = neighbourPosition.getX();
-            int neighbourY = neighbourPosition.getY();
-            if (Vector2D.isPositive(neighbourPosition) && neighbourX < columns && neighbourY < rows) {
-                neighbours.add(neighbourPosition);
-            }
-        }
-        return neighbours;
+        long current = PackedCoordinates.of(getPosition());
+        int neighbourIndex = nextRandomInt(PackedCoordinates.getNeighbourCount(current, columns, rows));
+        return PackedCoordinates.toVector(PackedCoordinates.getNeighbour(current, columns, rows, neighbourIndex));
     }
 
     /**
@@ -99,17 +94,100 @@ public abstract class GameObject {
      * @return position as {@link Vector2D}.
      */
     public Vector2D getPosition() {
-        return position;
+        return getStore() == null ? position : store.getPosition(slot);
     }
 
     /**
-     * Sets the position of the {@link GameObject}.
+     * Sets the position of the {@link GameObject} and notifies the {@link PositionListener} if the position changed.
      * @param position position as {@link Vector2D}.
      * @throws NullPointerException when the position is null.
      */
     public void setPosition(Vector2D position) {
         Objects.requireNonNull(position, "The position of the game object cannot be null.");
+        if (getStore() != null) {
+            store.move(slot, position.getX(), position.getY());
+            return;
+        }
+        Vector2D previousPosition = this.position;
         this.position = position;
+        if (positionListener != null && previousPosition != null && !previousPosition.equals(position)) {
+            positionListener.positionChanged(this, previousPosition);
+        }
+    }
+
+    /**
+     * Sets the listener that gets notified when the position of this {@link GameObject} changes.
+     * @param positionListener {@link PositionListener} or null to remove the current listener.
+     */
+    public void setPositionListener(PositionListener positionListener) {
+        this.positionListener = positionListener;
+    }
+
+    /**
+     * Binds this {@link GameObject} as view to an entity of an {@link EntityStore}.
+     * The position, the energy and the state of a bound object are read from and written to the store
+     * until the entity is removed from the store.
+     * @param store      {@link EntityStore} containing the entity.
+     * @param slot       slot of the entity.
+     * @param generation generation of the slot, see {@link EntityStore#getGeneration(int)}.
+     */
+    void bind(EntityStore store, int slot, int generation) {
+        this.store = store;
+        this.slot = slot;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the key this object contributes to the {@link StateHash} of the board it is on.
+     * @return key as long, 0 if it is on no board.
+     */
+    long getStateKey() {
+        return stateKey;
+    }
+
+    /**
+     * Sets the key this object contributes to the {@link StateHash} of the board it is on.
+     * @param stateKey key as long.
+     */
+    void setStateKey(long stateKey) {
+        this.stateKey = stateKey;
+    }
+
+    /**
+     * Returns the energy this object contributes to the energy of its species on the board it is on, see
+     * {@link Board#getAverageEnergies()}.
+     * @return energy plus the energy it loses by itself until the current tick, 0 if it is on no board.
+     */
+    long getEnergyReference() {
+        return energyReference;
+    }
+
+    /**
+     * Sets the energy this object contributes to the energy of its species on the board it is on.
+     * @param energyReference energy plus the energy it loses by itself until the current tick.
+     */
+    void setEnergyReference(long energyReference) {
+        this.energyReference = energyReference;
+    }
+
+    /**
+     * Returns the {@link EntityStore} this object is a view of.
+     * @return EntityStore or null if this object is not bound to a store.
+     * @throws IllegalStateException when the entity was removed from the store, its slot might hold another entity.
+     */
+    protected EntityStore getStore() {
+        if (store != null && store.getGeneration(slot) != generation) {
+            throw new IllegalStateException("The entity of this game object has been removed from the store.");
+        }
+        return store;
+    }
+
+    /**
+     * Returns the slot of the entity this object is a view of.
+     * @return slot as int or {@link EntityStore#NO_ENTITY} if this object is not bound to a store.
+     */
+    protected int getSlot() {
+        return slot;
     }
 
     /**
@@ -129,27 +207,75 @@ public abstract class GameObject {
     }
 
     /**
-     * Returns the random object.
-     * @return Random.
+     * Returns the random object that replaces the stream of the {@link SimulationRandom}.
+     * @return Random or null if the object draws from its stream.
      */
     public Random getRandom() {
         return random;
     }
 
     /**
-     * Sets the random object.
-     * @param random {@link Random}.
+     * Sets a random object that replaces the stream of the {@link SimulationRandom}, e.g. to control the draws in tests.
+     * @param random {@link Random} or null to draw from the stream again.
      */
     public void setRandom(Random random) {
         this.random = random;
     }
 
+    /**
+     * Sets the {@link SimulationRandom} and the id of the stream this object draws from.
+     * @param simulationRandom {@link SimulationRandom} of the simulation.
+     * @param id               id of this object, unique within the simulation.
+     * @throws NullPointerException when the simulation random is null.
+     */
+    public void setSimulationRandom(SimulationRandom simulationRandom, long id) {
+        this.simulationRandom = Objects.requireNonNull(simulationRandom, "The simulation random cannot be null.");
+        this.id = id;
+        drawTick = simulationRandom.getTick();
+        draws = 0;
+    }
+
+    /**
+     * Returns the current tick of the {@link SimulationRandom} this object draws from.
+     * @return tick as long.
+     */
+    protected long getTick() {
+        return simulationRandom.getTick();
+    }
+
+    /**
+     * Returns the id of this object within its simulation.
+     * @return id as long.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the next random value of this object between 0 (inclusive) and the bound (exclusive).
+     * The value is drawn from the stream of this object in the current tick of the {@link SimulationRandom}
+     * unless a {@link Random} was set.
+     * @param bound upper bound as int.
+     * @return random value as int.
+     */
+    protected int nextRandomInt(int bound) {
+        if (random != null) {
+            return random.nextInt(bound);
+        }
+        long tick = simulationRandom.getTick();
+        if (tick != drawTick) {
+            drawTick = tick;
+            draws = 0;
+        }
+        return simulationRandom.nextInt(id, draws++, bound);
+    }
+
     /**
      * Returns the energy of this {@link GameObject}.
      * @return current energy as int.
      */
     public int getEnergy() {
-        return energy;
+        return getStore() == null ? energy : store.getEnergy(slot);
     }
 
     /**
@@ -157,7 +283,36 @@ public abstract class GameObject {
      * @param energy the energy as int.
      */
     public void setEnergy(int energy) {
-        this.energy = energy;
+        if (getStore() == null) {
+            this.energy = energy;
+        } else {
+            store.setEnergy(slot, energy);
+        }
+    }
+
+    /**
+     * Returns the first tick in which the energy drops below zero by itself, if nothing else happens to this object.
+     * @return tick as long, {@link Long#MAX_VALUE} if the energy does not change by itself.
+     */
+    public long getDepletionTick() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the energy this object contributes to the {@link StateHash} of the board it is on. Energy that drops
+     * by itself is left out, so an object whose energy only drops by itself keeps its key.
+     * @return energy as int.
+     */
+    public int getStateEnergy() {
+        return getEnergy();
+    }
+
+    /**
+     * Returns the energy this object loses per tick by itself, see {@link #getDepletionTick()}.
+     * @return energy as int, 0 if the energy does not change by itself.
+     */
+    public int getEnergyConsumption() {
+        return 0;
     }
 
     /**
@@ -1,20 +1,18 @@
 package ch.zhaw.pm2.life.model;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Stores initial values for the game.
+ * Has no dependency on JavaFX so a game can also be run without a user interface.
  */
 public class GameProperties {
 
     private final Map<GameObject, Integer> initGameObjects;
 
-    private final Map<String, IntegerProperty> energyProperties = new HashMap<>();
+    private final Map<String, Integer> energies = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -22,18 +20,26 @@ public class GameProperties {
      */
     public GameProperties(Map<GameObject, Integer> initGameObjects) {
         this.initGameObjects = Objects.requireNonNull(initGameObjects, "The map with the init game objects cannot be null.");
-        initGameObjects.forEach((gameObject, integer) ->
-                                        energyProperties.putIfAbsent(gameObject.getName(),
-                                                                     new SimpleIntegerProperty(integer)));
+        initGameObjects.keySet().forEach(gameObject -> energies.putIfAbsent(gameObject.getName(), gameObject.getEnergy()));
+    }
+
+    /**
+     * Returns the initial energy for a given species.
+     * @param species name of the species as {@link String}.
+     * @return energy as int.
+     * @throws NullPointerException when the species is unknown.
+     */
+    public int getEnergy(String species) {
+        return energies.get(species);
     }
 
     /**
-     * Returns the energy property for a given species.
-     * @param species String.
-     * @return IntegerProperty
+     * Sets the initial energy for a given species.
+     * @param species name of the species as {@link String}.
+     * @param energy  energy as int.
      */
-    public IntegerProperty getEnergyProperty(String species) {
-        return energyProperties.get(species);
+    public void setEnergy(String species, int energy) {
+        energies.put(species, energy);
     }
 
     /**
@@ -0,0 +1,155 @@
+package ch.zhaw.pm2.life.model;
+
+/**
+ * Static helpers for positions packed into a single long, the x coordinate in the upper and the y coordinate
+ * in the lower 32 bits. The simulation uses them in its hot paths instead of allocating a {@link Vector2D}
+ * for every intermediate result, {@link Vector2D} stays the value type of the public API.
+ */
+public final class PackedCoordinates {
+
+    private static final long LOWER_BITS = 0xFFFFFFFFL;
+    private static final GameObject.Direction[] DIRECTIONS = GameObject.Direction.values();
+
+    private PackedCoordinates() {
+    }
+
+    /**
+     * Packs two coordinates.
+     * @param x X-Coordinate as int.
+     * @param y Y-Coordinate as int.
+     * @return packed position as long.
+     */
+    public static long pack(int x, int y) {
+        return ((long) x << Integer.SIZE) | (y & LOWER_BITS);
+    }
+
+    /**
+     * Packs a {@link Vector2D}.
+     * @param vector {@link Vector2D}.
+     * @return packed position as long.
+     */
+    public static long of(Vector2D vector) {
+        return pack(vector.getX(), vector.getY());
+    }
+
+    /**
+     * Unpacks a position into a {@link Vector2D}.
+     * @param packed packed position.
+     * @return new {@link Vector2D}.
+     */
+    public static Vector2D toVector(long packed) {
+        return new Vector2D(getX(packed), getY(packed));
+    }
+
+    /**
+     * Returns the x coordinate of a packed position.
+     * @param packed packed position.
+     * @return X-Coordinate as int.
+     */
+    public static int getX(long packed) {
+        return (int) (packed >> Integer.SIZE);
+    }
+
+    /**
+     * Returns the y coordinate of a packed position.
+     * @param packed packed position.
+     * @return Y-Coordinate as int.
+     */
+    public static int getY(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Adds an offset to a packed position.
+     * @param packed packed position.
+     * @param x      offset of the x coordinate.
+     * @param y      offset of the y coordinate.
+     * @return packed result of the addition.
+     */
+    public static long add(long packed, int x, int y) {
+        return pack(getX(packed) + x, getY(packed) + y);
+    }
+
+    /**
+     * Moves a packed position one step in a direction.
+     * @param packed    packed position.
+     * @param direction {@link GameObject.Direction} of the step.
+     * @return packed position after the step.
+     */
+    public static long add(long packed, GameObject.Direction direction) {
+        Vector2D vector = direction.getDirectionVector();
+        return add(packed, vector.getX(), vector.getY());
+    }
+
+    /**
+     * Subtracts the second packed position from the first.
+     * @param first  packed position.
+     * @param second packed position.
+     * @return packed result of the subtraction.
+     */
+    public static long subtract(long first, long second) {
+        return pack(getX(first) - getX(second), getY(first) - getY(second));
+    }
+
+    /**
+     * Calculates the dot product of two packed positions.
+     * @param first  packed position.
+     * @param second packed position.
+     * @return dot product as int.
+     */
+    public static int dot(long first, long second) {
+        return getX(first) * getX(second) + getY(first) * getY(second);
+    }
+
+    /**
+     * Checks if a packed position lies within a board.
+     * @param packed  packed position.
+     * @param columns number of columns of the board.
+     * @param rows    number of rows of the board.
+     * @return true if the position is on the board.
+     */
+    public static boolean isOnBoard(long packed, int columns, int rows) {
+        int x = getX(packed);
+        int y = getY(packed);
+        return x >= 0 && y >= 0 && x < columns && y < rows;
+    }
+
+    /**
+     * Returns the number of positions one step away in any {@link GameObject.Direction} that lie within a board,
+     * the position itself included.
+     * @param packed  packed position.
+     * @param columns number of columns of the board.
+     * @param rows    number of rows of the board.
+     * @return number of neighbour positions as int.
+     */
+    public static int getNeighbourCount(long packed, int columns, int rows) {
+        int neighbours = 0;
+        for (GameObject.Direction direction : DIRECTIONS) {
+            if (isOnBoard(add(packed, direction), columns, rows)) {
+                neighbours++;
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+     * Returns a neighbour position within a board, in the order of the {@link GameObject.Direction}.
+     * @param packed  packed position.
+     * @param columns number of columns of the board.
+     * @param rows    number of rows of the board.
+     * @param index   index of the neighbour, below {@link #getNeighbourCount(long, int, int)}.
+     * @return packed neighbour position.
+     * @throws IndexOutOfBoundsException when there is no neighbour with this index.
+     */
+    public static long getNeighbour(long packed, int columns, int rows, int index) {
+        int neighbourIndex = index;
+        for (GameObject.Direction direction : DIRECTIONS) {
+            long neighbour = add(packed, direction);
+            if (isOnBoard(neighbour, columns, rows) && neighbourIndex-- == 0) {
+                return neighbour;
+            }
+        }
+        throw new IndexOutOfBoundsException(String.format("No neighbour field with index %d.", index));
+    }
+
+}
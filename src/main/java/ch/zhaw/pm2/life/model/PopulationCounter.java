@@ -0,0 +1,153 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.LifeForm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Counts the {@link LifeForm} of every species per {@link Category}, updated at the moment an event happens.
+ * The counters are int arrays indexed by the id of the species, so the memory does not grow with the number of
+ * life forms that were ever born or died, only with the number of species.
+ */
+public class PopulationCounter {
+
+    /**
+     * Categories of the counters.
+     */
+    public enum Category {
+        /**
+         * Placed at the start, also counted as {@link #ALIVE}.
+         */
+        START,
+        /**
+         * Born, also counted as {@link #ALIVE}.
+         */
+        BORN,
+        /**
+         * Spawned, also counted as {@link #ALIVE}.
+         */
+        SPAWNED,
+        /**
+         * Died, no longer counted as {@link #ALIVE}.
+         */
+        DIED,
+        /**
+         * Alive, recorded on its own for life forms added by other means, e.g. by the user.
+         */
+        ALIVE
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final Map<String, Integer> speciesIds = new LinkedHashMap<>();
+    private final int[][] counters = new int[CATEGORIES.length][0];
+    private int nextSpeciesId;
+    private int totalAlive;
+
+    /**
+     * Counts a life form of a species in a category, see {@link Category} for the categories that also change
+     * the number of life forms alive.
+     * @param category {@link Category} of the event.
+     * @param species  name of the species.
+     * @throws NullPointerException when the category or the species is null.
+     */
+    public void record(Category category, String species) {
+        Objects.requireNonNull(category, "The category cannot be null.");
+        int speciesId = getOrAddSpeciesId(species);
+        counters[category.ordinal()][speciesId]++;
+        if (category == Category.START || category == Category.BORN || category == Category.SPAWNED) {
+            counters[Category.ALIVE.ordinal()][speciesId]++;
+            totalAlive++;
+        } else if (category == Category.DIED) {
+            counters[Category.ALIVE.ordinal()][speciesId]--;
+            totalAlive--;
+        } else {
+            totalAlive++;
+        }
+    }
+
+    /**
+     * Moves the counters of a species to a new name, they are added to the counters of the new name
+     * if it is already counted.
+     * @param species name of the species.
+     * @param newName new name of the species.
+     * @throws NullPointerException when the new name is null.
+     */
+    public void rename(String species, String newName) {
+        Objects.requireNonNull(newName, "The new name cannot be null.");
+        Integer speciesId = speciesIds.get(species);
+        if (speciesId == null || species.equals(newName)) {
+            return;
+        }
+        speciesIds.remove(species);
+        Integer newSpeciesId = speciesIds.get(newName);
+        if (newSpeciesId == null) {
+            speciesIds.put(newName, speciesId);
+        } else {
+            for (int[] counter : counters) {
+                counter[newSpeciesId] += counter[speciesId];
+                counter[speciesId] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the count of a species in a category.
+     * @param category {@link Category} of the counter.
+     * @param species  name of the species.
+     * @return count as int, 0 if the species was never counted.
+     */
+    public int getCount(Category category, String species) {
+        Integer speciesId = speciesIds.get(species);
+        return speciesId == null ? 0 : counters[category.ordinal()][speciesId];
+    }
+
+    /**
+     * Returns the number of life forms of all species that are alive.
+     * @return number of life forms as int.
+     */
+    public int getTotalAliveCount() {
+        return totalAlive;
+    }
+
+    /**
+     * Returns the counts of every species in a category.
+     * @param category {@link Category} of the counters.
+     * @return unmodifiable map of the species names to their count, in the order the species were first counted.
+     */
+    public Map<String, Integer> getCounts(Category category) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        speciesIds.forEach((species, speciesId) -> counts.put(species, counters[category.ordinal()][speciesId]));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the names of the counted species.
+     * @return unmodifiable set of names, in the order the species were first counted.
+     */
+    public Set<String> getSpecies() {
+        return Collections.unmodifiableSet(speciesIds.keySet());
+    }
+
+    private int getOrAddSpeciesId(String species) {
+        Objects.requireNonNull(species, "The species cannot be null.");
+        Integer speciesId = speciesIds.get(species);
+        if (speciesId != null) {
+            return speciesId;
+        }
+        if (nextSpeciesId == counters[0].length) {
+            int capacity = Math.max(4, 2 * nextSpeciesId);
+            for (int category = 0; category < counters.length; category++) {
+                counters[category] = Arrays.copyOf(counters[category], capacity);
+            }
+        }
+        speciesIds.put(species, nextSpeciesId);
+        return nextSpeciesId++;
+    }
+
+}
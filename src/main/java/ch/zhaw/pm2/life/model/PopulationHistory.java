@@ -0,0 +1,176 @@
+package ch.zhaw.pm2.life.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Time series of the population and the average energy of every species, kept in primitive arrays of a fixed
+ * capacity. A sample is due every {@link #getStride()} ticks. When the buffer is full every second sample is dropped
+ * and the stride doubles, so the memory stays the same however many ticks the simulation runs and the samples
+ * always cover the whole run at an even resolution.
+ * The simulation records the samples on its own thread, the views read a {@link #copy()}.
+ */
+public class PopulationHistory {
+
+    /**
+     * Number of samples kept by default.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private final int capacity;
+    private final long[] ticks;
+    private final List<String> species = new ArrayList<>();
+    private final Map<String, Integer> speciesIndices = new HashMap<>();
+    private final List<int[]> populations = new ArrayList<>();
+    private final List<double[]> averageEnergies = new ArrayList<>();
+    private int size;
+    private long stride = 1;
+
+    /**
+     * Creates a history with the {@link #DEFAULT_CAPACITY}.
+     */
+    public PopulationHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a history.
+     * @param capacity maximal number of samples kept, at least 2.
+     * @throws IllegalArgumentException when the capacity is less than 2.
+     */
+    public PopulationHistory(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("The capacity must be at least 2.");
+        }
+        this.capacity = capacity;
+        ticks = new long[capacity];
+    }
+
+    /**
+     * Checks if a sample is due in a tick.
+     * @param tick the current tick.
+     * @return true if at least {@link #getStride()} ticks passed since the last sample.
+     */
+    public synchronized boolean isDue(long tick) {
+        return size == 0 || tick - ticks[size - 1] >= stride;
+    }
+
+    /**
+     * Records a sample. A species that is missing in the sample counts as 0, a new species as 0 in the earlier samples.
+     * @param tick            tick of the sample.
+     * @param population      number of life forms alive per species.
+     * @param averageEnergies average energy of the life forms per species.
+     * @throws NullPointerException when a map is null.
+     */
+    public synchronized void record(long tick, Map<String, Integer> population, Map<String, Double> averageEnergies) {
+        Objects.requireNonNull(population, "The population cannot be null.");
+        Objects.requireNonNull(averageEnergies, "The average energies cannot be null.");
+        if (size == capacity) {
+            compact();
+        }
+        population.keySet().forEach(this::getOrAddSpeciesIndex);
+        ticks[size] = tick;
+        for (int index = 0; index < species.size(); index++) {
+            String name = species.get(index);
+            populations.get(index)[size] = population.getOrDefault(name, 0);
+            this.averageEnergies.get(index)[size] = averageEnergies.getOrDefault(name, 0.0);
+        }
+        size++;
+    }
+
+    private void compact() {
+        for (int sample = 0; sample < size / 2; sample++) {
+            ticks[sample] = ticks[2 * sample];
+            for (int index = 0; index < species.size(); index++) {
+                populations.get(index)[sample] = populations.get(index)[2 * sample];
+                averageEnergies.get(index)[sample] = averageEnergies.get(index)[2 * sample];
+            }
+        }
+        size /= 2;
+        stride *= 2;
+    }
+
+    private int getOrAddSpeciesIndex(String name) {
+        return speciesIndices.computeIfAbsent(name, key -> {
+            species.add(key);
+            populations.add(new int[capacity]);
+            averageEnergies.add(new double[capacity]);
+            return species.size() - 1;
+        });
+    }
+
+    /**
+     * Returns a copy that only contains the recorded samples.
+     * @return copy as {@link PopulationHistory}.
+     */
+    public synchronized PopulationHistory copy() {
+        PopulationHistory copy = new PopulationHistory(Math.max(2, size));
+        System.arraycopy(ticks, 0, copy.ticks, 0, size);
+        for (int index = 0; index < species.size(); index++) {
+            copy.getOrAddSpeciesIndex(species.get(index));
+            System.arraycopy(populations.get(index), 0, copy.populations.get(index), 0, size);
+            System.arraycopy(averageEnergies.get(index), 0, copy.averageEnergies.get(index), 0, size);
+        }
+        copy.size = size;
+        copy.stride = stride;
+        return copy;
+    }
+
+    /**
+     * Returns the number of samples.
+     * @return number of samples as int.
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of ticks between two samples.
+     * @return stride as long.
+     */
+    public synchronized long getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns the names of the recorded species.
+     * @return unmodifiable list of names, in the order they were first recorded.
+     */
+    public synchronized List<String> getSpecies() {
+        return Collections.unmodifiableList(new ArrayList<>(species));
+    }
+
+    /**
+     * Returns the ticks of the samples.
+     * @return ticks as array of long.
+     */
+    public synchronized long[] getTicks() {
+        return Arrays.copyOf(ticks, size);
+    }
+
+    /**
+     * Returns the population of a species in every sample.
+     * @param name name of the species.
+     * @return number of life forms alive as array of int, empty if the species was never recorded.
+     */
+    public synchronized int[] getPopulation(String name) {
+        Integer index = speciesIndices.get(name);
+        return index == null ? new int[0] : Arrays.copyOf(populations.get(index), size);
+    }
+
+    /**
+     * Returns the average energy of a species in every sample.
+     * @param name name of the species.
+     * @return average energies as array of double, empty if the species was never recorded.
+     */
+    public synchronized double[] getAverageEnergies(String name) {
+        Integer index = speciesIndices.get(name);
+        return index == null ? new double[0] : Arrays.copyOf(averageEnergies.get(index), size);
+    }
+
+}
@@ -0,0 +1,16 @@
+package ch.zhaw.pm2.life.model;
+
+/**
+ * Listener that gets notified every time a {@link GameObject} changes its position.
+ */
+@FunctionalInterface
+public interface PositionListener {
+
+    /**
+     * Is called after the position of a {@link GameObject} has changed.
+     * @param gameObject       {@link GameObject} that changed its position.
+     * @param previousPosition the position as {@link Vector2D} before the change.
+     */
+    void positionChanged(GameObject gameObject, Vector2D previousPosition);
+
+}
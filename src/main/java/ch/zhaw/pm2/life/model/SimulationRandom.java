@@ -0,0 +1,126 @@
+package ch.zhaw.pm2.life.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central seeded source of randomness of a simulation.
+ * Every random value is a pure function of the seed, the current tick, a stream id and the index of the draw
+ * within the stream, mixed with the SplitMix64 finalizer. Every entity draws from its own stream, so the result
+ * of a tick does not depend on the order in which entities are processed, ticks can run in parallel without
+ * locks and two runs with the same seed are identical.
+ */
+public class SimulationRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final SimulationRandom UNSEEDED = new SimulationRandom();
+
+    private final long seed;
+    private final AtomicLong ids = new AtomicLong();
+    private volatile long tick;
+
+    /**
+     * Creates a simulation random with a random seed.
+     */
+    public SimulationRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a simulation random with a fixed seed.
+     * @param seed seed as long.
+     */
+    public SimulationRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the shared instance with a random seed, used by objects that are not part of a simulation yet.
+     * @return SimulationRandom with a random seed.
+     */
+    public static SimulationRandom unseeded() {
+        return UNSEEDED;
+    }
+
+    /**
+     * Mixes the bits of a value with the SplitMix64 finalizer.
+     * @param value value to mix.
+     * @return mixed value as long.
+     */
+    public static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns a random value of a stream in the current tick.
+     * @param stream id of the stream, e.g. the id of an entity.
+     * @param draw   index of the draw within the stream and tick.
+     * @return random value as long.
+     */
+    public long nextLong(long stream, long draw) {
+        long z = mix(seed + GOLDEN_GAMMA * (tick + 1));
+        z = mix(z + GOLDEN_GAMMA * (stream + 1));
+        return mix(z + GOLDEN_GAMMA * (draw + 1));
+    }
+
+    /**
+     * Returns a random value between 0 (inclusive) and the bound (exclusive) of a stream in the current tick.
+     * @param stream id of the stream, e.g. the id of an entity.
+     * @param draw   index of the draw within the stream and tick.
+     * @param bound  upper bound as int.
+     * @return random value as int.
+     * @throws IllegalArgumentException when the bound is not positive.
+     */
+    public int nextInt(long stream, long draw, int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        return (int) (((nextLong(stream, draw) >>> Integer.SIZE) * bound) >>> Integer.SIZE);
+    }
+
+    /**
+     * Creates a sequential generator for a stream, seeded from the current tick.
+     * Meant for code that draws many values in a fixed order, like the placement of new objects.
+     * @param stream id of the stream.
+     * @return new {@link SplittableRandom}.
+     */
+    public SplittableRandom split(long stream) {
+        return new SplittableRandom(nextLong(stream, 0));
+    }
+
+    /**
+     * Returns a new id for an entity. Ids are handed out in order, so they are reproducible
+     * as long as the entities are created in a fixed order.
+     * @return id as long.
+     */
+    public long nextId() {
+        return ids.getAndIncrement();
+    }
+
+    /**
+     * Returns the seed.
+     * @return seed as long.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the current tick.
+     * @return tick as long.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Advances to the next tick, every stream starts over with new values.
+     */
+    public void nextTick() {
+        tick++;
+    }
+
+}
@@ -0,0 +1,190 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+import ch.zhaw.pm2.life.model.lifeform.animal.Carnivore;
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link GameObject} of the configured species without reflection.
+ * Every species is registered once with a template, new objects are created by the factory of its {@link Type}
+ * and get the name, color, energy and scan radius of the template.
+ */
+public class SpeciesRegistry {
+
+    private final Map<String, Species> species = new LinkedHashMap<>();
+
+    /**
+     * Creates an empty registry.
+     */
+    public SpeciesRegistry() {
+    }
+
+    /**
+     * Creates a registry with the provided templates.
+     * @param templates templates of the species.
+     * @throws NullPointerException     when a template is null.
+     * @throws IllegalArgumentException when a template is of no known {@link Type}.
+     */
+    public SpeciesRegistry(Collection<? extends GameObject> templates) {
+        templates.forEach(this::register);
+    }
+
+    /**
+     * Registers a species, a template with the same name replaces the previous one.
+     * @param template template of the species.
+     * @throws NullPointerException     when the template is null.
+     * @throws IllegalArgumentException when the template is of no known {@link Type}.
+     */
+    public void register(GameObject template) {
+        Objects.requireNonNull(template, "The template cannot be null.");
+        species.put(template.getName(), new Species(Type.of(template), template));
+    }
+
+    /**
+     * Removes a species, nothing happens if it is not registered.
+     * @param name name of the species.
+     */
+    public void remove(String name) {
+        species.remove(name);
+    }
+
+    /**
+     * Checks if a species is registered.
+     * @param name name of the species.
+     * @return true if the species is registered.
+     */
+    public boolean contains(String name) {
+        return species.containsKey(name);
+    }
+
+    /**
+     * Returns the names of all registered species in the order of their registration.
+     * @return Set of names.
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(species.keySet());
+    }
+
+    /**
+     * Returns the template of a species.
+     * @param name name of the species.
+     * @return template as {@link GameObject}.
+     * @throws IllegalArgumentException when the species is not registered.
+     */
+    public GameObject getTemplate(String name) {
+        return getSpecies(name).template;
+    }
+
+    /**
+     * Creates a new object of a species.
+     * @param name name of the species.
+     * @return new {@link GameObject} with the values of the template.
+     * @throws IllegalArgumentException when the species is not registered.
+     */
+    public GameObject create(String name) {
+        Species entry = getSpecies(name);
+        return copy(entry.type.create(), entry.template);
+    }
+
+    /**
+     * Creates a new object of the same {@link Type} as a template that does not have to be registered.
+     * @param template template to copy.
+     * @return new {@link GameObject} with the values of the template.
+     * @throws IllegalArgumentException when the template is of no known {@link Type}.
+     */
+    public static GameObject copyOf(GameObject template) {
+        return copy(Type.of(template).create(), template);
+    }
+
+    private static GameObject copy(GameObject gameObject, GameObject template) {
+        gameObject.setName(template.getName());
+        gameObject.setColor(template.getColor());
+        gameObject.setEnergy(template.getEnergy());
+        if (gameObject instanceof AnimalObject && template instanceof AnimalObject) {
+            ((AnimalObject) gameObject).setScanRadius(((AnimalObject) template).getScanRadius());
+        }
+        return gameObject;
+    }
+
+    private Species getSpecies(String name) {
+        Species entry = species.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException(String.format("The species %s is not registered.", name));
+        }
+        return entry;
+    }
+
+    private static class Species {
+        private final Type type;
+        private final GameObject template;
+
+        private Species(Type type, GameObject template) {
+            this.type = type;
+            this.template = template;
+        }
+    }
+
+    /**
+     * Types of life forms that can be configured, each with the factory of its class.
+     */
+    public enum Type {
+        CARNIVORE(Carnivore::new),
+        HERBIVORE(Herbivore::new),
+        PLANT(Plant::new);
+
+        private final Supplier<GameObject> factory;
+
+        Type(Supplier<GameObject> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Creates a new object of this type with default values.
+         * @return new {@link GameObject}.
+         */
+        public GameObject create() {
+            return factory.get();
+        }
+
+        /**
+         * Returns the type of a game object.
+         * @param gameObject {@link GameObject}.
+         * @return the matching {@link Type}.
+         * @throws IllegalArgumentException when the game object is of no known type.
+         */
+        public static Type of(GameObject gameObject) {
+            if (gameObject instanceof Carnivore) {
+                return CARNIVORE;
+            } else if (gameObject instanceof Herbivore) {
+                return HERBIVORE;
+            } else if (gameObject instanceof Plant) {
+                return PLANT;
+            }
+            throw new IllegalArgumentException(String.format("Unknown type of game object: %s", gameObject));
+        }
+
+        /**
+         * Takes the name of a class and searches for the matching type, the case is ignored.
+         * @param name name of the class, e.g. Herbivore.
+         * @return Type or null if there is no matching type.
+         */
+        public static Type getType(String name) {
+            for (Type type : values()) {
+                if (type.name().equalsIgnoreCase(name)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package ch.zhaw.pm2.life.model;
+
+import java.util.Objects;
+
+/**
+ * Keys of the Zobrist hash of a board. Every object contributes a key of its cell, its species and its exact energy,
+ * the hash of the board is the sum of the keys of its objects. Adding, moving or removing an object therefore
+ * only changes the hash by the old and the new key of that object. The keys are summed instead of combined with XOR,
+ * so two equal objects in the same cell do not cancel each other out.
+ * <p>
+ * A key is a random base of the cell and the species plus a random odd weight times the energy. The energy an object
+ * loses by itself, like a {@link ch.zhaw.pm2.life.model.lifeform.plant.Plant}, is not part of the key: it drops the
+ * same way on every board and would keep a board that otherwise stands still from ever repeating.
+ */
+public class StateHash {
+
+    private static final long CELL_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long SPECIES_GAMMA = 0xC2B2AE3D27D4EB4FL;
+    private static final long WEIGHT_GAMMA = 0x165667B19E3779F9L;
+
+    private StateHash() {
+    }
+
+    /**
+     * Returns the key of an object.
+     * @param cell    index of the cell, row by row.
+     * @param species name of the species, may be null.
+     * @param energy  energy of the object.
+     * @return key as long.
+     */
+    public static long key(long cell, String species, long energy) {
+        long base = base(cell, species);
+        return base + weight(base) * energy;
+    }
+
+    private static long base(long cell, String species) {
+        long base = SimulationRandom.mix(CELL_GAMMA * (cell + 1));
+        return SimulationRandom.mix(base + SPECIES_GAMMA * Objects.hashCode(species));
+    }
+
+    private static long weight(long base) {
+        // an odd weight changes the key for every change of the energy
+        return SimulationRandom.mix(base + WEIGHT_GAMMA) | 1;
+    }
+
+}
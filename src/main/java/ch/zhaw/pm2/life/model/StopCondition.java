@@ -0,0 +1,235 @@
+package ch.zhaw.pm2.life.model;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Condition that ends a simulation, evaluated before every tick. The conditions only read counters that the
+ * simulation keeps up to date anyway, so evaluating them does not depend on the number of objects on the board.
+ * Conditions are combined with {@link #and(StopCondition)} and {@link #or(StopCondition)}. A combined condition
+ * always evaluates both conditions, so conditions with a state like {@link #repeats(int)} see every evaluation.
+ */
+@FunctionalInterface
+public interface StopCondition {
+
+    /**
+     * State of a simulation a condition is evaluated against.
+     */
+    interface State {
+
+        /**
+         * Returns the number of ticks run so far.
+         * @return tick as long.
+         */
+        long getTick();
+
+        /**
+         * Returns the number of life forms of a species that are alive.
+         * @param species name of the species.
+         * @return number of life forms as int, 0 for an unknown species.
+         */
+        int getAliveCount(String species);
+
+        /**
+         * Returns the number of life forms of all species that are alive.
+         * @return number of life forms as int.
+         */
+        int getTotalAliveCount();
+
+        /**
+         * Returns the {@link StateHash} of the board.
+         * @return hash as long.
+         */
+        long getStateHash();
+
+        /**
+         * Returns true if life forms can still appear on the board by chance, like plants that spawn on free cells.
+         * @return true if a life form can spawn in the next tick.
+         */
+        boolean isSpawnPossible();
+    }
+
+    /**
+     * Checks if the simulation has to end.
+     * @param state {@link State} of the simulation.
+     * @return true if the simulation has to end.
+     */
+    boolean isMet(State state);
+
+    /**
+     * Returns a condition that is met when both conditions are met.
+     * @param other the other condition.
+     * @return the combined condition.
+     * @throws NullPointerException when the other condition is null.
+     */
+    default StopCondition and(StopCondition other) {
+        Objects.requireNonNull(other, "The stop condition cannot be null.");
+        return state -> isMet(state) & other.isMet(state);
+    }
+
+    /**
+     * Returns a condition that is met when at least one of the conditions is met.
+     * @param other the other condition.
+     * @return the combined condition.
+     * @throws NullPointerException when the other condition is null.
+     */
+    default StopCondition or(StopCondition other) {
+        Objects.requireNonNull(other, "The stop condition cannot be null.");
+        return state -> isMet(state) | other.isMet(state);
+    }
+
+    /**
+     * Returns a condition that is never met.
+     * @return the condition.
+     */
+    static StopCondition never() {
+        return state -> false;
+    }
+
+    /**
+     * Returns a condition that is met when a species died out.
+     * @param species name of the species.
+     * @return the condition.
+     * @throws NullPointerException when the species is null.
+     */
+    static StopCondition extinct(String species) {
+        return below(species, 1);
+    }
+
+    /**
+     * Returns a condition that is met when less life forms of a species are alive than the threshold.
+     * @param species   name of the species.
+     * @param threshold number of life forms.
+     * @return the condition.
+     * @throws NullPointerException when the species is null.
+     */
+    static StopCondition below(String species, int threshold) {
+        Objects.requireNonNull(species, "The species cannot be null.");
+        return state -> state.getAliveCount(species) < threshold;
+    }
+
+    /**
+     * Returns a condition that is met when more life forms of a species are alive than the threshold.
+     * @param species   name of the species.
+     * @param threshold number of life forms.
+     * @return the condition.
+     * @throws NullPointerException when the species is null.
+     */
+    static StopCondition above(String species, int threshold) {
+        Objects.requireNonNull(species, "The species cannot be null.");
+        return state -> state.getAliveCount(species) > threshold;
+    }
+
+    /**
+     * Returns a condition that is met when less life forms of all species are alive than the threshold.
+     * @param threshold number of life forms.
+     * @return the condition.
+     */
+    static StopCondition populationBelow(int threshold) {
+        return state -> state.getTotalAliveCount() < threshold;
+    }
+
+    /**
+     * Returns a condition that is met when more life forms of all species are alive than the threshold.
+     * @param threshold number of life forms.
+     * @return the condition.
+     */
+    static StopCondition populationAbove(int threshold) {
+        return state -> state.getTotalAliveCount() > threshold;
+    }
+
+    /**
+     * Returns a condition that is met once a number of ticks has run.
+     * @param ticks number of ticks.
+     * @return the condition.
+     */
+    static StopCondition tickLimit(long ticks) {
+        return state -> state.getTick() >= ticks;
+    }
+
+    /**
+     * Returns a condition that is met when the board looks like in one of the last evaluations, because nothing
+     * changes anymore or the board runs through a cycle of at most the window. The boards are compared by their
+     * {@link StateHash}, so only the hashes of the window are kept. Two boards look alike if every object has the same
+     * species, cell and exact energy, apart from the energy plants lose by themselves. The fertility and the poison
+     * of the animals are not compared, a tick in which no object moved or changed its energy is a repetition as well.
+     * As long as a life form can spawn the board is not steady, even if it looks like before: the evaluations
+     * start over once nothing can spawn anymore.
+     * @param window number of evaluations to compare with, 1 only detects a board that no longer changes.
+     * @return the condition.
+     * @throws IllegalArgumentException when the window is less than 1.
+     */
+    static StopCondition repeats(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("The window must be at least 1.");
+        }
+        return new StopCondition() {
+            private final long[] hashes = new long[window];
+            private final Map<Long, Integer> counts = new HashMap<>();
+            private int size;
+            private int next;
+
+            @Override
+            public boolean isMet(State state) {
+                if (state.isSpawnPossible()) {
+                    counts.clear();
+                    size = 0;
+                    return false;
+                }
+                long hash = state.getStateHash();
+                if (counts.containsKey(hash)) {
+                    return true;
+                }
+                if (size == window) {
+                    counts.computeIfPresent(hashes[next], (key, count) -> count == 1 ? null : count - 1);
+                } else {
+                    size++;
+                }
+                hashes[next] = hash;
+                counts.merge(hash, 1, Integer::sum);
+                next = (next + 1) % window;
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a condition that is met once a duration has passed since it was evaluated the first time.
+     * @param limit duration of the simulation.
+     * @return the condition.
+     * @throws NullPointerException when the limit is null.
+     */
+    static StopCondition timeLimit(Duration limit) {
+        return timeLimit(limit, System::nanoTime);
+    }
+
+    /**
+     * Returns a condition that is met once a duration has passed since it was evaluated the first time.
+     * @param limit    duration of the simulation.
+     * @param nanoTime clock in nanoseconds, e.g. {@link System#nanoTime()}.
+     * @return the condition.
+     * @throws NullPointerException when an argument is null.
+     */
+    static StopCondition timeLimit(Duration limit, LongSupplier nanoTime) {
+        long limitNanos = Objects.requireNonNull(limit, "The limit cannot be null.").toNanos();
+        Objects.requireNonNull(nanoTime, "The clock cannot be null.");
+        return new StopCondition() {
+            private boolean started;
+            private long start;
+
+            @Override
+            public boolean isMet(State state) {
+                long now = nanoTime.getAsLong();
+                if (!started) {
+                    started = true;
+                    start = now;
+                }
+                return now - start >= limitNanos;
+            }
+        };
+    }
+
+}
@@ -74,7 +74,7 @@ public class Vector2D {
      * @return result of the multiplication as {@link Vector2D}
      */
     public static Vector2D multiply(int scalar, Vector2D vector) {
-        return new Vector2D(multiplyX(scalar, vector).getX(), multiplyY(scalar, vector).getY());
+        return new Vector2D(scalar * vector.getX(), scalar * vector.getY());
     }
 
     /**
@@ -123,7 +123,8 @@ public class Vector2D {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        // same value as Objects.hash(x, y) without boxing and the varargs array
+        return 31 * (31 + x) + y;
     }
 
     @Override
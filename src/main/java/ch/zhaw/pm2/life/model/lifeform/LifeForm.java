@@ -1,6 +1,7 @@
 package ch.zhaw.pm2.life.model.lifeform;
 
 import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.SimulationRandom;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -10,11 +11,9 @@ import java.util.logging.Logger;
  */
 public abstract class LifeForm extends GameObject {
 
-    private static final int POISONOUS_PROBABILITY = 3;
-    private static final double POISON_ENERGY_CONSUMPTION_START_FACTOR = 0.3;
     private static final Logger logger = Logger.getLogger(LifeForm.class.getCanonicalName());
 
-    private final boolean isMale;
+    private boolean isMale;
     /**
      * Flag if this life form is poisoned.
      */
@@ -30,10 +29,24 @@ public abstract class LifeForm extends GameObject {
      * Default constructor.
      */
     public LifeForm() {
-        int genderValue = getRandom().nextInt(10);
-        isMale = genderValue > 4;
-        int poisonValue = getRandom().nextInt(10);
-        isPoisonous = poisonValue < POISONOUS_PROBABILITY;
+        drawTraits();
+    }
+
+    /**
+     * Sets the {@link SimulationRandom} and draws the gender and whether this life form is poisonous again
+     * from the new stream, so both only depend on the seed of the simulation and the id.
+     * @param simulationRandom {@link SimulationRandom} of the simulation.
+     * @param id               id of this object, unique within the simulation.
+     */
+    @Override
+    public void setSimulationRandom(SimulationRandom simulationRandom, long id) {
+        super.setSimulationRandom(simulationRandom, id);
+        drawTraits();
+    }
+
+    private void drawTraits() {
+        isMale = LifeRules.isMale(nextRandomInt(LifeRules.TRAIT_VALUES));
+        isPoisonous = LifeRules.isPoisonous(nextRandomInt(LifeRules.TRAIT_VALUES));
     }
 
     /**
@@ -41,7 +54,11 @@ public abstract class LifeForm extends GameObject {
      */
     public void die() {
         logger.log(Level.FINE, "{0} died", getName());
-        isDead = true;
+        if (getStore() == null) {
+            isDead = true;
+        } else {
+            getStore().die(getSlot());
+        }
     }
 
     /**
@@ -49,8 +66,8 @@ public abstract class LifeForm extends GameObject {
      */
     public void becomePoisoned() {
         logger.log(Level.FINE, "{0} got poisoned", getName());
-        isPoisoned = true;
-        nextPoisonedEnergyConsumption = (int) (energy * POISON_ENERGY_CONSUMPTION_START_FACTOR);
+        setPoisoned(true);
+        setPoisonCounter(LifeRules.getPoisonEnergyConsumption(getEnergy()));
     }
 
     /**
@@ -58,13 +75,29 @@ public abstract class LifeForm extends GameObject {
      * @return consumption as int or 0 if the life form is not poisoned.
      */
     public int getPoisonedEnergyConsumption() {
-        int energyConsumption = nextPoisonedEnergyConsumption;
-        if ((energyConsumption - 1) == -1) {
+        int energyConsumption = getStore() == null ? nextPoisonedEnergyConsumption : getStore().getPoisonCounter(getSlot());
+        if (LifeRules.isPoisonWornOff(energyConsumption)) {
             logger.log(Level.FINE, "{0} is not poisoned anymore", getName());
-            isPoisoned = false;
+            setPoisoned(false);
+        }
+        setPoisonCounter(energyConsumption - 1);
+        return LifeRules.getPoisonedEnergyConsumption(energyConsumption);
+    }
+
+    private void setPoisoned(boolean poisoned) {
+        if (getStore() == null) {
+            isPoisoned = poisoned;
+        } else {
+            getStore().setPoisoned(getSlot(), poisoned);
+        }
+    }
+
+    private void setPoisonCounter(int poisonCounter) {
+        if (getStore() == null) {
+            nextPoisonedEnergyConsumption = poisonCounter;
+        } else {
+            getStore().setPoisonCounter(getSlot(), poisonCounter);
         }
-        nextPoisonedEnergyConsumption--;
-        return Math.max(energyConsumption, 0);
     }
 
     /**
@@ -72,7 +105,8 @@ public abstract class LifeForm extends GameObject {
      * @return the symbol of the gender as {@link String}.
      */
     public String getGender() {
-        return isMale ? "M" : "F";
+        boolean male = getStore() == null ? isMale : getStore().isMale(getSlot());
+        return male ? "M" : "F";
     }
 
     /**
@@ -86,7 +120,7 @@ public abstract class LifeForm extends GameObject {
      * @return true if the object is dead.
      */
     public boolean isDead() {
-        return isDead;
+        return getStore() == null ? isDead : getStore().isDead(getSlot());
     }
 
     /**
@@ -94,7 +128,7 @@ public abstract class LifeForm extends GameObject {
      * @return true if the object is alive.
      */
     public boolean isAlive() {
-        return !isDead;
+        return !isDead();
     }
 
     /**
@@ -102,7 +136,7 @@ public abstract class LifeForm extends GameObject {
      * @return true if this life form is poisonous.
      */
     public boolean isPoisonous() {
-        return isPoisonous;
+        return getStore() == null ? isPoisonous : getStore().isPoisonous(getSlot());
     }
 
     /**
@@ -110,7 +144,7 @@ public abstract class LifeForm extends GameObject {
      * @return true if this life form is poisoned.
      */
     public boolean isPoisoned() {
-        return isPoisoned;
+        return getStore() == null ? isPoisoned : getStore().isPoisoned(getSlot());
     }
 
     /**
@@ -0,0 +1,141 @@
+package ch.zhaw.pm2.life.model.lifeform;
+
+import ch.zhaw.pm2.life.model.GameObject.Direction;
+import ch.zhaw.pm2.life.model.PackedCoordinates;
+import ch.zhaw.pm2.life.model.lifeform.LifeForm.FoodType;
+
+/**
+ * The rules of life shared by the {@link LifeForm} objects on a board and the entities of an
+ * {@link ch.zhaw.pm2.life.model.EntityStore}. Both work on primitive values, so each simulation keeps its own
+ * representation of the state but decides every move, meal and birth the same way.
+ */
+public final class LifeRules {
+
+    /**
+     * Number of values the gender and the poison of a new life form are drawn from.
+     */
+    public static final int TRAIT_VALUES = 10;
+    /**
+     * Energy an animal consumes when it moves to another cell.
+     */
+    public static final int MOVE_ENERGY_CONSUMPTION = 1;
+
+    private static final int MALE_MINIMUM = 5;
+    private static final int POISONOUS_PROBABILITY = 3;
+    private static final double POISON_ENERGY_CONSUMPTION_START_FACTOR = 0.3;
+    private static final int REPRODUCTION_MINIMUM = 9;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private LifeRules() {
+    }
+
+    /**
+     * Returns true if a life form is male.
+     * @param traitValue random value below {@value #TRAIT_VALUES}.
+     * @return true if the life form is male.
+     */
+    public static boolean isMale(int traitValue) {
+        return traitValue >= MALE_MINIMUM;
+    }
+
+    /**
+     * Returns true if a life form is poisonous.
+     * @param traitValue random value below {@value #TRAIT_VALUES}.
+     * @return true if the life form is poisonous.
+     */
+    public static boolean isPoisonous(int traitValue) {
+        return traitValue < POISONOUS_PROBABILITY;
+    }
+
+    /**
+     * Returns the energy the poison consumes on the first move after an animal got poisoned.
+     * @param energy energy of the animal after eating.
+     * @return energy consumption as int.
+     */
+    public static int getPoisonEnergyConsumption(int energy) {
+        return (int) (energy * POISON_ENERGY_CONSUMPTION_START_FACTOR);
+    }
+
+    /**
+     * Returns the energy the poison consumes on a move, it consumes one less on every move until it wears off.
+     * @param poisonCounter current value of the poison counter.
+     * @return energy consumption as int.
+     */
+    public static int getPoisonedEnergyConsumption(int poisonCounter) {
+        return Math.max(poisonCounter, 0);
+    }
+
+    /**
+     * Returns true if the poison wears off with this move.
+     * @param poisonCounter current value of the poison counter.
+     * @return true if the animal is not poisoned anymore after this move.
+     */
+    public static boolean isPoisonWornOff(int poisonCounter) {
+        return poisonCounter == 0;
+    }
+
+    /**
+     * Returns true if a female animal can give birth.
+     * @param fertilityThreshold moves since the last birth.
+     * @return true if the animal is fertile.
+     */
+    public static boolean isFertile(int fertilityThreshold) {
+        return fertilityThreshold >= REPRODUCTION_MINIMUM;
+    }
+
+    /**
+     * Returns true if an animal eats life forms of a food type.
+     * @param diet food type the animal eats.
+     * @param food food type of the other life form.
+     * @return true if the other life form is food.
+     */
+    public static boolean isFood(FoodType diet, FoodType food) {
+        return diet == food;
+    }
+
+    /**
+     * Returns true if a carnivore is strong enough to eat another carnivore.
+     * @param energy      energy of the carnivore.
+     * @param otherEnergy energy of the other carnivore.
+     * @return true if the other carnivore is not stronger.
+     */
+    public static boolean canOverpower(int energy, int otherEnergy) {
+        return otherEnergy <= energy;
+    }
+
+    /**
+     * Returns the distance measure used to find the nearest neighbour, the lowest value wins.
+     * @param position  packed position of the animal.
+     * @param neighbour packed position of the neighbour.
+     * @return distance measure as int.
+     */
+    public static int getNeighbourDistance(long position, long neighbour) {
+        return PackedCoordinates.dot(position, neighbour);
+    }
+
+    /**
+     * Returns the next position of an animal that heads for a target. A target on a neighbour cell is reached
+     * directly, otherwise the animal takes one step in the direction that points most towards the target.
+     * @param position packed position of the animal.
+     * @param target   packed position of the target.
+     * @return packed next position.
+     */
+    public static long getNextPosition(long position, long target) {
+        long distance = PackedCoordinates.subtract(target, position);
+        if (Math.abs(PackedCoordinates.getX(distance)) <= 1 && Math.abs(PackedCoordinates.getY(distance)) <= 1) {
+            return target;
+        }
+
+        Direction nextDirection = Direction.NONE;
+        int max = 0;
+        for (Direction direction : DIRECTIONS) {
+            int dotProduct = PackedCoordinates.dot(distance, PackedCoordinates.of(direction.getDirectionVector()));
+            if (dotProduct > max) {
+                max = dotProduct;
+                nextDirection = direction;
+            }
+        }
+        return PackedCoordinates.add(position, nextDirection);
+    }
+
+}
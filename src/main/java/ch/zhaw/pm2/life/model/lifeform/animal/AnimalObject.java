@@ -2,9 +2,11 @@ package ch.zhaw.pm2.life.model.lifeform.animal;
 
 import ch.zhaw.pm2.life.exception.LifeFormException;
 import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.PackedCoordinates;
 import ch.zhaw.pm2.life.model.Vector2D;
 import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 import ch.zhaw.pm2.life.model.lifeform.LifeFormActionCheck;
+import ch.zhaw.pm2.life.model.lifeform.LifeRules;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -19,8 +21,6 @@ import java.util.logging.Logger;
  */
 public abstract class AnimalObject extends LifeForm {
 
-    private static final int REPRODUCTION_MINIMUM = 9;
-
     private static final Logger logger = Logger.getLogger(AnimalObject.class.getCanonicalName());
     /**
      * Indicates the current fertility value for reproduction. Needs a specific value to be able to reproduce.
@@ -42,12 +42,31 @@ public abstract class AnimalObject extends LifeForm {
      * @param neighbourObjs Set used to determine by the {@link AnimalObject} where to move.
      */
     public void move(Set<GameObject> neighbourObjs) {
+        moveTo(nextPosition(neighbourObjs));
+    }
+
+    /**
+     * Decides where this {@link AnimalObject} moves next without changing its state.
+     * Only reads the provided neighbours, so the decisions of several animals can be computed concurrently.
+     * @param neighbourObjs Set used to determine by the {@link AnimalObject} where to move.
+     * @return the next position as {@link Vector2D}.
+     */
+    public Vector2D nextPosition(Set<GameObject> neighbourObjs) {
+        return neighbourObjs.isEmpty() ? chooseRandomNeighbourPosition() : calculateNextPos(neighbourObjs);
+    }
+
+    /**
+     * Moves this {@link AnimalObject} to a position previously decided by {@link #nextPosition(Set)}
+     * and consumes the energy for the move.
+     * @param nextPosition the new position as {@link Vector2D}.
+     */
+    public void moveTo(Vector2D nextPosition) {
         logger.log(Level.FINER, "Move {0}", getName());
-        Vector2D previousPosition = position;
-        position = neighbourObjs.isEmpty() ? chooseRandomNeighbourPosition() : calculateNextPos(neighbourObjs);
+        Vector2D previousPosition = getPosition();
+        setPosition(nextPosition);
         int consumeEnergy = 0;
 
-        if (isPoisoned) {
+        if (isPoisoned()) {
             int poisonedEnergyConsumption = getPoisonedEnergyConsumption();
             consumeEnergy += poisonedEnergyConsumption;
             logger.log(Level.FINE, "{1} decreased energy (poisoned) by {0}", new Object[] {
@@ -55,8 +74,8 @@ public abstract class AnimalObject extends LifeForm {
             });
         }
 
-        int moveEnergyConsumption = 1;
-        if (previousPosition.equals(position)) {
+        int moveEnergyConsumption = LifeRules.MOVE_ENERGY_CONSUMPTION;
+        if (previousPosition.equals(nextPosition)) {
             moveEnergyConsumption = 0;
         }
 
@@ -65,51 +84,45 @@ public abstract class AnimalObject extends LifeForm {
                 moveEnergyConsumption, getName()
         });
 
-        fertilityThreshold++;
+        setFertilityThreshold(getFertilityThreshold() + 1);
         decreaseEnergy(consumeEnergy);
     }
 
     private Vector2D calculateNextPos(Set<GameObject> neighbourObjects) {
-        Vector2D nextPosition;
         Vector2D neighbourPos = getNearestNeighbour(neighbourObjects);
-
         if (neighbourPos == null) {
-            nextPosition = chooseRandomNeighbourPosition();
-        } else {
-            Vector2D distance = Vector2D.subtract(neighbourPos, this.getPosition());
-            int absX = Math.abs(distance.getX());
-            int absY = Math.abs(distance.getY());
-
-            if ((absX == 0 || absX == 1) && (absY == 0 || absY == 1)) {
-                nextPosition = Vector2D.add(position, distance);
-            } else {
-                nextPosition = nextPos(distance);
-            }
+            return chooseRandomNeighbourPosition();
         }
-
-        return nextPosition;
+        long nextPosition = LifeRules.getNextPosition(PackedCoordinates.of(getPosition()), PackedCoordinates.of(neighbourPos));
+        return PackedCoordinates.toVector(nextPosition);
     }
 
-    private Vector2D nextPos(Vector2D distance) {
-        Vector2D dir = Direction.NONE.getDirectionVector();
-        int max = 0;
-
-        for (Direction direction : Direction.values()) {
-            int dotProduct = Vector2D.dot(distance, direction.getDirectionVector());
-            if (Math.max(dotProduct, max) > max) {
-                max = dotProduct;
-                dir = direction.getDirectionVector();
+    /**
+     * Returns the position of the nearest neighbour this animal can eat.
+     * @param gameObjects set of {@link GameObject} containing the position.
+     * @return the position of a neighbour as {@link Vector2D} or null if there is no food.
+     */
+    protected Vector2D getNearestNeighbour(Set<GameObject> gameObjects) {
+        long position = PackedCoordinates.of(getPosition());
+        int min = Integer.MAX_VALUE;
+        Vector2D neighbourPos = null;
+
+        for (GameObject neighbour : gameObjects) {
+            int distance = LifeRules.getNeighbourDistance(position, PackedCoordinates.of(neighbour.getPosition()));
+            if (neighbour instanceof LifeForm && LifeRules.isFood(getDiet(), ((LifeForm) neighbour).getFoodType())
+                    && distance < min) {
+                min = distance;
+                neighbourPos = neighbour.getPosition();
             }
         }
-        return Vector2D.add(position, dir);
+        return neighbourPos;
     }
 
     /**
-     * Returns the position of the nearest neighbour.
-     * @param gameObjects set of {@link GameObject} containing the position.
-     * @return the position of a neighbour as {@link Vector2D}.
+     * Returns which type of food this animal eats.
+     * @return {@link FoodType}
      */
-    protected abstract Vector2D getNearestNeighbour(Set<GameObject> gameObjects);
+    public abstract FoodType getDiet();
 
     /**
      * Is called when the {@link AnimalObject} eats another {@link LifeForm}.
@@ -150,7 +163,7 @@ public abstract class AnimalObject extends LifeForm {
         Objects.requireNonNull(partner, "Cannot be null.");
         if (partner.getGender().equals("F")) {
             throw new LifeFormException(String.format("%s: Kann keine Kinder gebaeren, weil ich ein Maennchen bin.", getName()));
-        } else if (fertilityThreshold < REPRODUCTION_MINIMUM) {
+        } else if (!LifeRules.isFertile(getFertilityThreshold())) {
             throw new LifeFormException(String.format("%s: Kann nicht paaren, weil mein Partner noch nicht fruchtbar ist.", getName()));
         }
         resetFertilityThreshold(); // sets own counter to zero (only on females)
@@ -159,7 +172,13 @@ public abstract class AnimalObject extends LifeForm {
         return animalObjectChild;
     }
 
-    private AnimalObject createChild() throws LifeFormException {
+    /**
+     * Creates a new animal of the same class as this animal. The known animals override it with a plain
+     * constructor call, other subclasses fall back to reflection.
+     * @return new {@link AnimalObject}.
+     * @throws LifeFormException when the child could not be created.
+     */
+    protected AnimalObject createChild() throws LifeFormException {
         try {
             return getClass().getConstructor().newInstance();
         } catch (ReflectiveOperationException e) {
@@ -172,7 +191,7 @@ public abstract class AnimalObject extends LifeForm {
      * @return reproduction counter as int.
      */
     public int getFertilityThreshold() {
-        return fertilityThreshold;
+        return getStore() == null ? fertilityThreshold : getStore().getFertilityThreshold(getSlot());
     }
 
     /**
@@ -192,7 +211,15 @@ public abstract class AnimalObject extends LifeForm {
     }
 
     private void resetFertilityThreshold() {
-        this.fertilityThreshold = 0;
+        setFertilityThreshold(0);
+    }
+
+    private void setFertilityThreshold(int fertilityThreshold) {
+        if (getStore() == null) {
+            this.fertilityThreshold = fertilityThreshold;
+        } else {
+            getStore().setFertilityThreshold(getSlot(), fertilityThreshold);
+        }
     }
 
     @Override
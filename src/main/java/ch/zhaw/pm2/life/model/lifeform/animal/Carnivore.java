@@ -1,16 +1,12 @@
 package ch.zhaw.pm2.life.model.lifeform.animal;
 
 import ch.zhaw.pm2.life.exception.LifeFormException;
-import ch.zhaw.pm2.life.model.GameObject;
-import ch.zhaw.pm2.life.model.Vector2D;
 import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 import ch.zhaw.pm2.life.model.lifeform.LifeFormActionCheck;
-
-import java.util.Set;
+import ch.zhaw.pm2.life.model.lifeform.LifeRules;
 
 /**
- * Carnivore extends {@link AnimalObject} and adds logic, necessary to eat and the determination
- * of the nearest neighbour of the {@link Carnivore}.
+ * Carnivore extends {@link AnimalObject} and adds the diet and the rules to eat of the {@link Carnivore}.
  */
 public class Carnivore extends AnimalObject {
 
@@ -22,18 +18,13 @@ public class Carnivore extends AnimalObject {
     }
 
     @Override
-    protected Vector2D getNearestNeighbour(Set<GameObject> neighbours) {
-        int min = Integer.MAX_VALUE;
-        Vector2D neighbourPos = null;
+    public FoodType getDiet() {
+        return FoodType.MEAT;
+    }
 
-        for (GameObject neighbour : neighbours) {
-            int distance = Vector2D.dot(position, neighbour.getPosition());
-            if (neighbour instanceof AnimalObject && distance < min) {
-                min = distance;
-                neighbourPos = neighbour.getPosition();
-            }
-        }
-        return neighbourPos;
+    @Override
+    protected AnimalObject createChild() {
+        return new Carnivore();
     }
 
     @Override
@@ -41,7 +32,7 @@ public class Carnivore extends AnimalObject {
         return () -> {
             if (lifeForm.getFoodType() == FoodType.PLANT) {
                 throw new LifeFormException(String.format("%s: Ich fresse leider keine Pflanzen.", getName()));
-            } else if (lifeForm instanceof Carnivore && lifeForm.getEnergy() > this.getEnergy()) {
+            } else if (lifeForm instanceof Carnivore && !LifeRules.canOverpower(getEnergy(), lifeForm.getEnergy())) {
                 throw new LifeFormException(String.format("%s: Kann dieses Tier nicht fressen, weil es staerker ist als ich.", getName()));
             }
         };
@@ -1,33 +1,22 @@
 package ch.zhaw.pm2.life.model.lifeform.animal;
 
 import ch.zhaw.pm2.life.exception.LifeFormException;
-import ch.zhaw.pm2.life.model.GameObject;
-import ch.zhaw.pm2.life.model.Vector2D;
 import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 import ch.zhaw.pm2.life.model.lifeform.LifeFormActionCheck;
-import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
-
-import java.util.Set;
 
 /**
- * Carnivore extends {@link AnimalObject} and adds logic, necessary to eat and the determination
- * of the nearest neighbour of the {@link Herbivore}.
+ * Herbivore extends {@link AnimalObject} and adds the diet and the rules to eat of the {@link Herbivore}.
  */
 public class Herbivore extends AnimalObject {
 
     @Override
-    protected Vector2D getNearestNeighbour(Set<GameObject> neighbours) {
-        int min = Integer.MAX_VALUE;
-        Vector2D neighbourPos = null;
+    public FoodType getDiet() {
+        return FoodType.PLANT;
+    }
 
-        for (GameObject neighbour : neighbours) {
-            int distance = Vector2D.dot(position, neighbour.getPosition());
-            if (neighbour instanceof Plant && distance < min) {
-                min = distance;
-                neighbourPos = neighbour.getPosition();
-            }
-        }
-        return neighbourPos;
+    @Override
+    protected AnimalObject createChild() {
+        return new Herbivore();
     }
 
     @Override
@@ -1,15 +1,25 @@
 package ch.zhaw.pm2.life.model.lifeform.plant;
 
 import ch.zhaw.pm2.life.controller.Game;
+import ch.zhaw.pm2.life.model.SimulationRandom;
 import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 
 /**
  * This class inherits from {@link LifeForm}.
  * Plants have a Neutral gender and cannot reproduce with each other or consume other {@link LifeForm}.
  * Plants spawn randomly on the map which is handled in the {@link Game} class.
+ * A plant loses {@value #ENERGY_CONSUMPTION} energy per tick. The loss is not applied tick by tick, it is computed
+ * from the ticks since the energy was set whenever the energy is read, so a tick does not need to visit any plant.
  */
 public class Plant extends LifeForm {
 
+    /**
+     * Energy a plant loses per tick.
+     */
+    public static final int ENERGY_CONSUMPTION = 1;
+
+    private long energyTick;
+
     @Override
     public String getGender() {
         return "N";
@@ -20,4 +30,64 @@ public class Plant extends LifeForm {
         return FoodType.PLANT;
     }
 
+    /**
+     * Returns the energy that is left after the consumption of every tick since the energy was set.
+     * @return current energy as int.
+     */
+    @Override
+    public int getEnergy() {
+        if (getStore() != null) {
+            return super.getEnergy();
+        }
+        long consumption = (getTick() - energyTick) * ENERGY_CONSUMPTION;
+        return (int) Math.max(Integer.MIN_VALUE, energy - consumption);
+    }
+
+    /**
+     * Sets the energy in the current tick, the consumption starts over from here.
+     * @param energy the energy as int.
+     */
+    @Override
+    public void setEnergy(int energy) {
+        super.setEnergy(energy);
+        energyTick = getTick();
+    }
+
+    /**
+     * Sets the {@link SimulationRandom} and keeps the current energy, so the consumption continues
+     * from the tick of the new {@link SimulationRandom}.
+     * @param simulationRandom {@link SimulationRandom} of the simulation.
+     * @param id               id of this object, unique within the simulation.
+     */
+    @Override
+    public void setSimulationRandom(SimulationRandom simulationRandom, long id) {
+        int currentEnergy = getEnergy();
+        super.setSimulationRandom(simulationRandom, id);
+        setEnergy(currentEnergy);
+    }
+
+    @Override
+    public int getEnergyConsumption() {
+        // the entity store takes the consumption off itself in every tick
+        return getStore() == null ? ENERGY_CONSUMPTION : 0;
+    }
+
+    /**
+     * Returns the energy as it was set, without the consumption since.
+     * @return energy as int.
+     */
+    @Override
+    public int getStateEnergy() {
+        return getStore() == null ? energy : super.getStateEnergy();
+    }
+
+    @Override
+    public long getDepletionTick() {
+        if (getStore() != null) {
+            return super.getDepletionTick();
+        }
+        // energy - (tick - energyTick) * consumption < 0
+        return energyTick + Math.floorDiv(energy, ENERGY_CONSUMPTION) + 1;
+    }
+
 }
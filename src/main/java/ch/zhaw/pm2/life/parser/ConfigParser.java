@@ -1,33 +1,61 @@
 package ch.zhaw.pm2.life.parser;
 
 import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.Board;
 import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.SpeciesRegistry;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 /**
  * Parses the config file for the simulation
  * and provides all found {@link GameObject}.
+ * The keys with the reserved prefix {@value #BOARD_PREFIX} configure the board instead of a species,
+ * e.g. {@code board.rows = 16}, the keys with the reserved prefix {@value #STOP_PREFIX} the end of the simulation,
+ * e.g. {@code stop.condition = extinct(Schaf)}.
  */
 public class ConfigParser {
 
+    /**
+     * Prefix of the keys that configure the board, it cannot be used for a species.
+     */
+    public static final String BOARD_PREFIX = "board";
+
+    /**
+     * Prefix of the keys that configure the end of the simulation, it cannot be used for a species.
+     */
+    public static final String STOP_PREFIX = "stop";
+
+    /**
+     * Number of rows and columns if the config file does not define them.
+     */
+    public static final int DEFAULT_BOARD_SIZE = 16;
+
+    /**
+     * Initial amount of a species if the config file does not define it.
+     */
+    public static final int DEFAULT_AMOUNT = 1;
+
     private static final String CONFIG_PATH = "config";
     private static final String FILE_NAME = "config.properties";
     private static final String DELIMITER = ".";
     private static final String DELIMITER_REGEX = "\\" + DELIMITER;
-    private static final String LIFE_FORM_PACKAGE = "ch.zhaw.pm2.life.model.lifeform";
     private static final URL templateFile = ConfigParser.class.getClassLoader()
             .getResource(CONFIG_PATH + File.separator + FILE_NAME);
     private static final File configFile = new File(CONFIG_PATH + File.separator + FILE_NAME);
@@ -45,6 +73,14 @@ public class ConfigParser {
         }
     }
 
+    private ConfigParser(Path configPath) throws LifeException {
+        try (Reader reader = Files.newBufferedReader(configPath, StandardCharsets.ISO_8859_1)) {
+            config.load(reader);
+        } catch (IOException e) {
+            throw new LifeException(e);
+        }
+    }
+
     /**
      * Returns the instance of the {@link ConfigParser}.
      * @return ConfigParser reference.
@@ -58,85 +94,132 @@ public class ConfigParser {
         return instance;
     }
 
+    /**
+     * Creates a {@link ConfigParser} that reads the provided config file instead of the default one.
+     * This parser is independent of the instance returned by {@link #getInstance()}.
+     * @param configPath path to the config file.
+     * @return ConfigParser reference.
+     * @throws LifeException if the config file could not be read.
+     */
+    public static ConfigParser of(Path configPath) throws LifeException {
+        return new ConfigParser(configPath);
+    }
+
     /**
      * Parses the game objects out of a config file.
      * @return a {@link List<GameObject>} containing the parsed game objects.
-     * @throws LifeException if the provided class was not found.
+     * @throws LifeException if the type or the color of a life form is not valid.
      */
     public List<GameObject> parseObjects() throws LifeException {
-        List<GameObject> parsedObjects = new ArrayList<>();
+        return new ArrayList<>(parseAmounts().keySet());
+    }
+
+    /**
+     * Parses the game objects out of a config file together with the amount to spawn at the start,
+     * {@value #DEFAULT_AMOUNT} if the config file does not define it.
+     * @return a {@link Map} of the parsed game objects and their amounts.
+     * @throws LifeException if the type or the color of a life form or an amount is not valid.
+     */
+    public Map<GameObject, Integer> parseAmounts() throws LifeException {
+        Map<GameObject, Integer> parsedObjects = new LinkedHashMap<>();
 
         Set<String> lifeForms = new HashSet<>();
         Enumeration<Object> property = config.keys();
         while (property.hasMoreElements()) {
             lifeForms.add(property.nextElement().toString().split(DELIMITER_REGEX)[0]);
         }
+        lifeForms.remove(BOARD_PREFIX);
+        lifeForms.remove(STOP_PREFIX);
 
-        try {
-            for (String lifeForm : lifeForms) {
-                Class<?> clazz = getGameObjectClass(lifeForm);
-                if (clazz == null) {
-                    throw new LifeException("Could not parse the config file");
-                }
-
-                int energy = Integer.parseInt(getConfigValue(lifeForm, Options.ENERGY.name()));
-                String color = getConfigValue(lifeForm, Options.COLOR.name());
-                String name = getConfigValue(lifeForm, Options.NAME.name());
-
-                // Valid color formats (Hex) #000 to #FFF or #000000 to #FFFFFF
-                if (color.matches("#([A-Fa-f0-9]{3}){1,2}")) {
-                    GameObject gameObject = (GameObject) clazz.getConstructor().newInstance();
-                    gameObject.setColor(color);
-                    gameObject.setEnergy(energy);
-                    gameObject.setName(name);
-
-                    parsedObjects.add(gameObject);
-                } else {
-                    throw new LifeException("Could not parse the config file");
-                }
+        for (String lifeForm : lifeForms) {
+            SpeciesRegistry.Type type = SpeciesRegistry.Type.getType(getConfigValue(lifeForm, Options.TYPE.name()));
+            if (type == null) {
+                throw new LifeException("Could not parse the config file");
+            }
+
+            int energy = Integer.parseInt(getConfigValue(lifeForm, Options.ENERGY.name()));
+            String color = getConfigValue(lifeForm, Options.COLOR.name());
+            String name = getConfigValue(lifeForm, Options.NAME.name());
+            int amount = parseInt(lifeForm, Options.AMOUNT.name(), DEFAULT_AMOUNT, 0);
+
+            // Valid color formats (Hex) #000 to #FFF or #000000 to #FFFFFF
+            if (color.matches("#([A-Fa-f0-9]{3}){1,2}")) {
+                GameObject gameObject = type.create();
+                gameObject.setColor(color);
+                gameObject.setEnergy(energy);
+                gameObject.setName(name);
+
+                parsedObjects.put(gameObject, amount);
+            } else {
+                throw new LifeException("Could not parse the config file");
             }
-        } catch (ReflectiveOperationException e) {
-            throw new LifeException(e);
         }
 
         return parsedObjects;
     }
 
     /**
-     * Sets the config field of type {@link Properties}.
-     * @param config of type {@link Properties}.
+     * Parses the number of rows of the board, {@value #DEFAULT_BOARD_SIZE} if the config file does not define it.
+     * @return number of rows as int.
+     * @throws LifeException if the number is less than {@link Board#MIN_ROWS} or not a number.
      */
-    public void setConfigProperties(Properties config) {
-        this.config = (Properties) config.clone();
+    public int parseRows() throws LifeException {
+        return parseInt(BOARD_PREFIX, BoardOptions.ROWS.name(), DEFAULT_BOARD_SIZE, Board.MIN_ROWS);
+    }
+
+    /**
+     * Parses the number of columns of the board, {@value #DEFAULT_BOARD_SIZE} if the config file does not define it.
+     * @return number of columns as int.
+     * @throws LifeException if the number is less than {@link Board#MIN_COLUMNS} or not a number.
+     */
+    public int parseColumns() throws LifeException {
+        return parseInt(BOARD_PREFIX, BoardOptions.COLUMNS.name(), DEFAULT_BOARD_SIZE, Board.MIN_COLUMNS);
     }
 
-    private Class<?> getGameObjectClass(String lifeForm) throws ClassNotFoundException {
-        Class<?> clazz = null;
-        Type type = Type.getType(getConfigValue(lifeForm, Options.TYPE.name()));
-        if (type == null) {
+    /**
+     * Parses the stop condition of the simulation, see {@link StopConditionParser} for its format.
+     * @return stop condition as String or null if the config file does not define it.
+     * @throws LifeException if the stop condition is not valid.
+     */
+    public String parseStopCondition() throws LifeException {
+        Object value = config.get(String.join(DELIMITER, STOP_PREFIX, StopOptions.CONDITION.name().toLowerCase()));
+        if (value == null) {
             return null;
-        } else {
-            switch (type) {
-                case HERBIVORE:
-                    clazz = Class.forName(Type.HERBIVORE.value);
-                    break;
-                case CARNIVORE:
-                    clazz = Class.forName(Type.CARNIVORE.value);
-                    break;
-                case PLANT:
-                    clazz = Class.forName(Type.PLANT.value);
-                    break;
-                default:
-                    break;
-            }
         }
-        return clazz;
+        String stopCondition = value.toString().trim();
+        StopConditionParser.parse(stopCondition);
+        return stopCondition;
+    }
+
+    /**
+     * Sets the config field of type {@link Properties}.
+     * @param config of type {@link Properties}.
+     */
+    public void setConfigProperties(Properties config) {
+        this.config = (Properties) config.clone();
     }
 
     private String getConfigValue(String lifeForm, String property) {
         return config.get(String.join(DELIMITER, lifeForm, property.toLowerCase())).toString();
     }
 
+    private int parseInt(String prefix, String property, int defaultValue, int minValue) throws LifeException {
+        String key = String.join(DELIMITER, prefix, property.toLowerCase());
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.toString().trim());
+            if (number < minValue) {
+                throw new LifeException(String.format("The value of %s cannot be less than %d", key, minValue));
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new LifeException(String.format("The value of %s is not a number", key));
+        }
+    }
+
     private void copyConfig() throws IOException, URISyntaxException {
         File configFolder = new File(CONFIG_PATH);
         File configFile = new File(configFolder + File.separator + FILE_NAME);
@@ -151,35 +234,17 @@ public class ConfigParser {
         ENERGY,
         TYPE,
         COLOR,
-        NAME
+        NAME,
+        AMOUNT
     }
 
-    private enum Type {
-        CARNIVORE(LIFE_FORM_PACKAGE + ".animal.Carnivore"),
-        HERBIVORE(LIFE_FORM_PACKAGE + ".animal.Herbivore"),
-        PLANT(LIFE_FORM_PACKAGE + ".plant.Plant");
-
-        private final String value;
-
-        Type(final String v) {
-            value = v;
-        }
-
-        /**
-         * Takes a string and searches for the matching enum
-         * @param val name of the class
-         * @return Type
-         */
-        public static Type getType(String val) {
-            for (Type type : Type.values()) {
-                String[] values = type.value.split(DELIMITER_REGEX);
-                if (values[values.length - 1].equalsIgnoreCase(val)) {
-                    return type;
-                }
-            }
-            return null;
-        }
+    private enum BoardOptions {
+        ROWS,
+        COLUMNS
+    }
 
+    private enum StopOptions {
+        CONDITION
     }
 
 }
@@ -0,0 +1,210 @@
+package ch.zhaw.pm2.life.parser;
+
+import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.StopCondition;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Parses the text form of a {@link StopCondition}, e.g. {@code extinct(Schaf) or ticks(1000)}.
+ * The conditions are
+ * {@code extinct(species)}, {@code below(species, n)}, {@code above(species, n)},
+ * {@code populationBelow(n)}, {@code populationAbove(n)}, {@code ticks(n)}, {@code seconds(n)} and {@code repeats(n)}.
+ * They are combined with {@code and} and {@code or}, where {@code and} binds stronger, and grouped with parentheses.
+ * Species names are taken as written between the parentheses, so they may contain spaces.
+ */
+public class StopConditionParser {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+
+    private final String expression;
+    private int position;
+
+    private StopConditionParser(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parses a stop condition.
+     * @param expression text form of the condition, an empty text is a condition that is never met.
+     * @return the parsed {@link StopCondition}.
+     * @throws LifeException        when the text is not a valid condition.
+     * @throws NullPointerException when the text is null.
+     */
+    public static StopCondition parse(String expression) throws LifeException {
+        Objects.requireNonNull(expression, "The stop condition cannot be null.");
+        if (expression.isBlank()) {
+            return StopCondition.never();
+        }
+        StopConditionParser parser = new StopConditionParser(expression);
+        StopCondition condition = parser.parseOr();
+        parser.skipWhitespace();
+        if (!parser.isAtEnd()) {
+            throw parser.error("Unexpected '" + parser.peek() + "'");
+        }
+        return condition;
+    }
+
+    private StopCondition parseOr() throws LifeException {
+        StopCondition condition = parseAnd();
+        while (consumeKeyword(OR)) {
+            condition = condition.or(parseAnd());
+        }
+        return condition;
+    }
+
+    private StopCondition parseAnd() throws LifeException {
+        StopCondition condition = parseCondition();
+        while (consumeKeyword(AND)) {
+            condition = condition.and(parseCondition());
+        }
+        return condition;
+    }
+
+    private StopCondition parseCondition() throws LifeException {
+        skipWhitespace();
+        if (consume('(')) {
+            StopCondition condition = parseOr();
+            expect(')');
+            return condition;
+        }
+        int start = position;
+        while (!isAtEnd() && Character.isLetter(peek())) {
+            position++;
+        }
+        String name = expression.substring(start, position);
+        if (name.isEmpty()) {
+            throw error(isAtEnd() ? "Missing condition" : "Unexpected '" + peek() + "'");
+        }
+        expect('(');
+        StopCondition condition;
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "extinct":
+                condition = StopCondition.extinct(parseSpecies());
+                break;
+            case "below":
+                condition = StopCondition.below(parseSpecies(), parseNextIntArgument());
+                break;
+            case "above":
+                condition = StopCondition.above(parseSpecies(), parseNextIntArgument());
+                break;
+            case "populationbelow":
+                condition = StopCondition.populationBelow(parseIntArgument());
+                break;
+            case "populationabove":
+                condition = StopCondition.populationAbove(parseIntArgument());
+                break;
+            case "ticks":
+                condition = StopCondition.tickLimit(parseLongArgument());
+                break;
+            case "seconds":
+                condition = StopCondition.timeLimit(Duration.ofSeconds(parseLongArgument()));
+                break;
+            case "repeats":
+                condition = parseRepeats();
+                break;
+            default:
+                throw error("Unknown condition " + name);
+        }
+        expect(')');
+        return condition;
+    }
+
+    private StopCondition parseRepeats() throws LifeException {
+        int window = parseIntArgument();
+        if (window < 1) {
+            throw error("The window must be at least 1");
+        }
+        return StopCondition.repeats(window);
+    }
+
+    private String parseSpecies() throws LifeException {
+        String species = readArgument();
+        if (species.isEmpty()) {
+            throw error("Missing species");
+        }
+        return species;
+    }
+
+    private int parseNextIntArgument() throws LifeException {
+        expect(',');
+        return parseIntArgument();
+    }
+
+    private int parseIntArgument() throws LifeException {
+        long number = parseLongArgument();
+        if (number > Integer.MAX_VALUE) {
+            throw error("The number " + number + " is too large");
+        }
+        return (int) number;
+    }
+
+    private long parseLongArgument() throws LifeException {
+        String argument = readArgument();
+        try {
+            long number = Long.parseLong(argument);
+            if (number < 0) {
+                throw error("The number " + number + " cannot be negative");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw error("'" + argument + "' is not a number");
+        }
+    }
+
+    private String readArgument() {
+        int start = position;
+        while (!isAtEnd() && peek() != ',' && peek() != ')') {
+            position++;
+        }
+        return expression.substring(start, position).trim();
+    }
+
+    private boolean consumeKeyword(String keyword) {
+        skipWhitespace();
+        int end = position + keyword.length();
+        if (expression.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end == expression.length() || !Character.isLetterOrDigit(expression.charAt(end)))) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consume(char character) {
+        skipWhitespace();
+        if (!isAtEnd() && peek() == character) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char character) throws LifeException {
+        if (!consume(character)) {
+            throw error("Expected '" + character + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (!isAtEnd() && Character.isWhitespace(peek())) {
+            position++;
+        }
+    }
+
+    private boolean isAtEnd() {
+        return position >= expression.length();
+    }
+
+    private char peek() {
+        return expression.charAt(position);
+    }
+
+    private LifeException error(String message) {
+        return new LifeException(String.format("Invalid stop condition at position %d: %s", position + 1, message));
+    }
+
+}
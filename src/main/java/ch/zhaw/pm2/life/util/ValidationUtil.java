@@ -46,4 +46,18 @@ public class ValidationUtil {
         });
     }
 
+    /**
+     * Returns a {@link TextFormatter}
+     * to verify an amount or a size entered by the user, the text cannot become empty.
+     * @return TextFormatter.
+     */
+    public static TextFormatter<Object> getAmountFormatter() {
+        return new TextFormatter<>(change -> {
+            if (change.isContentChange() && !change.getControlNewText().matches("\\d{1,9}")) {
+                return null;
+            }
+            return change;
+        });
+    }
+
 }
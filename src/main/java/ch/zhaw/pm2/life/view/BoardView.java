@@ -1,22 +1,33 @@
 package ch.zhaw.pm2.life.view;
 
 import ch.zhaw.pm2.life.model.Board;
+import ch.zhaw.pm2.life.model.BoardSnapshot;
 import ch.zhaw.pm2.life.model.GameObject;
-import ch.zhaw.pm2.life.model.Vector2D;
-import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
 import javafx.geometry.Dimension2D;
+import javafx.scene.Group;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * This class displays the board and all the {@link GameObject} that are alive including their attributes.
  * The board has an overlay of lines that are drawn to improve the understanding of the coordinate system
  * and the movements done by the {@link AnimalObject}.
+ * Everything is drawn from the last {@link BoardSnapshot} the board published, so drawing runs on the JavaFX
+ * thread while the simulation computes the next tick.
+ * The grid lines are drawn on their own layer and only redrawn when the size changes. After a tick only the cells
+ * that changed are repainted, see {@link #drawChanges()}.
+ * How much is drawn depends on the size of a cell, see {@link DetailLevel}.
  */
-public class BoardView extends Canvas {
+public class BoardView extends Group {
 
     private static final double GAME_OBJECT_SIZE_SCALING = 0.1;
     private static final double HALF = 0.5;
@@ -25,8 +36,18 @@ public class BoardView extends Canvas {
     private static final double ENERGY_SCALE_X = 0.55;
     private static final double ENERGY_SCALE_Y = 0.25;
     private static final int FERTILITY_Y_POSITION = 35;
+    private static final double DOT_SCALING = 0.6;
 
     private final Board board;
+    private final Canvas gridLayer = new Canvas();
+    private final Canvas objectLayer = new Canvas();
+    private final GraphicsContext graphicsContext = objectLayer.getGraphicsContext2D();
+    private final ImageView heatmapLayer = new ImageView();
+    private final Map<String, Color> colors = new HashMap<>();
+    private DetailLevel detailLevel = DetailLevel.FULL;
+    private BoardSnapshot drawnSnapshot;
+    private DensityHeatmap heatmap;
+    private WritableImage heatmapImage;
     private double width;
     private double height;
     private Dimension2D fieldDimension;
@@ -37,6 +58,9 @@ public class BoardView extends Canvas {
      */
     public BoardView(Board board) {
         this.board = Objects.requireNonNull(board, "Board cannot be null to display it.");
+        heatmapLayer.setSmooth(false);
+        heatmapLayer.setVisible(false);
+        getChildren().addAll(gridLayer, objectLayer, heatmapLayer);
     }
 
     /**
@@ -47,93 +71,245 @@ public class BoardView extends Canvas {
     public void updateDimension(double width, double height) {
         this.width = width;
         this.height = height;
-        setHeight(height);
-        setWidth(width);
+        for (Canvas layer : new Canvas[] {gridLayer, objectLayer}) {
+            layer.setHeight(height);
+            layer.setWidth(width);
+        }
         fieldDimension = new Dimension2D(width / (double) board.getColumns(), height / (double) board.getRows());
+        detailLevel = DetailLevel.of(Math.min(fieldDimension.getWidth(), fieldDimension.getHeight()));
+        gridLayer.setVisible(detailLevel != DetailLevel.HEATMAP);
+        objectLayer.setVisible(detailLevel != DetailLevel.HEATMAP);
+        heatmapLayer.setVisible(detailLevel == DetailLevel.HEATMAP);
+        if (detailLevel == DetailLevel.HEATMAP) {
+            initHeatmap();
+        } else {
+            drawLines();
+        }
         draw();
     }
 
     /**
-     * Draws all {@link GameObject} including all its attributes and the grid lines
-     * representing the coordinate system on the {@link Board}.
+     * Returns the level of detail used for the current size.
+     * @return {@link DetailLevel}.
+     */
+    public DetailLevel getDetailLevel() {
+        return detailLevel;
+    }
+
+    /**
+     * Draws all {@link GameObject} of the last published {@link BoardSnapshot} including all its attributes.
+     * Needed after changes of the view, e.g. a new size, or changes outside of a tick, e.g. a new color of a species.
      */
     public void draw() {
-        getGraphicsContext2D().clearRect(0, 0, getWidth(), getHeight());
-        drawLines();
-        drawGameObjects();
+        if (fieldDimension == null) {
+            return;
+        }
+        BoardSnapshot snapshot = board.getSnapshot();
+        drawnSnapshot = snapshot;
+        colors.clear();
+        if (detailLevel == DetailLevel.HEATMAP) {
+            drawHeatmap(snapshot);
+            return;
+        }
+        graphicsContext.clearRect(0, 0, width, height);
+        for (int object = 0; object < snapshot.getObjectCount(); object++) {
+            drawGameObject(snapshot, object);
+        }
+    }
+
+    /**
+     * Repaints the cells that changed since the last drawn {@link BoardSnapshot}: the cells that were occupied
+     * before and the cells that are occupied now, because the energy of every object changes with each tick.
+     * Empty cells that stayed empty and the grid are not touched. Snapshots that were published in between
+     * are skipped.
+     */
+    public void drawChanges() {
+        BoardSnapshot snapshot = board.getSnapshot();
+        if (fieldDimension == null || snapshot == drawnSnapshot) {
+            return;
+        }
+        if (detailLevel == DetailLevel.HEATMAP) {
+            drawnSnapshot = snapshot;
+            drawHeatmap(snapshot);
+            return;
+        }
+        // both snapshots are ordered by cell, so merging them visits every cell to repaint once
+        BoardSnapshot previous = drawnSnapshot;
+        drawnSnapshot = snapshot;
+        int previousObject = 0;
+        int object = 0;
+        while (previousObject < previous.getObjectCount() || object < snapshot.getObjectCount()) {
+            long cell = Math.min(previousObject < previous.getObjectCount() ? previous.getCell(previousObject) : Long.MAX_VALUE,
+                                 object < snapshot.getObjectCount() ? snapshot.getCell(object) : Long.MAX_VALUE);
+            object = drawCell(snapshot, cell);
+            while (previousObject < previous.getObjectCount() && previous.getCell(previousObject) == cell) {
+                previousObject++;
+            }
+        }
+    }
+
+    private void initHeatmap() {
+        int heatmapWidth = Math.max(1, Math.min(board.getColumns(), (int) Math.ceil(width)));
+        int heatmapHeight = Math.max(1, Math.min(board.getRows(), (int) Math.ceil(height)));
+        heatmap = new DensityHeatmap(board.getColumns(), board.getRows(), heatmapWidth, heatmapHeight);
+        heatmapImage = new WritableImage(heatmapWidth, heatmapHeight);
+        heatmapLayer.setImage(heatmapImage);
+        heatmapLayer.setFitWidth(width);
+        heatmapLayer.setFitHeight(height);
+    }
+
+    private void drawHeatmap(BoardSnapshot snapshot) {
+        heatmap.clear();
+        for (int object = 0; object < snapshot.getObjectCount(); object++) {
+            heatmap.add(snapshot.getX(object), snapshot.getY(object), snapshot.getColor(object));
+        }
+        heatmapImage.getPixelWriter().setPixels(0, 0, heatmap.getWidth(), heatmap.getHeight(),
+                                                PixelFormat.getIntArgbInstance(), heatmap.toArgb(), 0, heatmap.getWidth());
+    }
+
+    private int drawCell(BoardSnapshot snapshot, long cell) {
+        double fieldPosX = (cell % board.getColumns()) * fieldDimension.getWidth();
+        double fieldPosY = (cell / board.getColumns()) * fieldDimension.getHeight();
+        graphicsContext.clearRect(fieldPosX, fieldPosY, fieldDimension.getWidth(), fieldDimension.getHeight());
+
+        // the labels may reach into the neighbour cells, which are not repainted
+        graphicsContext.save();
+        graphicsContext.beginPath();
+        graphicsContext.rect(fieldPosX, fieldPosY, fieldDimension.getWidth(), fieldDimension.getHeight());
+        graphicsContext.clip();
+        int object = snapshot.getFirstObject(cell);
+        for (; object < snapshot.getObjectCount() && snapshot.getCell(object) == cell; object++) {
+            drawGameObject(snapshot, object);
+        }
+        graphicsContext.restore();
+        return object;
     }
 
     private void drawLines() {
-        getGraphicsContext2D().setLineWidth(1);
-        getGraphicsContext2D().setFill(Color.BLACK);
+        GraphicsContext gridContext = gridLayer.getGraphicsContext2D();
+        gridContext.clearRect(0, 0, width, height);
+        gridContext.setLineWidth(1);
+        gridContext.setStroke(Color.BLACK);
 
         for (double column = 0; column <= width; column += fieldDimension.getWidth()) {
-            getGraphicsContext2D().strokeLine(column, 0, column, height);
+            gridContext.strokeLine(column, 0, column, height);
         }
 
         for (double row = 0; row <= height; row += fieldDimension.getHeight()) {
-            getGraphicsContext2D().strokeLine(0, row, width, row);
+            gridContext.strokeLine(0, row, width, row);
         }
     }
 
-    private void drawGameObjects() {
-        for (GameObject gameObject : board.getGameObjects()) {
-            Vector2D vector2D = gameObject.getPosition();
+    private void drawGameObject(BoardSnapshot snapshot, int object) {
+        double fieldPosX = snapshot.getX(object) * fieldDimension.getWidth();
+        double fieldPosY = snapshot.getY(object) * fieldDimension.getHeight();
 
-            double fieldPosX = vector2D.getX() * fieldDimension.getWidth();
-            double fieldPosY = vector2D.getY() * fieldDimension.getHeight();
+        if (detailLevel == DetailLevel.DOTS) {
+            drawDot(snapshot, object, fieldPosX, fieldPosY);
+            return;
+        }
 
-            double scaling = gameObject.getSize() * GAME_OBJECT_SIZE_SCALING;
-            double translateFactor = (1 - scaling) * HALF;
+        double scaling = snapshot.getSize(object) * GAME_OBJECT_SIZE_SCALING;
+        double translateFactor = (1 - scaling) * HALF;
 
-            double fieldDimensionDiff = fieldDimension.getWidth() - fieldDimension.getHeight();
+        double fieldDimensionDiff = fieldDimension.getWidth() - fieldDimension.getHeight();
 
-            double translatedX = fieldPosX + (fieldDimension.getWidth() + fieldDimensionDiff) * translateFactor;
-            double translatedY = fieldPosY + fieldDimension.getHeight() * translateFactor;
+        double translatedX = fieldPosX + (fieldDimension.getWidth() + fieldDimensionDiff) * translateFactor;
+        double translatedY = fieldPosY + fieldDimension.getHeight() * translateFactor;
 
-            drawGameObject(gameObject, scaling, translatedX, translatedY);
-            drawGender(gameObject, translatedX, translatedY);
-            drawCurrentEnergy(gameObject, fieldPosX, fieldPosY);
-            drawPoisonStatus(gameObject, fieldPosX, fieldPosY);
-            drawFertilityThreshold(gameObject, translatedX, translatedY);
-        }
+        drawGameObject(snapshot, object, scaling, translatedX, translatedY);
+        drawGender(snapshot, object, translatedX, translatedY);
+        drawCurrentEnergy(snapshot, object, fieldPosX, fieldPosY);
+        drawPoisonStatus(snapshot, object, fieldPosX, fieldPosY);
+        drawFertilityThreshold(snapshot, object, translatedX, translatedY);
     }
 
-    private void drawGameObject(GameObject gameObject, double scaling, double translatedX, double translatedY) {
-        getGraphicsContext2D().setFill(Color.valueOf(gameObject.getColor()));
-        getGraphicsContext2D().fillOval(translatedX, translatedY, fieldDimension.getHeight() * scaling, fieldDimension.getHeight() * scaling);
+    private void drawDot(BoardSnapshot snapshot, int object, double fieldPosX, double fieldPosY) {
+        double dotWidth = fieldDimension.getWidth() * DOT_SCALING;
+        double dotHeight = fieldDimension.getHeight() * DOT_SCALING;
+        graphicsContext.setFill(getColor(snapshot, object));
+        graphicsContext.fillRect(fieldPosX + (fieldDimension.getWidth() - dotWidth) * HALF,
+                                 fieldPosY + (fieldDimension.getHeight() - dotHeight) * HALF, dotWidth, dotHeight);
     }
 
-    private void drawGender(GameObject gameObject, double translatedX, double translatedY) {
-        if (gameObject instanceof LifeForm) {
-            getGraphicsContext2D().setStroke(Color.BLACK);
-            LifeForm lifeForm = (LifeForm) gameObject;
-            getGraphicsContext2D().strokeText(lifeForm.getGender(), translatedX, translatedY);
+    private Color getColor(BoardSnapshot snapshot, int object) {
+        return colors.computeIfAbsent(snapshot.getColor(object), Color::valueOf);
+    }
+
+    private void drawGameObject(BoardSnapshot snapshot, int object, double scaling, double translatedX, double translatedY) {
+        graphicsContext.setFill(getColor(snapshot, object));
+        graphicsContext.fillOval(translatedX, translatedY, fieldDimension.getHeight() * scaling, fieldDimension.getHeight() * scaling);
+    }
+
+    private void drawGender(BoardSnapshot snapshot, int object, double translatedX, double translatedY) {
+        if (snapshot.isLifeForm(object)) {
+            graphicsContext.setStroke(Color.BLACK);
+            graphicsContext.strokeText(snapshot.getGender(object), translatedX, translatedY);
         }
     }
 
-    private void drawFertilityThreshold(GameObject gameObject, double translatedX, double translatedY) {
-        if (gameObject instanceof AnimalObject) {
-            getGraphicsContext2D().setStroke(Color.BLACK);
-            AnimalObject animalObject = (AnimalObject) gameObject;
-            getGraphicsContext2D().strokeText(String.valueOf(animalObject.getFertilityThreshold()), translatedX, translatedY + FERTILITY_Y_POSITION);
+    private void drawFertilityThreshold(BoardSnapshot snapshot, int object, double translatedX, double translatedY) {
+        if (snapshot.isAnimal(object)) {
+            graphicsContext.setStroke(Color.BLACK);
+            graphicsContext.strokeText(String.valueOf(snapshot.getFertilityThreshold(object)), translatedX, translatedY + FERTILITY_Y_POSITION);
         }
     }
 
-    private void drawCurrentEnergy(GameObject gameObject, double fieldPosX, double fieldPosY) {
+    private void drawCurrentEnergy(BoardSnapshot snapshot, int object, double fieldPosX, double fieldPosY) {
         double energyPositionX = fieldPosX + fieldDimension.getWidth() * ENERGY_SCALE_X;
         double energyPositionY = fieldPosY + fieldDimension.getHeight() * ENERGY_SCALE_Y;
-        getGraphicsContext2D().strokeText(String.valueOf(gameObject.getEnergy()), energyPositionX, energyPositionY);
+        graphicsContext.strokeText(String.valueOf(snapshot.getEnergy(object)), energyPositionX, energyPositionY);
     }
 
-    private void drawPoisonStatus(GameObject gameObject, double fieldPosX, double fieldPosY) {
-        if (gameObject instanceof LifeForm) {
+    private void drawPoisonStatus(BoardSnapshot snapshot, int object, double fieldPosX, double fieldPosY) {
+        if (snapshot.isLifeForm(object)) {
             double poisonStatusPositionX = fieldPosX + fieldDimension.getHeight() * POISON_SCALE_X;
             double poisonStatusPositionY = fieldPosY + fieldDimension.getHeight() * POISON_SCALE_Y;
-            LifeForm lifeForm = (LifeForm) gameObject;
-            String labelValue = lifeForm.isPoisonous() ? "S" : "";
-            labelValue += (lifeForm.isPoisoned()) ? "D" : "";
-            getGraphicsContext2D().strokeText(labelValue, poisonStatusPositionX, poisonStatusPositionY);
+            String labelValue = snapshot.isPoisonous(object) ? "S" : "";
+            labelValue += snapshot.isPoisoned(object) ? "D" : "";
+            graphicsContext.strokeText(labelValue, poisonStatusPositionX, poisonStatusPositionY);
+        }
+    }
+
+    /**
+     * Level of detail of the board, chosen by the size of a cell in pixels.
+     */
+    public enum DetailLevel {
+        /**
+         * Every object with its gender, energy, poison status and fertility.
+         */
+        FULL,
+        /**
+         * Every object as a colored dot without any text.
+         */
+        DOTS,
+        /**
+         * The density of the species as an image with at most one pixel per cell.
+         */
+        HEATMAP;
+
+        /**
+         * Minimal size of a cell in pixels to show every detail.
+         */
+        public static final double FULL_DETAIL_CELL_SIZE = 24;
+
+        /**
+         * Minimal size of a cell in pixels to show every object as a dot.
+         */
+        public static final double DOT_CELL_SIZE = 3;
+
+        /**
+         * Returns the level of detail for a cell size.
+         * @param cellSize size of a cell in pixels.
+         * @return the matching {@link DetailLevel}.
+         */
+        public static DetailLevel of(double cellSize) {
+            if (cellSize >= FULL_DETAIL_CELL_SIZE) {
+                return FULL;
+            } else if (cellSize >= DOT_CELL_SIZE) {
+                return DOTS;
+            }
+            return HEATMAP;
         }
     }
 
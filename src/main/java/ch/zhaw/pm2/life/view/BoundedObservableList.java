@@ -0,0 +1,81 @@
+package ch.zhaw.pm2.life.view;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.List;
+
+/**
+ * Read-only {@link javafx.collections.ObservableList} on top of a ring buffer with a fixed capacity.
+ * Elements are appended in batches, when the buffer is full the oldest elements are dropped. Every batch fires
+ * a single change, so a {@link javafx.scene.control.ListView} only updates once per batch.
+ * @param <E> type of the elements.
+ */
+public class BoundedObservableList<E> extends ObservableListBase<E> {
+
+    private final Object[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     * @param capacity maximal number of elements.
+     * @throws IllegalArgumentException when the capacity is not positive.
+     */
+    public BoundedObservableList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        elements = new Object[capacity];
+    }
+
+    /**
+     * Appends elements at the end, the oldest elements are dropped if the capacity is exceeded.
+     * @param added elements to append.
+     */
+    public void append(List<? extends E> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        int skipped = Math.max(0, added.size() - elements.length);
+        int count = added.size() - skipped;
+        int dropped = Math.max(0, size + count - elements.length);
+
+        beginChange();
+        for (int i = 0; i < dropped; i++) {
+            nextRemove(0, get(0));
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+            size--;
+        }
+        int from = size;
+        for (int i = skipped; i < added.size(); i++) {
+            elements[(head + size) % elements.length] = added.get(i);
+            size++;
+        }
+        nextAdd(from, size);
+        endChange();
+    }
+
+    /**
+     * Returns the maximal number of elements.
+     * @return capacity as int.
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+        return (E) elements[(head + index) % elements.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,131 @@
+package ch.zhaw.pm2.life.view;
+
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pixel buffer of the zoomed out board. Every pixel covers one or more cells, its color is the mix of the colors
+ * of the species in these cells, weighted by their number, and its opacity grows logarithmically with the number of
+ * objects, from {@value #MIN_ALPHA} for a single object up to {@value #FULL_ALPHA} for one object per cell. A single
+ * animal thus stays visible even if a pixel covers thousands of cells.
+ * The pixels are kept in a preallocated ARGB array that is written into an image in one call.
+ */
+public class DensityHeatmap {
+
+    private static final int FULL_ALPHA = 0xFF;
+    private static final int MIN_ALPHA = 0x40;
+
+    private final int columns;
+    private final int rows;
+    private final int width;
+    private final int height;
+    private final double alphaPerLogCount;
+    private final int[] counts;
+    private final int[] red;
+    private final int[] green;
+    private final int[] blue;
+    private final int[] pixels;
+    private final Map<String, Integer> colors = new HashMap<>();
+
+    /**
+     * Creates an empty heatmap.
+     * @param columns number of columns of the board.
+     * @param rows    number of rows of the board.
+     * @param width   width of the heatmap in pixels, at most the number of columns.
+     * @param height  height of the heatmap in pixels, at most the number of rows.
+     * @throws IllegalArgumentException when a size is not positive or the heatmap is larger than the board.
+     */
+    public DensityHeatmap(int columns, int rows, int width, int height) {
+        if (width <= 0 || height <= 0 || width > columns || height > rows) {
+            throw new IllegalArgumentException(String.format("Invalid size %d x %d of a heatmap for a board of %d x %d.",
+                                                             width, height, columns, rows));
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.width = width;
+        this.height = height;
+        long cellsPerPixel = (long) ((columns + width - 1) / width) * ((rows + height - 1) / height);
+        alphaPerLogCount = cellsPerPixel == 1 ? 0 : (FULL_ALPHA - MIN_ALPHA) / Math.log(cellsPerPixel);
+        counts = new int[width * height];
+        red = new int[width * height];
+        green = new int[width * height];
+        blue = new int[width * height];
+        pixels = new int[width * height];
+    }
+
+    /**
+     * Removes all objects.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(red, 0);
+        Arrays.fill(green, 0);
+        Arrays.fill(blue, 0);
+    }
+
+    /**
+     * Adds an object.
+     * @param x     X-Coordinate of the object on the board.
+     * @param y     Y-Coordinate of the object on the board.
+     * @param color color of the object, e.g. #0F0.
+     */
+    public void add(int x, int y, String color) {
+        int pixel = (int) ((long) y * height / rows) * width + (int) ((long) x * width / columns);
+        int rgb = colors.computeIfAbsent(color, DensityHeatmap::toRgb);
+        counts[pixel]++;
+        red[pixel] += (rgb >> 16) & 0xFF;
+        green[pixel] += (rgb >> 8) & 0xFF;
+        blue[pixel] += rgb & 0xFF;
+    }
+
+    /**
+     * Calculates the pixels from the added objects.
+     * @return the pixels as ARGB values, row by row.
+     */
+    public int[] toArgb() {
+        for (int pixel = 0; pixel < pixels.length; pixel++) {
+            int count = counts[pixel];
+            if (count == 0) {
+                pixels[pixel] = 0;
+            } else {
+                int alpha = getAlpha(count);
+                pixels[pixel] = alpha << 24 | (red[pixel] / count) << 16 | (green[pixel] / count) << 8 | blue[pixel] / count;
+            }
+        }
+        return pixels;
+    }
+
+    private int getAlpha(int count) {
+        if (alphaPerLogCount == 0) {
+            return FULL_ALPHA;
+        }
+        return (int) Math.min(FULL_ALPHA, MIN_ALPHA + Math.round(alphaPerLogCount * Math.log(count)));
+    }
+
+    /**
+     * Returns the width.
+     * @return width in pixels.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height.
+     * @return height in pixels.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    private static int toRgb(String color) {
+        Color parsed = Color.valueOf(color);
+        return (int) Math.round(parsed.getRed() * 0xFF) << 16
+                | (int) Math.round(parsed.getGreen() * 0xFF) << 8
+                | (int) Math.round(parsed.getBlue() * 0xFF);
+    }
+
+}
@@ -0,0 +1,73 @@
+package ch.zhaw.pm2.life.view;
+
+/**
+ * Reduces the points of a line chart to a fixed number with the Largest-Triangle-Three-Buckets algorithm.
+ * The first and the last point are kept, the points in between are split into equally sized buckets and of every
+ * bucket the point is kept that forms the largest triangle with the point kept before and the average of the next
+ * bucket. Peaks and valleys survive, while a flat line is reduced to a few points.
+ */
+public class Downsampling {
+
+    private Downsampling() {
+    }
+
+    /**
+     * Selects the points to plot.
+     * @param x         X-Coordinates of the points in ascending order.
+     * @param y         Y-Coordinates of the points.
+     * @param size      number of points, at most the length of the arrays.
+     * @param threshold maximal number of points to keep, at least 3.
+     * @return indices of the kept points in ascending order, all indices if there are not more points than the threshold.
+     * @throws IllegalArgumentException when the threshold is less than 3 or the size is larger than an array.
+     */
+    public static int[] largestTriangleThreeBuckets(double[] x, double[] y, int size, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("The threshold must be at least 3.");
+        }
+        if (size < 0 || size > x.length || size > y.length) {
+            throw new IllegalArgumentException(String.format("Invalid number of points %d.", size));
+        }
+        if (size <= threshold) {
+            int[] all = new int[size];
+            for (int index = 0; index < size; index++) {
+                all[index] = index;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+
+            double averageX = 0;
+            double averageY = 0;
+            for (int index = nextStart; index < nextEnd; index++) {
+                averageX += x[index];
+                averageY += y[index];
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            double maxArea = -1;
+            int chosen = start;
+            for (int index = start; index < nextStart; index++) {
+                // twice the area of the triangle, enough to compare
+                double area = Math.abs((x[previous] - averageX) * (y[index] - y[previous])
+                        - (x[previous] - x[index]) * (averageY - y[previous]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = index;
+                }
+            }
+            selected[bucket + 1] = chosen;
+            previous = chosen;
+        }
+        selected[threshold - 1] = size - 1;
+        return selected;
+    }
+
+}
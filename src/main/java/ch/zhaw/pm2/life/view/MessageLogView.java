@@ -0,0 +1,193 @@
+package ch.zhaw.pm2.life.view;
+
+import ch.zhaw.pm2.life.model.EventLog;
+import ch.zhaw.pm2.life.model.GameEvent;
+import javafx.animation.AnimationTimer;
+import javafx.beans.NamedArg;
+import javafx.collections.transformation.FilteredList;
+import javafx.scene.control.CheckMenuItem;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuButton;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Message log at the bottom of the main window. Only the latest messages are kept, the {@link ListView} only
+ * creates cells for the visible messages and the text of a {@link GameEvent} is formatted when its cell is shown.
+ * Messages can be added from any thread, they are appended once per frame while the log is part of a scene.
+ * The log can be filtered by species and by the {@link GameEvent.Type}.
+ */
+public class MessageLogView extends VBox {
+
+    /**
+     * Number of messages kept by default.
+     */
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private static final String ALL_SPECIES = "Alle Spezies";
+    private static final Map<GameEvent.Type, String> TYPE_NAMES = new EnumMap<>(GameEvent.Type.class);
+
+    static {
+        TYPE_NAMES.put(GameEvent.Type.DIED, "Tode");
+        TYPE_NAMES.put(GameEvent.Type.ATE, "Mahlzeiten");
+        TYPE_NAMES.put(GameEvent.Type.MATED, "Paarungen");
+        TYPE_NAMES.put(GameEvent.Type.SPAWNED, "Neue Pflanzen");
+        TYPE_NAMES.put(GameEvent.Type.POISONED, "Vergiftungen");
+        TYPE_NAMES.put(GameEvent.Type.FAILED, "Fehlgeschlagene Aktionen");
+        TYPE_NAMES.put(GameEvent.Type.STOPPED, "Ende der Simulation");
+    }
+
+    private final BoundedObservableList<Entry> entries;
+    private final FilteredList<Entry> filteredEntries;
+    private final ListView<Entry> listView;
+    private final Queue<Entry> pendingEntries = new ConcurrentLinkedQueue<>();
+    private final ComboBox<String> speciesFilter = new ComboBox<>();
+    private final Set<GameEvent.Type> shownTypes = EnumSet.allOf(GameEvent.Type.class);
+    private final AnimationTimer flushTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    /**
+     * Creates a message log with the {@link #DEFAULT_CAPACITY}.
+     */
+    public MessageLogView() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a message log.
+     * @param capacity maximal number of messages kept.
+     * @throws IllegalArgumentException when the capacity is not positive.
+     */
+    public MessageLogView(@NamedArg(value = "capacity", defaultValue = "10000") int capacity) {
+        entries = new BoundedObservableList<>(capacity);
+        filteredEntries = new FilteredList<>(entries);
+        listView = new ListView<>(filteredEntries);
+        VBox.setVgrow(listView, Priority.ALWAYS);
+
+        speciesFilter.getItems().add(ALL_SPECIES);
+        speciesFilter.setValue(ALL_SPECIES);
+        speciesFilter.setOnAction(event -> updateFilter());
+
+        MenuButton typeFilter = new MenuButton("Ereignisse");
+        TYPE_NAMES.forEach((type, name) -> {
+            CheckMenuItem item = new CheckMenuItem(name);
+            item.setSelected(true);
+            item.setOnAction(event -> {
+                if (item.isSelected()) {
+                    shownTypes.add(type);
+                } else {
+                    shownTypes.remove(type);
+                }
+                updateFilter();
+            });
+            typeFilter.getItems().add(item);
+        });
+
+        HBox filterBar = new HBox(5, new Label("Filter:"), speciesFilter, typeFilter);
+        getChildren().addAll(filterBar, listView);
+
+        // the timer only runs while the log is shown, so a removed log does not keep it alive
+        sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) {
+                flushTimer.stop();
+            } else {
+                flushTimer.start();
+            }
+        });
+    }
+
+    /**
+     * Sets the species that can be chosen in the filter.
+     * @param species names of the species.
+     */
+    public void setSpecies(Collection<String> species) {
+        speciesFilter.getItems().setAll(ALL_SPECIES);
+        speciesFilter.getItems().addAll(species);
+        speciesFilter.setValue(ALL_SPECIES);
+    }
+
+    /**
+     * Adds a message that does not belong to an event, e.g. a changed setting. It is always shown.
+     * @param message message to add.
+     */
+    public void addMessage(String message) {
+        pendingEntries.add(new Entry(null, message.strip()));
+    }
+
+    /**
+     * Adds the events of an {@link EventLog} from a sequence number on.
+     * @param eventLog {@link EventLog} of the game.
+     * @param from     sequence number of the first event to add.
+     * @return the sequence number to continue with.
+     */
+    public long addEvents(EventLog eventLog, long from) {
+        return eventLog.forEachSince(from, event -> pendingEntries.add(new Entry(event, null)));
+    }
+
+    /**
+     * Returns the maximal number of messages kept.
+     * @return capacity as int.
+     */
+    public int getCapacity() {
+        return entries.getCapacity();
+    }
+
+    private void flush() {
+        if (pendingEntries.isEmpty()) {
+            return;
+        }
+        List<Entry> batch = new ArrayList<>();
+        Entry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            batch.add(entry);
+        }
+        entries.append(batch);
+        if (!filteredEntries.isEmpty()) {
+            listView.scrollTo(filteredEntries.size() - 1);
+        }
+    }
+
+    private void updateFilter() {
+        String species = speciesFilter.getValue();
+        boolean allSpecies = species == null || ALL_SPECIES.equals(species);
+        filteredEntries.setPredicate(entry -> entry.event == null
+                || shownTypes.contains(entry.event.getType())
+                && (allSpecies || species.equals(entry.event.getActorName()) || species.equals(entry.event.getTargetName())));
+    }
+
+    private static class Entry {
+        private final GameEvent event;
+        private String text;
+
+        private Entry(GameEvent event, String text) {
+            this.event = event;
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            if (text == null) {
+                text = event.format().strip();
+            }
+            return text;
+        }
+    }
+
+}
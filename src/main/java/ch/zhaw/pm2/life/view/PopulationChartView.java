@@ -0,0 +1,107 @@
+package ch.zhaw.pm2.life.view;
+
+import ch.zhaw.pm2.life.model.PopulationHistory;
+import javafx.scene.Scene;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows the population and the average energy of every species while the simulation runs.
+ * The charts are fed from a {@link PopulationHistory}, whose samples are reduced to at most {@value #MAX_POINTS}
+ * points per line with {@link Downsampling#largestTriangleThreeBuckets(double[], double[], int, int)},
+ * so drawing the charts takes the same time after a million ticks as after a hundred.
+ */
+public class PopulationChartView extends Stage {
+
+    /**
+     * Maximal number of points per line.
+     */
+    public static final int MAX_POINTS = 2000;
+
+    private static final int MIN_WIDTH = 800;
+    private static final int MIN_HEIGHT = 600;
+
+    private final LineChart<Number, Number> populationChart = createChart("Anzahl");
+    private final LineChart<Number, Number> energyChart = createChart("Durchschnittliche Energie");
+    private final Map<String, XYChart.Series<Number, Number>> populationSeries = new HashMap<>();
+    private final Map<String, XYChart.Series<Number, Number>> energySeries = new HashMap<>();
+
+    /**
+     * Creates the view with empty charts.
+     */
+    public PopulationChartView() {
+        VBox charts = new VBox(populationChart, energyChart);
+        VBox.setVgrow(populationChart, Priority.ALWAYS);
+        VBox.setVgrow(energyChart, Priority.ALWAYS);
+
+        setTitle("Live-Statistik");
+        setScene(new Scene(charts, MIN_WIDTH, MIN_HEIGHT));
+        setMinWidth(MIN_WIDTH);
+        setMinHeight(MIN_HEIGHT);
+    }
+
+    private static LineChart<Number, Number> createChart(String label) {
+        NumberAxis xAxis = new NumberAxis();
+        xAxis.setLabel("Tick");
+        xAxis.setForceZeroInRange(false);
+        NumberAxis yAxis = new NumberAxis();
+        yAxis.setLabel(label);
+
+        LineChart<Number, Number> chart = new LineChart<>(xAxis, yAxis);
+        chart.setAnimated(false);
+        chart.setCreateSymbols(false);
+        return chart;
+    }
+
+    /**
+     * Shows the current samples of a history, must be called on the JavaFX thread.
+     * @param history {@link PopulationHistory} of the simulation.
+     */
+    public void update(PopulationHistory history) {
+        PopulationHistory samples = history.copy();
+        long[] ticks = samples.getTicks();
+        double[] x = new double[ticks.length];
+        for (int sample = 0; sample < ticks.length; sample++) {
+            x[sample] = ticks[sample];
+        }
+        for (String species : samples.getSpecies()) {
+            int[] population = samples.getPopulation(species);
+            double[] y = new double[population.length];
+            for (int sample = 0; sample < population.length; sample++) {
+                y[sample] = population[sample];
+            }
+            setData(getSeries(populationChart, populationSeries, species), x, y);
+            setData(getSeries(energyChart, energySeries, species), x, samples.getAverageEnergies(species));
+        }
+    }
+
+    private static XYChart.Series<Number, Number> getSeries(LineChart<Number, Number> chart,
+                                                           Map<String, XYChart.Series<Number, Number>> series,
+                                                           String species) {
+        return series.computeIfAbsent(species, name -> {
+            XYChart.Series<Number, Number> speciesSeries = new XYChart.Series<>();
+            speciesSeries.setName(name);
+            chart.getData().add(speciesSeries);
+            return speciesSeries;
+        });
+    }
+
+    private static void setData(XYChart.Series<Number, Number> series, double[] x, double[] y) {
+        int[] points = Downsampling.largestTriangleThreeBuckets(x, y, x.length, MAX_POINTS);
+        List<XYChart.Data<Number, Number>> data = new ArrayList<>(points.length);
+        for (int point : points) {
+            data.add(new XYChart.Data<>(x[point], y[point]));
+        }
+        series.getData().setAll(data);
+    }
+
+}
@@ -1,9 +1,8 @@
 package ch.zhaw.pm2.life.view;
 
 import ch.zhaw.pm2.life.model.GameObject;
-import ch.zhaw.pm2.life.model.lifeform.LifeForm;
+import ch.zhaw.pm2.life.model.PopulationCounter.Category;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
@@ -11,11 +10,12 @@ import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.stage.Stage;
 
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This class displays the statistics of all the {@link GameObject} at the end of the simulation.
@@ -27,108 +27,75 @@ import java.util.Set;
  *  <li>deaths</li>
  *  <li>survivors</li>
  * </ul>
+ * The chart is built once and filled with the counts per species, one bar per species and category,
+ * so the size of the chart does not depend on how many life forms lived during the simulation.
  */
 public class StatisticView extends Stage {
 
     private static final int MIN_WIDTH = 800;
     private static final int MIN_HEIGHT = 600;
-    private Collection<LifeForm> startCount = Collections.emptySet();
-    private Collection<LifeForm> survivorCount = Collections.emptySet();
-    private Collection<LifeForm> deathCount = Collections.emptySet();
-    private Collection<LifeForm> birthCount = Collections.emptySet();
-    private Collection<LifeForm> spawnCount = Collections.emptySet();
-
-    /**
-     * Initialize the statistics view.
-     * @param parentStage the parent {@link Stage}
-     * @param species the species displayed in the statstics.
-     */
-    public void initChart(Stage parentStage, Set<String> species) {
-        setTitle("Gesamtstatistik");
-        setScene(new Scene(getChart(species), MIN_WIDTH, MIN_HEIGHT));
-        setMinWidth(MIN_WIDTH);
-        setMinHeight(MIN_HEIGHT);
-        setAlwaysOnTop(true);
-        initOwner(parentStage);
+    private static final Map<Category, String> CATEGORY_NAMES = new EnumMap<>(Category.class);
+
+    static {
+        CATEGORY_NAMES.put(Category.START, "Start");
+        CATEGORY_NAMES.put(Category.BORN, "Geburten");
+        CATEGORY_NAMES.put(Category.SPAWNED, "Gespawned");
+        CATEGORY_NAMES.put(Category.DIED, "Tode");
+        CATEGORY_NAMES.put(Category.ALIVE, "Ueberlebende");
     }
 
-    private BarChart<Number, String> getChart(Set<String> species) {
-        Map<String, Collection<LifeForm>> categoryMap = new HashMap<>();
-        categoryMap.put("Start", startCount);
-        categoryMap.put("Ueberlebende", survivorCount);
-        categoryMap.put("Geburten", birthCount);
-        categoryMap.put("Tode", deathCount);
-        categoryMap.put("Gespawned", spawnCount);
+    private final CategoryAxis yAxis = new CategoryAxis();
+    private final Map<Category, XYChart.Series<Number, String>> categorySeries = new EnumMap<>(Category.class);
+    private Map<Category, Map<String, Integer>> counts = Collections.emptyMap();
 
+    /**
+     * Creates the statistics view with an empty chart.
+     */
+    public StatisticView() {
         NumberAxis xAxis = new NumberAxis();
         xAxis.setLabel("Anzahl");
-
-        CategoryAxis yAxis = new CategoryAxis();
         yAxis.setLabel("Spezien");
-        yAxis.setCategories(FXCollections.observableArrayList(species));
 
         BarChart<Number, String> overallStatistic = new BarChart<>(xAxis, yAxis);
-        categoryMap.forEach((category, collection) -> {
+        CATEGORY_NAMES.forEach((category, name) -> {
             XYChart.Series<Number, String> categorySerie = new XYChart.Series<>();
-            categorySerie.setName(category);
-            species.forEach(s -> categorySerie.getData().addAll(loadData(s, collection)));
+            categorySerie.setName(name);
+            categorySeries.put(category, categorySerie);
             overallStatistic.getData().add(categorySerie);
         });
-        overallStatistic.autosize();
-        return overallStatistic;
-    }
-
-    private Collection<XYChart.Data<Number, String>> loadData(String species, Collection<LifeForm> collection) {
-        ObservableList<XYChart.Data<Number, String>> data = FXCollections.observableArrayList();
-        collection.forEach(lifeForm -> data.add(new XYChart.Data<>(countByName(species, collection), species)));
-        return data;
-    }
-
-    private long countByName(String name, Collection<LifeForm> collection) {
-        return collection.stream()
-                .map(LifeForm::getName)
-                .filter(n -> n.equals(name))
-                .count();
-    }
 
-    /**
-     * Sets the start count.
-     * @param startCount {@link Collection<LifeForm>}
-     */
-    public void setStartLifeForms(Collection<LifeForm> startCount) {
-        this.startCount = Collections.unmodifiableCollection(startCount);
-    }
-
-    /**
-     * Sets the Lifeforms that survived.
-     * @param survivorCount {@link Collection<LifeForm>}
-     */
-    public void setSurvivedLifeForms(Collection<LifeForm> survivorCount) {
-        this.survivorCount = Collections.unmodifiableCollection(survivorCount);
-    }
-
-    /**
-     * Sets the Lifeforms that died.
-     * @param deathCount {@link Collection<LifeForm>}
-     */
-    public void setDiedLifeForms(Collection<LifeForm> deathCount) {
-        this.deathCount = Collections.unmodifiableCollection(deathCount);
+        setTitle("Gesamtstatistik");
+        setScene(new Scene(overallStatistic, MIN_WIDTH, MIN_HEIGHT));
+        setMinWidth(MIN_WIDTH);
+        setMinHeight(MIN_HEIGHT);
+        setAlwaysOnTop(true);
     }
 
     /**
-     * Sets the Lifeforms that were born.
-     * @param birthCount {@link Collection<LifeForm>}
+     * Initialize the statistics view.
+     * @param parentStage the parent {@link Stage}, only set the first time since the owner of a stage cannot change.
+     * @param species the species displayed in the statstics.
      */
-    public void setBornLifeForms(Collection<LifeForm> birthCount) {
-        this.birthCount = Collections.unmodifiableCollection(birthCount);
+    public void initChart(Stage parentStage, Set<String> species) {
+        if (getOwner() == null) {
+            initOwner(parentStage);
+        }
+        yAxis.setCategories(FXCollections.observableArrayList(species));
+        categorySeries.forEach((category, categorySerie) -> {
+            Map<String, Integer> categoryCounts = counts.getOrDefault(category, Collections.emptyMap());
+            List<XYChart.Data<Number, String>> data = species.stream()
+                    .map(s -> new XYChart.Data<Number, String>(categoryCounts.getOrDefault(s, 0), s))
+                    .collect(Collectors.toList());
+            categorySerie.getData().setAll(data);
+        });
     }
 
     /**
-     * Sets the Lifeforms that spawned.
-     * @param spawnCount {@link Collection<LifeForm>}
+     * Sets the counts that are displayed.
+     * @param counts number of life forms per species for every {@link Category}.
      */
-    public void setSpawnLifeForms(Collection<LifeForm> spawnCount) {
-        this.spawnCount = spawnCount;
+    public void setCounts(Map<Category, Map<String, Integer>> counts) {
+        this.counts = Collections.unmodifiableMap(counts);
     }
 
 }
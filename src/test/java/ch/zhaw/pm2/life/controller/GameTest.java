@@ -4,6 +4,9 @@ import ch.zhaw.pm2.life.exception.LifeFormException;
 import ch.zhaw.pm2.life.model.Board;
 import ch.zhaw.pm2.life.model.GameObject;
 import ch.zhaw.pm2.life.model.GameProperties;
+import ch.zhaw.pm2.life.model.PopulationCounter;
+import ch.zhaw.pm2.life.model.SimulationRandom;
+import ch.zhaw.pm2.life.model.StopCondition;
 import ch.zhaw.pm2.life.model.Vector2D;
 import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
 import ch.zhaw.pm2.life.model.lifeform.animal.Carnivore;
@@ -16,9 +19,12 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -41,6 +47,7 @@ public class GameTest {
     private static final String ANIMAL = "animal";
     private static final String MALE = "M";
     private static final String FEMALE = "F";
+    private static final long SEED = 42;
 
     @Mock private Board board;
 
@@ -52,6 +59,7 @@ public class GameTest {
         MockitoAnnotations.initMocks(this);
         when(board.getRows()).thenReturn(NUM_OF_ROWS);
         when(board.getColumns()).thenReturn(NUM_OF_COLUMNS);
+        when(board.getSimulationRandom()).thenReturn(new SimulationRandom(SEED));
     }
 
     //==================================================================================================================
@@ -74,6 +82,19 @@ public class GameTest {
         return new GameProperties(initMap);
     }
 
+    private void stubBoardLookups(Set<GameObject> gameObjects) {
+        when(board.getAnimalObjects()).thenAnswer(invocation -> gameObjects.stream()
+                .filter(AnimalObject.class::isInstance)
+                .map(AnimalObject.class::cast)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+        when(board.getAllGameObjects(notNull())).thenAnswer(invocation -> {
+            Vector2D position = invocation.getArgument(0);
+            return gameObjects.stream()
+                    .filter(gameObject -> position.equals(gameObject.getPosition()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        });
+    }
+
     @Test
     public void testConstructorInit() {
         // prepare
@@ -89,7 +110,7 @@ public class GameTest {
         }
         when(board.getGameObjects()).thenReturn(dummyGameObjectsSet);
         when(board.getOccupiedPositions()).thenReturn(dummyPositionsSet);
-        when(board.getRandomPosition()).thenAnswer(invocation -> {
+        when(board.getRandomFreePosition()).thenAnswer(invocation -> {
             int x = random.nextInt(NUM_OF_COLUMNS);
             int y = random.nextInt(NUM_OF_ROWS);
             return new Vector2D(x, y);
@@ -148,7 +169,7 @@ public class GameTest {
 
         when(board.getGameObjects()).thenReturn(dummyGameObjectsSet);
         when(board.getOccupiedPositions()).thenReturn(dummyPositionsSet);
-        when(board.isSpeciesAlive(null)).thenReturn(true);
+        stubBoardLookups(dummyGameObjectsSet);
 
         game = new Game(board, getGameProperties(1, 0, 1));
 
@@ -157,7 +178,7 @@ public class GameTest {
 
         // verifies and assertions
         verify(animalObject, times(1)).eat(plant);
-        verify(animalObject, times(1)).move(anySet());
+        verify(animalObject, times(1)).nextPosition(anySet());
 
         assertEquals(animalObject.getName() + ": Das war lecker (" + plant.getName() + ")!\n", messageLog);
         dummyGameObjectsSet.remove(plant);
@@ -198,7 +219,7 @@ public class GameTest {
         // Sets and game init
         when(board.getGameObjects()).thenReturn(dummyGameObjectsSet);
         when(board.getOccupiedPositions()).thenReturn(dummyPositionsSet);
-        when(board.isSpeciesAlive(null)).thenReturn(true);
+        stubBoardLookups(dummyGameObjectsSet);
 
         game = new Game(board, getGameProperties(1, 0, 1));
 
@@ -207,9 +228,9 @@ public class GameTest {
 
         // verifies and assertions
         verify(carnivoreOne, times(1)).eat(carnivoreTwo);
-        verify(carnivoreOne, times(1)).move(anySet());
+        verify(carnivoreOne, times(1)).nextPosition(anySet());
         verify(carnivoreTwo, times(1)).eat(carnivoreOne);
-        verify(carnivoreTwo, times(1)).move(anySet());
+        verify(carnivoreTwo, times(1)).nextPosition(anySet());
 
         String firstEatsSecondMessage = carnivoreOne.getName() + ": Das war lecker (" + carnivoreTwo.getName() + ")!\n";
 
@@ -269,7 +290,7 @@ public class GameTest {
         //board mock
         when(board.getGameObjects()).thenReturn(dummyGameObjectsSet);
         when(board.getOccupiedPositions()).thenReturn(dummyPositionsSet);
-        when(board.isSpeciesAlive(null)).thenReturn(true);
+        stubBoardLookups(dummyGameObjectsSet);
 
         game = new Game(board, getGameProperties(0, 0, 2));
 
@@ -280,8 +301,8 @@ public class GameTest {
         verify(herbivoreMale, times(0)).eat(herbivoreFemale);
         verify(herbivoreMale, times(1)).reproduce(herbivoreFemale);
         verify(herbivoreFemale, times(1)).reproduce(herbivoreMale);
-        verify(herbivoreMale, times(1)).move(anySet());
-        verify(herbivoreFemale, times(1)).move(anySet());
+        verify(herbivoreMale, times(1)).nextPosition(anySet());
+        verify(herbivoreFemale, times(1)).nextPosition(anySet());
 
         assertThat(messageLog, anyOf(is(herbivoreFemale.getName() + ": Wir haben uns soeben gepaart\nKann keine Kinder gebaeren, weil ich ein Maennchen bin.\r\n"),
                                           is("Kann keine Kinder gebaeren, weil ich ein Maennchen bin.\r\n" + herbivoreFemale.getName() + ": Wir haben uns soeben gepaart\n")));
@@ -322,7 +343,7 @@ public class GameTest {
         //board mock
         when(board.getGameObjects()).thenReturn(dummyGameObjectsSet);
         when(board.getOccupiedPositions()).thenReturn(dummyPositionsSet);
-        when(board.isSpeciesAlive(null)).thenReturn(true);
+        stubBoardLookups(dummyGameObjectsSet);
 
         game = new Game(board, getGameProperties(0, 0, 2));
 
@@ -330,8 +351,8 @@ public class GameTest {
         String messageLog = game.nextMove();
 
         // verifies and assertions
-        verify(animalObjectOne, times(1)).move(anySet());
-        verify(animalObjectTwo, times(1)).move(anySet());
+        verify(animalObjectOne, times(1)).nextPosition(anySet());
+        verify(animalObjectTwo, times(1)).nextPosition(anySet());
 
         assertEquals( "", messageLog);
         assertEquals(2, board.getGameObjects().size());
@@ -358,9 +379,9 @@ public class GameTest {
         //board mock
         when(board.getGameObjects()).thenReturn(dummyGameObjectsSet);
         when(board.getOccupiedPositions()).thenReturn(dummyPositionsSet);
-        when(board.isSpeciesAlive(null)).thenReturn(false);
 
         game = new Game(board, getGameProperties(0, 1, 0));
+        game.setStopCondition(StopCondition.extinct(HERBIVORE));
 
         // execute
         String messageLog = game.nextMove();
@@ -395,7 +416,7 @@ public class GameTest {
         //board mock
         when(board.getGameObjects()).thenReturn(dummyGameObjectsSet);
         when(board.getOccupiedPositions()).thenReturn(dummyPositionsSet);
-        when(board.isSpeciesAlive(null)).thenReturn(true);
+        stubBoardLookups(dummyGameObjectsSet);
 
 
         game = new Game(board, getGameProperties(0, 1, 0));
@@ -404,14 +425,91 @@ public class GameTest {
         String messageLog = game.nextMove();
 
         // verifies and assertions
-        verify(carnivore, times(1)).move(anySet());
+        verify(carnivore, times(1)).nextPosition(anySet());
         assertEquals(carnivore.getName() + ": ist vor Ermuedung gestorben.\r\n", messageLog);
+        assertEquals(Map.of(CARNIVORE, 1), game.getDeadLifeForms());
         dummyPositionsSet.remove(carnivore.getPosition());
         assertEquals(0, board.getOccupiedPositions().size());
         dummyGameObjectsSet.remove(carnivore);
         assertEquals(0, board.getGameObjects().size());
     }
 
+    @Test
+    public void testSameSeedSameRun() {
+        Game first = createSeededGame();
+        Game second = createSeededGame();
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.nextMove(), second.nextMove());
+        }
+        assertEquals(first.getDeadLifeForms(), second.getDeadLifeForms());
+        assertEquals(first.getBornLifeForms(), second.getBornLifeForms());
+        assertEquals(first.getPopulationCounts(), second.getPopulationCounts());
+    }
+
+    @Test
+    public void testRepeatsNotMetWhilePlantsCanSpawn() {
+        // the plants die after two ticks, so the board is often empty but new plants keep spawning
+        GameObject plant = new Plant();
+        plant.setName(PLANT);
+        plant.setEnergy(1);
+        Map<GameObject, Integer> initMap = new LinkedHashMap<>();
+        initMap.put(plant, 1);
+        Game plantGame = new Game(new Board(4, 4, new SimulationRandom(SEED)), new GameProperties(initMap));
+        plantGame.setStopCondition(StopCondition.repeats(1000));
+
+        for (int i = 0; i < 200; i++) {
+            plantGame.advance();
+        }
+        assertTrue(plantGame.isOngoing());
+    }
+
+    @Test
+    public void testRenameSpeciesThenSpawn() {
+        // the start plant is gone before the rename, the spawned plants are created from the renamed species
+        GameObject plant = new Plant();
+        plant.setName(PLANT);
+        plant.setEnergy(1);
+        Map<GameObject, Integer> initMap = new LinkedHashMap<>();
+        initMap.put(plant, 1);
+        Board plantBoard = new Board(4, 4, new SimulationRandom(SEED));
+        Game plantGame = new Game(plantBoard, new GameProperties(initMap));
+        plantGame.setStopCondition(StopCondition.never());
+
+        for (int i = 0; i < 5; i++) {
+            plantGame.advance();
+        }
+        plantGame.renameSpecies(PLANT, "Gras");
+        for (int i = 0; i < 50; i++) {
+            plantGame.advance();
+        }
+        Map<String, Integer> spawned = plantGame.getPopulationCounts().get(PopulationCounter.Category.SPAWNED);
+        assertThat(spawned.get("Gras"), greaterThan(0));
+        assertThat(spawned, not(hasKey(PLANT)));
+        assertTrue(plantBoard.getGameObjects().stream().allMatch(gameObject -> gameObject.getName().equals("Gras")));
+        assertTrue(plantGame.isOngoing());
+    }
+
+    private Game createSeededGame() {
+        GameObject plant = new Plant();
+        plant.setName(PLANT);
+        plant.setEnergy(10);
+        GameObject carnivore = new Carnivore();
+        carnivore.setName(CARNIVORE);
+        carnivore.setEnergy(10);
+        GameObject herbivore = new Herbivore();
+        herbivore.setName(HERBIVORE);
+        herbivore.setEnergy(10);
+
+        Map<GameObject, Integer> initMap = new LinkedHashMap<>();
+        initMap.put(plant, 20);
+        initMap.put(carnivore, 5);
+        initMap.put(herbivore, 20);
+        Game seededGame = new Game(new Board(16, 16, new SimulationRandom(SEED)), new GameProperties(initMap));
+        seededGame.setStopCondition(StopCondition.extinct(HERBIVORE));
+        return seededGame;
+    }
+
     //==================================================================================================================
     // Negative tests
     //==================================================================================================================
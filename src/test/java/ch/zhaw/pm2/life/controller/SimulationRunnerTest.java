@@ -0,0 +1,80 @@
+package ch.zhaw.pm2.life.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationRunnerTest {
+
+    private static final int TICKS = 50;
+
+    private AtomicInteger ticks;
+    private SimulationRunner simulationRunner;
+
+    @BeforeEach
+    public void setUp() {
+        ticks = new AtomicInteger();
+        simulationRunner = new SimulationRunner(ticks::incrementAndGet, () -> ticks.get() < TICKS);
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testStep() {
+        simulationRunner.step();
+
+        assertEquals(1, ticks.get());
+        assertEquals(1, simulationRunner.getTickCount());
+        assertFalse(simulationRunner.isRunning());
+    }
+
+    @Test
+    public void testRunUntilFinished() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        simulationRunner.setOnFinished(finished::countDown);
+        simulationRunner.setTargetRate(SimulationRunner.UNLIMITED);
+
+        simulationRunner.start();
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(TICKS, simulationRunner.getTickCount());
+        assertFalse(simulationRunner.isRunning());
+    }
+
+    @Test
+    public void testPause() {
+        simulationRunner.setTargetRate(SimulationRunner.MIN_RATE);
+        simulationRunner.start();
+        assertTrue(simulationRunner.isRunning());
+
+        simulationRunner.pause();
+        long tickCount = simulationRunner.getTickCount();
+        assertFalse(simulationRunner.isRunning());
+        assertTrue(tickCount < TICKS);
+        assertEquals(tickCount, ticks.get());
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidTargetRate() {
+        assertThrows(IllegalArgumentException.class, () -> simulationRunner.setTargetRate(0.5));
+        assertThrows(IllegalArgumentException.class, () -> simulationRunner.setTargetRate(Double.NaN));
+    }
+
+    @Test
+    public void testConstructorNull() {
+        assertThrows(NullPointerException.class, () -> new SimulationRunner(null, () -> true));
+        assertThrows(NullPointerException.class, () -> new SimulationRunner(() -> { }, null));
+    }
+
+}
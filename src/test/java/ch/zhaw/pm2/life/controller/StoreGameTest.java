@@ -0,0 +1,161 @@
+package ch.zhaw.pm2.life.controller;
+
+import ch.zhaw.pm2.life.model.EntityStore;
+import ch.zhaw.pm2.life.model.GameObject;
+import ch.zhaw.pm2.life.model.GameProperties;
+import ch.zhaw.pm2.life.model.SimulationRandom;
+import ch.zhaw.pm2.life.model.StopCondition;
+import ch.zhaw.pm2.life.model.lifeform.animal.Carnivore;
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StoreGameTest {
+
+    private static final int BOARD_SIZE = 3;
+    private static final String SCHAF = "Schaf";
+    private static final String WOLF = "Wolf";
+    private static final String GRAS = "Gras";
+    private static final int SHEEP_ENERGY = 6;
+    private static final int GRASS_ENERGY = 20;
+    private static final long SEED = 42;
+
+    private EntityStore store;
+    private Herbivore sheep;
+    private Carnivore wolf;
+    private Plant grass;
+
+    @BeforeEach
+    public void setUp() {
+        store = new EntityStore(BOARD_SIZE, BOARD_SIZE);
+
+        sheep = new Herbivore();
+        sheep.setName(SCHAF);
+        sheep.setEnergy(SHEEP_ENERGY);
+        wolf = new Carnivore();
+        wolf.setName(WOLF);
+        wolf.setEnergy(7);
+        grass = new Plant();
+        grass.setName(GRAS);
+        grass.setEnergy(GRASS_ENERGY);
+    }
+
+    private StoreGame createGame(int numOfSheep, int numOfWolves, int numOfGrass) {
+        Map<GameObject, Integer> initMap = new LinkedHashMap<>();
+        initMap.put(sheep, numOfSheep);
+        initMap.put(wolf, numOfWolves);
+        initMap.put(grass, numOfGrass);
+        StoreGame game = new StoreGame(store, new GameProperties(initMap), new SimulationRandom(SEED));
+        game.setStopCondition(StopCondition.extinct(SCHAF));
+        return game;
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testInitialPlacement() {
+        StoreGame game = createGame(2, 3, 4);
+
+        assertEquals(9, store.size());
+        assertEquals(9, store.getOccupiedCellCount());
+        assertEquals(2, game.getStartCount(SCHAF));
+        assertEquals(3, game.getSurvivedCount(WOLF));
+        assertEquals(4, game.getStartCount(GRAS));
+    }
+
+    @Test
+    public void testPlacementFillsLargeBoard() {
+        // the last free cells are rarely hit by chance and are found by the scan
+        store = new EntityStore(20, 20);
+        StoreGame game = createGame(0, 0, 400);
+
+        assertEquals(400, store.getOccupiedCellCount());
+        assertEquals(400, game.getStartCount(GRAS));
+    }
+
+    @Test
+    public void testHerbivoreEatsPlant() {
+        StoreGame game = createGame(0, 0, 0);
+        int animal = store.add(store.getSpeciesId(SCHAF), 1, 1, SHEEP_ENERGY, true, false);
+        store.add(store.getSpeciesId(GRAS), 1, 1, GRASS_ENERGY, false, false);
+
+        game.nextMove();
+
+        // the plant decays by one before it is eaten and the herbivore does not move
+        assertEquals(SHEEP_ENERGY + GRASS_ENERGY - 1, store.getEnergy(animal));
+        assertEquals(1, game.getDeadCount(GRAS));
+        assertEquals(0, game.getSurvivedCount(GRAS));
+    }
+
+    @Test
+    public void testReproduction() {
+        StoreGame game = createGame(0, 0, 0);
+        int female = store.add(store.getSpeciesId(SCHAF), 1, 1, SHEEP_ENERGY, false, false);
+        store.add(store.getSpeciesId(SCHAF), 1, 1, SHEEP_ENERGY, true, false);
+        store.add(store.getSpeciesId(GRAS), 1, 1, GRASS_ENERGY, false, false);
+        store.setFertilityThreshold(female, 8);
+
+        game.nextMove();
+
+        assertEquals(1, game.getBornCount(SCHAF));
+        assertEquals(3, game.getSurvivedCount(SCHAF));
+        assertEquals(0, store.getFertilityThreshold(female));
+    }
+
+    @Test
+    public void testStopWhenSpeciesExtinct() {
+        StoreGame game = createGame(0, 1, 1);
+
+        game.nextMove();
+        assertFalse(game.isOngoing());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    public void testSameSeedSameRun() {
+        StoreGame first = createGame(2, 1, 3);
+        EntityStore firstStore = store;
+        store = new EntityStore(BOARD_SIZE, BOARD_SIZE);
+        StoreGame second = createGame(2, 1, 3);
+
+        for (int i = 0; i < 20; i++) {
+            first.nextMove();
+            second.nextMove();
+            assertEquals(firstStore.size(), store.size());
+            for (int slot = 0; slot < store.getCapacity(); slot++) {
+                assertEquals(firstStore.isUsed(slot), store.isUsed(slot));
+                if (store.isUsed(slot)) {
+                    assertEquals(firstStore.getCellIndex(firstStore.getX(slot), firstStore.getY(slot)),
+                                 store.getCellIndex(store.getX(slot), store.getY(slot)));
+                    assertEquals(firstStore.getEnergy(slot), store.getEnergy(slot));
+                }
+            }
+        }
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testConstructorNull() {
+        GameProperties gameProperties = new GameProperties(Map.of());
+        assertThrows(NullPointerException.class, () -> new StoreGame(null, gameProperties));
+        assertThrows(NullPointerException.class, () -> new StoreGame(store, null));
+    }
+
+    @Test
+    public void testTooManyGameObjects() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> createGame(5, 5, 0));
+        assertEquals("Number of game objects exceed the number of available field.", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,111 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardSnapshotTest {
+
+    private static final int BOARD_SIZE = 4;
+
+    private Board board;
+    private Plant plant;
+    private Herbivore herbivore;
+
+    @BeforeEach
+    public void setUp() {
+        board = new Board(BOARD_SIZE, BOARD_SIZE, new SimulationRandom(1));
+        plant = new Plant();
+        plant.setColor("#00FF00");
+        herbivore = new Herbivore();
+        herbivore.setColor("#0000FF");
+        board.addGameObject(herbivore, new Vector2D(3, 2));
+        board.addGameObject(plant, new Vector2D(1, 0));
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testObjectsSortedByCell() {
+        BoardSnapshot snapshot = board.publishSnapshot();
+
+        assertEquals(2, snapshot.getObjectCount());
+        assertEquals(1, snapshot.getX(0));
+        assertEquals(0, snapshot.getY(0));
+        assertEquals("#00FF00", snapshot.getColor(0));
+        assertEquals(3, snapshot.getX(1));
+        assertEquals(2, snapshot.getY(1));
+        assertEquals("#0000FF", snapshot.getColor(1));
+    }
+
+    @Test
+    public void testAttributes() {
+        BoardSnapshot snapshot = board.publishSnapshot();
+
+        assertEquals(plant.getEnergy(), snapshot.getEnergy(0));
+        assertEquals(plant.getSize(), snapshot.getSize(0));
+        assertTrue(snapshot.isLifeForm(0));
+        assertFalse(snapshot.isAnimal(0));
+        assertEquals(plant.isPoisonous(), snapshot.isPoisonous(0));
+
+        assertTrue(snapshot.isAnimal(1));
+        assertEquals(herbivore.getGender(), snapshot.getGender(1));
+        assertEquals(herbivore.getFertilityThreshold(), snapshot.getFertilityThreshold(1));
+        assertEquals(herbivore.isPoisoned(), snapshot.isPoisoned(1));
+    }
+
+    @Test
+    public void testUnchangedByLaterTicks() {
+        BoardSnapshot snapshot = board.publishSnapshot();
+        int energy = plant.getEnergy();
+
+        plant.increaseEnergy(3);
+        herbivore.setPosition(new Vector2D(0, 0));
+
+        assertEquals(energy, snapshot.getEnergy(0));
+        assertEquals(3, snapshot.getX(1));
+        assertEquals(0, board.publishSnapshot().getCell(0));
+    }
+
+    @Test
+    public void testGetFirstObject() {
+        board.addGameObject(new Plant(), new Vector2D(1, 0));
+        BoardSnapshot snapshot = board.publishSnapshot();
+
+        assertEquals(0, snapshot.getFirstObject(0));
+        assertEquals(0, snapshot.getFirstObject(1));
+        assertEquals(2, snapshot.getFirstObject(2));
+        assertEquals(2, snapshot.getFirstObject(2 * BOARD_SIZE + 3));
+        assertEquals(3, snapshot.getFirstObject(BOARD_SIZE * BOARD_SIZE - 1));
+    }
+
+    @Test
+    public void testHugeBoard() {
+        board = new Board(100_000, 100_000, new SimulationRandom(1));
+        board.addGameObject(plant, new Vector2D(99_999, 99_999));
+        board.addGameObject(herbivore, new Vector2D(0, 50_000));
+        BoardSnapshot snapshot = board.publishSnapshot();
+
+        assertEquals(50_000L * 100_000, snapshot.getCell(0));
+        assertEquals(99_999, snapshot.getX(1));
+        assertEquals(99_999, snapshot.getY(1));
+        assertEquals(1, snapshot.getFirstObject(50_000L * 100_000 + 1));
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidObject() {
+        BoardSnapshot snapshot = board.publishSnapshot();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getEnergy(2));
+    }
+
+}
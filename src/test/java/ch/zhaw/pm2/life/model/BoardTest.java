@@ -10,7 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.*;
@@ -24,6 +26,7 @@ public class BoardTest {
     private static final String ILLEGAL_POSITION_MESSAGE = "The position %s of the provided game object does not exist on the board.";
     private static final String WOLF = "Wolf";
     private static final String SCHAF = "Schaf";
+    private static final String GRAS = "Gras";
 
     private Board board;
 
@@ -122,8 +125,8 @@ public class BoardTest {
         verify(secondLifeForm, times(1)).isDead();
         verify(thirdLifeForm, times(1)).isDead();
         verify(firstLifeForm, times(3)).getPosition();
-        verify(secondLifeForm, times(3)).getPosition();
-        verify(thirdLifeForm, times(3)).getPosition();
+        verify(secondLifeForm, times(2)).getPosition();
+        verify(thirdLifeForm, times(2)).getPosition();
         assertEquals(2, board.getGameObjects().size());
         assertEquals(1, board.getOccupiedPositions().size()); // second and third on same position
         assertTrue(gameObjects.containsAll(board.getGameObjects()));
@@ -189,6 +192,272 @@ public class BoardTest {
         assertTrue(expectedSet.containsAll(result));
     }
 
+    @Test
+    public void testMoveUpdatesGrid() {
+        Vector2D zeroPosition = new Vector2D(0, 0);
+        Vector2D twoPosition = new Vector2D(2, 2);
+        Plant plant = new Plant();
+        board.addGameObject(plant, zeroPosition);
+
+        plant.setPosition(twoPosition);
+
+        assertTrue(board.getAllGameObjects(zeroPosition).isEmpty());
+        assertTrue(board.getAllGameObjects(twoPosition).contains(plant));
+        assertFalse(board.getOccupiedPositions().contains(zeroPosition));
+        assertTrue(board.getOccupiedPositions().contains(twoPosition));
+    }
+
+    @Test
+    public void testGetRandomFreePosition() {
+        Vector2D freePosition = new Vector2D(1, 2);
+        for (int y = 0; y < BOARD_SIZE; y++) {
+            for (int x = 0; x < BOARD_SIZE; x++) {
+                Vector2D position = new Vector2D(x, y);
+                if (!position.equals(freePosition)) {
+                    board.addGameObject(new Plant(), position);
+                }
+            }
+        }
+
+        assertEquals(1, board.getFreeCellCount());
+        assertEquals(freePosition, board.getRandomFreePosition());
+
+        Plant plant = new Plant();
+        board.addGameObject(plant, freePosition);
+        plant.setPosition(new Vector2D(0, 0));
+        assertEquals(1, board.getFreeCellCount());
+        assertEquals(freePosition, board.getRandomFreePosition());
+    }
+
+    @Test
+    public void testGetRandomFreePositionIsUniform() {
+        // the free cells of an almost full board are only found by the fallback after the random draws
+        int size = 2 * Board.CHUNK_SIZE;
+        board = new Board(size, size, new SimulationRandom(7));
+        Set<Vector2D> freePositions = Set.of(new Vector2D(0, 0), new Vector2D(1, 0),
+                                             new Vector2D(Board.CHUNK_SIZE, 3), new Vector2D(size - 1, size - 1));
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                Vector2D position = new Vector2D(x, y);
+                if (!freePositions.contains(position)) {
+                    board.addGameObject(new Plant(), position);
+                }
+            }
+        }
+
+        Map<Vector2D, Integer> hits = new HashMap<>();
+        int draws = 4000;
+        for (int i = 0; i < draws; i++) {
+            hits.merge(board.getRandomFreePosition(), 1, Integer::sum);
+        }
+        assertEquals(freePositions, hits.keySet());
+        for (int count : hits.values()) {
+            assertThat(count, is(both(greaterThan(draws / 5)).and(lessThan(draws * 3 / 10))));
+        }
+    }
+
+    @Test
+    public void testChunksOnHugeBoard() {
+        board = new Board(100_000, 100_000);
+        Plant plant = new Plant();
+        Herbivore herbivore = new Herbivore();
+        board.addGameObject(plant, new Vector2D(Board.CHUNK_SIZE - 1, 70_000));
+        board.addGameObject(herbivore, new Vector2D(Board.CHUNK_SIZE, 70_000));
+        assertEquals(2, board.getChunkCount());
+        assertEquals(100_000L * 100_000 - 2, board.getFreeCellCount());
+
+        // neighbours are found across the border of two chunks
+        assertEquals(Set.of(herbivore), board.getNeighbourObjects(plant, 1));
+        assertEquals(Set.of(plant), board.getNeighbourObjects(herbivore, 1));
+
+        herbivore.setPosition(new Vector2D(Board.CHUNK_SIZE - 1, 70_001));
+        assertEquals(1, board.getChunkCount());
+        assertTrue(board.getOccupiedPositions().contains(new Vector2D(Board.CHUNK_SIZE - 1, 70_001)));
+
+        plant.die();
+        herbivore.die();
+        board.removeDeadLifeForms();
+        assertEquals(0, board.getChunkCount());
+        assertTrue(board.getOccupiedPositions().isEmpty());
+    }
+
+    @Test
+    public void testScatteredObjectsOnHugeBoard() {
+        // one object per chunk only takes up the memory of its own cell
+        board = new Board(100_000, 100_000);
+        int count = 50_000;
+        for (int i = 0; i < count; i++) {
+            int x = i % 1000 * Board.CHUNK_SIZE;
+            int y = i / 1000 * Board.CHUNK_SIZE;
+            board.addGameObject(new Plant(), new Vector2D(x, y));
+        }
+
+        assertEquals(count, board.getChunkCount());
+        assertEquals(count, board.getOccupiedPositions().size());
+        assertTrue(board.getOccupiedPositions().contains(new Vector2D(999 * Board.CHUNK_SIZE, 49 * Board.CHUNK_SIZE)));
+    }
+
+    @Test
+    public void testPublishSnapshot() {
+        BoardSnapshot emptySnapshot = board.getSnapshot();
+        assertEquals(0, emptySnapshot.getObjectCount());
+
+        Plant plant = new Plant();
+        board.addGameObject(plant, new Vector2D(1, 0));
+        assertSame(emptySnapshot, board.getSnapshot());
+
+        BoardSnapshot snapshot = board.publishSnapshot();
+        assertSame(snapshot, board.getSnapshot());
+        plant.setPosition(new Vector2D(2, 2));
+        assertEquals(1, snapshot.getObjectCount());
+        assertEquals(1, snapshot.getCell(0));
+    }
+
+    @Test
+    public void testPlantEnergyDecaysLazily() {
+        SimulationRandom simulationRandom = new SimulationRandom(1);
+        board = new Board(BOARD_SIZE, BOARD_SIZE, simulationRandom);
+        Plant plant = new Plant();
+        plant.setEnergy(2);
+        board.addGameObject(plant, new Vector2D(1, 1));
+        Herbivore herbivore = new Herbivore();
+        board.addGameObject(herbivore, new Vector2D(0, 0));
+
+        simulationRandom.nextTick();
+        simulationRandom.nextTick();
+        assertEquals(0, plant.getEnergy());
+        assertTrue(board.pollDepleted(simulationRandom.getTick()).isEmpty());
+        assertEquals(Set.of(herbivore), board.getAnimalObjects());
+
+        simulationRandom.nextTick();
+        assertEquals(-1, plant.getEnergy());
+        assertEquals(Set.of(plant), board.pollDepleted(simulationRandom.getTick()));
+        assertTrue(board.pollDepleted(simulationRandom.getTick()).isEmpty());
+    }
+
+    @Test
+    public void testSetEnergyReschedulesDepletion() {
+        SimulationRandom simulationRandom = new SimulationRandom(1);
+        board = new Board(BOARD_SIZE, BOARD_SIZE, simulationRandom);
+        Plant plant = new Plant();
+        plant.setEnergy(5);
+        board.addGameObject(plant, new Vector2D(1, 1));
+
+        board.setEnergy(plant, 0);
+        simulationRandom.nextTick();
+        assertEquals(Set.of(plant), board.pollDepleted(simulationRandom.getTick()));
+
+        plant.setEnergy(10);
+        for (int tick = 0; tick < 5; tick++) {
+            simulationRandom.nextTick();
+        }
+        assertTrue(board.pollDepleted(simulationRandom.getTick()).isEmpty());
+        assertEquals(5, plant.getEnergy());
+    }
+
+    @Test
+    public void testStateHash() {
+        assertEquals(0, board.getStateHash());
+        Herbivore herbivore = new Herbivore();
+        herbivore.setName(SCHAF);
+        herbivore.setEnergy(10);
+        Plant plant = new Plant();
+        plant.setEnergy(20);
+        board.addGameObject(herbivore, new Vector2D(0, 0));
+        board.addGameObject(plant, new Vector2D(1, 1));
+        long hash = board.getStateHash();
+
+        // the same objects added in another order
+        Board otherBoard = new Board(BOARD_SIZE, BOARD_SIZE);
+        Plant otherPlant = new Plant();
+        otherPlant.setEnergy(20);
+        otherBoard.addGameObject(otherPlant, new Vector2D(1, 1));
+        Herbivore otherHerbivore = new Herbivore();
+        otherHerbivore.setName(SCHAF);
+        otherHerbivore.setEnergy(10);
+        otherBoard.addGameObject(otherHerbivore, new Vector2D(0, 0));
+        assertEquals(hash, otherBoard.getStateHash());
+
+        herbivore.setPosition(new Vector2D(2, 1));
+        assertNotEquals(hash, board.getStateHash());
+        herbivore.setPosition(new Vector2D(0, 0));
+        assertEquals(hash, board.getStateHash());
+
+        herbivore.setEnergy(11);
+        assertEquals(hash, board.getStateHash());
+        board.updateStateKey(herbivore);
+        assertNotEquals(hash, board.getStateHash());
+        board.setEnergy(herbivore, 10);
+        assertEquals(hash, board.getStateHash());
+
+        herbivore.die();
+        plant.die();
+        board.removeDeadLifeForms();
+        assertEquals(0, board.getStateHash());
+    }
+
+    @Test
+    public void testStateHashIgnoresPlantDecay() {
+        SimulationRandom simulationRandom = new SimulationRandom(1);
+        board = new Board(BOARD_SIZE, BOARD_SIZE, simulationRandom);
+        Plant plant = new Plant();
+        plant.setEnergy(20);
+        board.addGameObject(plant, new Vector2D(1, 1));
+        long hash = board.getStateHash();
+
+        // the plant only loses energy by itself
+        simulationRandom.nextTick();
+        assertEquals(19, plant.getEnergy());
+        assertEquals(hash, board.getStateHash());
+
+        // the same plant with the energy it has left set from outside
+        Board otherBoard = new Board(BOARD_SIZE, BOARD_SIZE);
+        Plant otherPlant = new Plant();
+        otherPlant.setEnergy(19);
+        otherBoard.addGameObject(otherPlant, new Vector2D(1, 1));
+        board.setEnergy(plant, 19);
+        assertNotEquals(hash, board.getStateHash());
+        assertEquals(otherBoard.getStateHash(), board.getStateHash());
+
+        plant.die();
+        board.removeDeadLifeForms();
+        assertEquals(0, board.getStateHash());
+    }
+
+    @Test
+    public void testAverageEnergies() {
+        SimulationRandom simulationRandom = new SimulationRandom(1);
+        board = new Board(BOARD_SIZE, BOARD_SIZE, simulationRandom);
+        Herbivore firstSheep = new Herbivore();
+        firstSheep.setName(SCHAF);
+        firstSheep.setEnergy(10);
+        Herbivore secondSheep = new Herbivore();
+        secondSheep.setName(SCHAF);
+        secondSheep.setEnergy(20);
+        Plant plant = new Plant();
+        plant.setName(GRAS);
+        plant.setEnergy(30);
+        board.addGameObject(firstSheep, new Vector2D(0, 0));
+        board.addGameObject(secondSheep, new Vector2D(1, 0));
+        board.addGameObject(plant, new Vector2D(2, 2));
+        assertEquals(Map.of(SCHAF, 15.0, GRAS, 30.0), board.getAverageEnergies());
+
+        // the plant loses energy by itself, the energy of the sheep is taken over on the update
+        simulationRandom.nextTick();
+        simulationRandom.nextTick();
+        firstSheep.setEnergy(4);
+        board.updateStateKey(firstSheep);
+        assertEquals(Map.of(SCHAF, 12.0, GRAS, 28.0), board.getAverageEnergies());
+
+        board.setName(secondSheep, WOLF);
+        assertEquals(Map.of(SCHAF, 4.0, WOLF, 20.0, GRAS, 28.0), board.getAverageEnergies());
+
+        firstSheep.die();
+        plant.die();
+        board.removeDeadLifeForms();
+        assertEquals(Map.of(WOLF, 20.0), board.getAverageEnergies());
+    }
+
     @Test
     public void testGetNeighbourObjects() {
         //prepare
@@ -212,7 +481,7 @@ public class BoardTest {
         assertEquals(2, result.size());
         assertTrue(expectedSet.containsAll(result));
 
-        board.getGameObjects().clear();
+        board = new Board(BOARD_SIZE, BOARD_SIZE);
         board.addGameObject(thirdGameObject, thirdGameObject.getPosition());
         assertEquals(0, board.getNeighbourObjects(thirdGameObject, radius).size());
     }
@@ -245,6 +514,18 @@ public class BoardTest {
         assertThat(board.getRandomPosition().getY(), anyOf(is(not(-0)), is(not(0.0)), is(not(3.0))));
     }
 
+    @Test
+    public void testGetRandomFreePositionFullBoard() {
+        for (int y = 0; y < BOARD_SIZE; y++) {
+            for (int x = 0; x < BOARD_SIZE; x++) {
+                board.addGameObject(new Plant(), new Vector2D(x, y));
+            }
+        }
+
+        assertEquals(0, board.getFreeCellCount());
+        assertThrows(IllegalStateException.class, () -> board.getRandomFreePosition());
+    }
+
     @Test
     public void testAddGameObjectNull() {
         Exception thrown = assertThrows(NullPointerException.class, () -> board.addGameObject(null, new Vector2D(0, 0)));
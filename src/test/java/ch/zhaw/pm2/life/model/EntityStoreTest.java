@@ -0,0 +1,261 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.LifeForm;
+import ch.zhaw.pm2.life.model.lifeform.animal.AnimalObject;
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityStoreTest {
+
+    private static final int BOARD_SIZE = 3;
+    private static final String SCHAF = "Schaf";
+    private static final String GRAS = "Gras";
+
+    private EntityStore store;
+    private int sheep;
+    private int grass;
+
+    @BeforeEach
+    public void setUp() {
+        store = new EntityStore(BOARD_SIZE, BOARD_SIZE);
+
+        Herbivore herbivore = new Herbivore();
+        herbivore.setName(SCHAF);
+        herbivore.setColor("#B1D1FC");
+        herbivore.setEnergy(6);
+        sheep = store.addSpecies(herbivore);
+
+        Plant plant = new Plant();
+        plant.setName(GRAS);
+        plant.setColor("#0F0");
+        plant.setEnergy(20);
+        grass = store.addSpecies(plant);
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testAddSpecies() {
+        Herbivore herbivore = new Herbivore();
+        herbivore.setName(SCHAF);
+
+        assertEquals(sheep, store.addSpecies(herbivore));
+        assertEquals(2, store.getSpeciesCount());
+        assertEquals(EntityStore.Kind.HERBIVORE, store.getKind(sheep));
+        assertEquals(EntityStore.Kind.PLANT, store.getKind(grass));
+        assertEquals(1, store.getScanRadius(sheep));
+        assertEquals(20, store.getSpeciesEnergy(grass));
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        int first = store.add(sheep, 1, 1, 6, true, false);
+        int second = store.add(grass, 1, 1, 20, false, true);
+
+        assertEquals(2, store.size());
+        assertEquals(1, store.getOccupiedCellCount());
+        assertEquals(2, cellMembers(1, 1).size());
+        assertEquals(1, store.getAliveCount(sheep));
+
+        store.remove(first);
+        assertFalse(store.isUsed(first));
+        assertEquals(List.of(second), cellMembers(1, 1));
+        assertEquals(0, store.getAliveCount(sheep));
+
+        store.remove(second);
+        assertEquals(0, store.size());
+        assertEquals(0, store.getOccupiedCellCount());
+    }
+
+    @Test
+    public void testFreeSlotIsReused() {
+        int first = store.add(sheep, 0, 0, 6, true, false);
+        store.add(sheep, 0, 1, 6, true, false);
+
+        store.remove(first);
+        assertEquals(first, store.add(grass, 2, 2, 20, false, false));
+        assertEquals(2, store.getCapacity());
+    }
+
+    @Test
+    public void testStoreGrows() {
+        for (int i = 0; i < 100; i++) {
+            store.add(grass, i % BOARD_SIZE, i % BOARD_SIZE, i, false, false);
+        }
+
+        assertEquals(100, store.size());
+        assertEquals(99, store.getEnergy(99));
+        assertEquals(BOARD_SIZE, store.getOccupiedCellCount());
+    }
+
+    @Test
+    public void testMove() {
+        int slot = store.add(sheep, 0, 0, 6, true, false);
+
+        store.move(slot, 2, 1);
+        assertEquals(2, store.getX(slot));
+        assertEquals(1, store.getY(slot));
+        assertFalse(store.isOccupied(0, 0));
+        assertEquals(List.of(slot), cellMembers(2, 1));
+    }
+
+    @Test
+    public void testDie() {
+        int slot = store.add(sheep, 0, 0, 6, true, false);
+
+        store.die(slot);
+        store.die(slot);
+        assertTrue(store.isDead(slot));
+        assertEquals(0, store.getAliveCount(sheep));
+
+        store.remove(slot);
+        assertEquals(0, store.getAliveCount(sheep));
+    }
+
+    @Test
+    public void testStateHash() {
+        assertEquals(0, store.getStateHash());
+        int slot = store.add(sheep, 0, 0, 6, true, false);
+        store.add(grass, 1, 1, 20, false, false);
+        long hash = store.getStateHash();
+
+        store.move(slot, 2, 2);
+        assertNotEquals(hash, store.getStateHash());
+        store.move(slot, 0, 0);
+        assertEquals(hash, store.getStateHash());
+
+        store.setEnergy(slot, 7);
+        assertNotEquals(hash, store.getStateHash());
+        store.setEnergy(slot, 6);
+        assertEquals(hash, store.getStateHash());
+
+        // same objects as on a board
+        Board board = new Board(BOARD_SIZE, BOARD_SIZE);
+        Herbivore herbivore = new Herbivore();
+        herbivore.setName(SCHAF);
+        herbivore.setEnergy(6);
+        Plant plant = new Plant();
+        plant.setName(GRAS);
+        plant.setEnergy(20);
+        board.addGameObject(herbivore, new Vector2D(0, 0));
+        board.addGameObject(plant, new Vector2D(1, 1));
+        assertEquals(board.getStateHash(), store.getStateHash());
+
+        store.remove(slot);
+        assertNotEquals(hash, store.getStateHash());
+    }
+
+    @Test
+    public void testGameObjectView() {
+        int slot = store.add(sheep, 1, 2, 6, false, true);
+        GameObject gameObject = store.getGameObject(slot);
+
+        assertThat(gameObject, instanceOf(Herbivore.class));
+        assertEquals(SCHAF, gameObject.getName());
+        assertEquals(new Vector2D(1, 2), gameObject.getPosition());
+        assertEquals("F", ((LifeForm) gameObject).getGender());
+        assertTrue(((LifeForm) gameObject).isPoisonous());
+
+        store.setEnergy(slot, 3);
+        store.setFertilityThreshold(slot, 4);
+        store.move(slot, 0, 0);
+        store.die(slot);
+        assertEquals(3, gameObject.getEnergy());
+        assertEquals(4, ((AnimalObject) gameObject).getFertilityThreshold());
+        assertEquals(new Vector2D(0, 0), gameObject.getPosition());
+        assertTrue(((LifeForm) gameObject).isDead());
+
+        gameObject.decreaseEnergy(1);
+        assertEquals(2, store.getEnergy(slot));
+    }
+
+    @Test
+    public void testGameObjectViewWritesToStore() throws Exception {
+        int female = store.add(sheep, 1, 1, 10, false, false);
+        int male = store.add(sheep, 1, 1, 10, true, false);
+        int poisonousGrass = store.add(grass, 1, 1, 20, false, true);
+        AnimalObject animalObject = (AnimalObject) store.getGameObject(female);
+
+        animalObject.eat((LifeForm) store.getGameObject(poisonousGrass));
+        assertTrue(store.isDead(poisonousGrass));
+        assertEquals(30, store.getEnergy(female));
+        assertTrue(store.isPoisoned(female));
+        assertEquals(9, store.getPoisonCounter(female));
+
+        animalObject.moveTo(new Vector2D(2, 1));
+        assertEquals(new Vector2D(2, 1), store.getPosition(female));
+        assertEquals(20, store.getEnergy(female));
+        assertEquals(8, store.getPoisonCounter(female));
+        assertEquals(1, store.getFertilityThreshold(female));
+
+        store.setFertilityThreshold(female, 9);
+        assertNotNull(animalObject.reproduce((LifeForm) store.getGameObject(male)));
+        assertEquals(0, store.getFertilityThreshold(female));
+
+        animalObject.die();
+        assertTrue(store.isDead(female));
+        assertTrue(animalObject.isDead());
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testConstructorInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityStore(Board.MIN_ROWS - 1, BOARD_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new EntityStore(BOARD_SIZE, Board.MIN_COLUMNS - 1));
+        // the product of rows and columns does not fit into an int
+        assertThrows(IllegalArgumentException.class, () -> new EntityStore(100_000, 100_000));
+    }
+
+    @Test
+    public void testAddInvalidPosition() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> store.add(sheep, BOARD_SIZE, 0, 6, true, false));
+        assertEquals("The position (3, 0) does not exist on the board.", exception.getMessage());
+    }
+
+    @Test
+    public void testRemoveFreeSlot() {
+        int slot = store.add(sheep, 0, 0, 6, true, false);
+        store.remove(slot);
+
+        assertThrows(IllegalArgumentException.class, () -> store.remove(slot));
+        assertThrows(IllegalArgumentException.class, () -> store.getGameObject(slot));
+    }
+
+    @Test
+    public void testGameObjectViewOfRemovedEntity() {
+        int slot = store.add(sheep, 1, 1, 6, true, false);
+        GameObject gameObject = store.getGameObject(slot);
+        store.remove(slot);
+        assertEquals(slot, store.add(grass, 2, 2, 20, false, false));
+
+        // the slot holds another entity now
+        assertThrows(IllegalStateException.class, gameObject::getEnergy);
+        assertThrows(IllegalStateException.class, gameObject::getPosition);
+        assertThrows(IllegalStateException.class, () -> gameObject.setEnergy(1));
+        assertThrows(IllegalStateException.class, () -> ((LifeForm) gameObject).isDead());
+        assertEquals(20, store.getGameObject(slot).getEnergy());
+    }
+
+    private List<Integer> cellMembers(int x, int y) {
+        List<Integer> members = new ArrayList<>();
+        for (int slot = store.getFirstInCell(x, y); slot != EntityStore.NO_ENTITY; slot = store.getNextInCell(slot)) {
+            members.add(slot);
+        }
+        return members;
+    }
+
+}
@@ -0,0 +1,97 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogTest {
+
+    private static final String SCHAF = "Schaf";
+    private static final String GRAS = "Gras";
+
+    private Herbivore sheep;
+    private Plant grass;
+
+    @BeforeEach
+    public void setUp() {
+        sheep = new Herbivore();
+        sheep.setName(SCHAF);
+        grass = new Plant();
+        grass.setName(GRAS);
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testRecordAndGet() {
+        EventLog eventLog = new EventLog(4);
+        GameEvent event = GameEvent.of(GameEvent.Type.ATE, 3, sheep, grass);
+        eventLog.record(event);
+
+        assertEquals(0, eventLog.getFirstSequence());
+        assertEquals(1, eventLog.getNextSequence());
+        assertSame(event, eventLog.get(0));
+        assertEquals(3, event.getTick());
+        assertEquals(sheep.getId(), event.getActorId());
+        assertEquals(grass.getId(), event.getTargetId());
+        assertEquals(GRAS, event.getTargetName());
+    }
+
+    @Test
+    public void testOldestEventsAreOverwritten() {
+        EventLog eventLog = new EventLog(3);
+        assertEquals(4, eventLog.getCapacity());
+
+        for (int tick = 0; tick < 6; tick++) {
+            eventLog.record(GameEvent.of(GameEvent.Type.SPAWNED, tick, grass));
+        }
+
+        List<Long> ticks = new ArrayList<>();
+        assertEquals(6, eventLog.forEachSince(0, event -> ticks.add(event.getTick())));
+        assertEquals(List.of(2L, 3L, 4L, 5L), ticks);
+        assertEquals(2, eventLog.getFirstSequence());
+    }
+
+    @Test
+    public void testFormat() {
+        EventLog eventLog = new EventLog();
+        eventLog.record(GameEvent.of(GameEvent.Type.ATE, 1, sheep, grass));
+        eventLog.record(GameEvent.of(GameEvent.Type.SPAWNED, 1, grass));
+        eventLog.record(GameEvent.of(GameEvent.Type.DIED, 2, sheep));
+
+        assertEquals("Schaf: Das war lecker (Gras)!\n" + String.format("Schaf: ist vor Ermuedung gestorben.%n"),
+                     eventLog.format(0, EnumSet.of(GameEvent.Type.ATE, GameEvent.Type.DIED)));
+        assertEquals(String.format("Gras: ist gewachsen.%n"), eventLog.format(1, EnumSet.of(GameEvent.Type.SPAWNED)));
+        assertEquals("", eventLog.format(3, EnumSet.allOf(GameEvent.Type.class)));
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new EventLog(0));
+    }
+
+    @Test
+    public void testGetInvalidSequence() {
+        EventLog eventLog = new EventLog(2);
+        for (int tick = 0; tick < 3; tick++) {
+            eventLog.record(GameEvent.stopped(tick));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> eventLog.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> eventLog.get(3));
+    }
+
+}
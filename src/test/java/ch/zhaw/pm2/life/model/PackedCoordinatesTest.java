@@ -0,0 +1,64 @@
+package ch.zhaw.pm2.life.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedCoordinatesTest {
+
+    @Test
+    public void testPack() {
+        long packed = PackedCoordinates.pack(-3, 7);
+        assertEquals(-3, PackedCoordinates.getX(packed));
+        assertEquals(7, PackedCoordinates.getY(packed));
+
+        packed = PackedCoordinates.pack(Integer.MAX_VALUE, -1);
+        assertEquals(Integer.MAX_VALUE, PackedCoordinates.getX(packed));
+        assertEquals(-1, PackedCoordinates.getY(packed));
+    }
+
+    @Test
+    public void testVectorConversion() {
+        Vector2D vector = new Vector2D(4, -2);
+        assertEquals(vector, PackedCoordinates.toVector(PackedCoordinates.of(vector)));
+    }
+
+    @Test
+    public void testAdd() {
+        long packed = PackedCoordinates.pack(1, 2);
+        assertEquals(PackedCoordinates.pack(-1, 5), PackedCoordinates.add(packed, -2, 3));
+        assertEquals(PackedCoordinates.pack(0, 1), PackedCoordinates.add(packed, GameObject.Direction.UP_LEFT));
+    }
+
+    @Test
+    public void testSubtract() {
+        long first = PackedCoordinates.pack(1, 2);
+        long second = PackedCoordinates.pack(-2, 3);
+        assertEquals(PackedCoordinates.pack(3, -1), PackedCoordinates.subtract(first, second));
+    }
+
+    @Test
+    public void testDot() {
+        assertEquals(4, PackedCoordinates.dot(PackedCoordinates.pack(1, 2), PackedCoordinates.pack(-2, 3)));
+    }
+
+    @Test
+    public void testIsOnBoard() {
+        assertTrue(PackedCoordinates.isOnBoard(PackedCoordinates.pack(0, 0), 3, 4));
+        assertTrue(PackedCoordinates.isOnBoard(PackedCoordinates.pack(2, 3), 3, 4));
+        assertFalse(PackedCoordinates.isOnBoard(PackedCoordinates.pack(3, 0), 3, 4));
+        assertFalse(PackedCoordinates.isOnBoard(PackedCoordinates.pack(0, -1), 3, 4));
+    }
+
+    @Test
+    public void testNeighbours() {
+        long corner = PackedCoordinates.pack(0, 0);
+        assertEquals(9, PackedCoordinates.getNeighbourCount(PackedCoordinates.pack(1, 1), 3, 3));
+        assertEquals(4, PackedCoordinates.getNeighbourCount(corner, 3, 3));
+        assertEquals(PackedCoordinates.pack(0, 1), PackedCoordinates.getNeighbour(corner, 3, 3, 0));
+        assertEquals(PackedCoordinates.pack(0, 0), PackedCoordinates.getNeighbour(corner, 3, 3, 2));
+        assertEquals(PackedCoordinates.pack(1, 0), PackedCoordinates.getNeighbour(corner, 3, 3, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> PackedCoordinates.getNeighbour(corner, 3, 3, 4));
+    }
+
+}
@@ -0,0 +1,84 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.PopulationCounter.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PopulationCounterTest {
+
+    private static final String WOLF = "Wolf";
+    private static final String SCHAF = "Schaf";
+
+    private PopulationCounter populationCounter;
+
+    @BeforeEach
+    public void setUp() {
+        populationCounter = new PopulationCounter();
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testRecord() {
+        populationCounter.record(Category.START, WOLF);
+        populationCounter.record(Category.START, WOLF);
+        populationCounter.record(Category.BORN, WOLF);
+        populationCounter.record(Category.DIED, WOLF);
+        populationCounter.record(Category.SPAWNED, SCHAF);
+        populationCounter.record(Category.ALIVE, SCHAF);
+
+        assertEquals(2, populationCounter.getCount(Category.START, WOLF));
+        assertEquals(1, populationCounter.getCount(Category.BORN, WOLF));
+        assertEquals(1, populationCounter.getCount(Category.DIED, WOLF));
+        assertEquals(2, populationCounter.getCount(Category.ALIVE, WOLF));
+        assertEquals(2, populationCounter.getCount(Category.ALIVE, SCHAF));
+        assertEquals(0, populationCounter.getCount(Category.BORN, "Fuchs"));
+        assertEquals(4, populationCounter.getTotalAliveCount());
+    }
+
+    @Test
+    public void testGetCountsInOrder() {
+        for (int i = 0; i < 10; i++) {
+            populationCounter.record(Category.BORN, SCHAF + i);
+        }
+        populationCounter.record(Category.BORN, WOLF);
+
+        Map<String, Integer> counts = populationCounter.getCounts(Category.BORN);
+        assertEquals(11, counts.size());
+        assertEquals(SCHAF + 0, counts.keySet().iterator().next());
+        assertEquals(List.copyOf(populationCounter.getSpecies()), List.copyOf(counts.keySet()));
+        assertEquals(0, populationCounter.getCounts(Category.DIED).get(WOLF));
+    }
+
+    @Test
+    public void testRename() {
+        populationCounter.record(Category.START, WOLF);
+        populationCounter.record(Category.START, SCHAF);
+        populationCounter.rename(WOLF, "Fuchs");
+
+        assertEquals(1, populationCounter.getCount(Category.START, "Fuchs"));
+        assertEquals(0, populationCounter.getCount(Category.START, WOLF));
+
+        populationCounter.rename("Fuchs", SCHAF);
+        assertEquals(2, populationCounter.getCount(Category.ALIVE, SCHAF));
+        assertEquals(Map.of(SCHAF, 2), populationCounter.getCounts(Category.START));
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testRecordNull() {
+        assertThrows(NullPointerException.class, () -> populationCounter.record(null, WOLF));
+        assertThrows(NullPointerException.class, () -> populationCounter.record(Category.BORN, null));
+    }
+
+}
@@ -0,0 +1,84 @@
+package ch.zhaw.pm2.life.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PopulationHistoryTest {
+
+    private static final int CAPACITY = 4;
+    private static final String WOLF = "Wolf";
+    private static final String SCHAF = "Schaf";
+
+    private PopulationHistory populationHistory;
+
+    @BeforeEach
+    public void setUp() {
+        populationHistory = new PopulationHistory(CAPACITY);
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testRecord() {
+        populationHistory.record(0, Map.of(WOLF, 3), Map.of(WOLF, 2.5));
+        populationHistory.record(1, Map.of(WOLF, 2, SCHAF, 7), Map.of(SCHAF, 4.0));
+
+        assertEquals(2, populationHistory.getSize());
+        assertEquals(List.of(WOLF, SCHAF), populationHistory.getSpecies());
+        assertArrayEquals(new long[] {0, 1}, populationHistory.getTicks());
+        assertArrayEquals(new int[] {3, 2}, populationHistory.getPopulation(WOLF));
+        assertArrayEquals(new int[] {0, 7}, populationHistory.getPopulation(SCHAF));
+        assertArrayEquals(new double[] {2.5, 0}, populationHistory.getAverageEnergies(WOLF));
+        assertEquals(0, populationHistory.getPopulation("Fuchs").length);
+    }
+
+    @Test
+    public void testCompactWhenFull() {
+        for (long tick = 0; tick < 100; tick++) {
+            if (populationHistory.isDue(tick)) {
+                populationHistory.record(tick, Map.of(WOLF, (int) tick), Map.of());
+            }
+        }
+
+        assertTrue(populationHistory.getSize() <= CAPACITY);
+        assertEquals(32, populationHistory.getStride());
+        long[] ticks = populationHistory.getTicks();
+        assertEquals(0, ticks[0]);
+        for (int sample = 1; sample < ticks.length; sample++) {
+            assertEquals(populationHistory.getStride(), ticks[sample] - ticks[sample - 1]);
+        }
+        assertArrayEquals(new int[] {0, 32, 64, 96}, populationHistory.getPopulation(WOLF));
+    }
+
+    @Test
+    public void testCopy() {
+        populationHistory.record(0, Map.of(WOLF, 3), Map.of());
+        PopulationHistory copy = populationHistory.copy();
+        populationHistory.record(1, Map.of(WOLF, 4), Map.of());
+
+        assertEquals(1, copy.getSize());
+        assertArrayEquals(new int[] {3}, copy.getPopulation(WOLF));
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new PopulationHistory(1));
+    }
+
+    @Test
+    public void testRecordNull() {
+        assertThrows(NullPointerException.class, () -> populationHistory.record(0, null, Map.of()));
+    }
+
+}
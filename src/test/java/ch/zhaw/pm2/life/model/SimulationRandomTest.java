@@ -0,0 +1,77 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationRandomTest {
+
+    private static final long SEED = 42;
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testSameSeedSameValues() {
+        SimulationRandom first = new SimulationRandom(SEED);
+        SimulationRandom second = new SimulationRandom(SEED);
+
+        for (int stream = 0; stream < 10; stream++) {
+            assertEquals(first.nextLong(stream, 0), second.nextLong(stream, 0));
+            assertEquals(first.nextInt(stream, 1, 9), second.nextInt(stream, 1, 9));
+        }
+        assertEquals(first.split(-1).nextLong(), second.split(-1).nextLong());
+    }
+
+    @Test
+    public void testStreamsAndTicksDiffer() {
+        SimulationRandom simulationRandom = new SimulationRandom(SEED);
+        long value = simulationRandom.nextLong(0, 0);
+
+        assertNotEquals(value, simulationRandom.nextLong(1, 0));
+        assertNotEquals(value, simulationRandom.nextLong(0, 1));
+        assertNotEquals(value, new SimulationRandom(SEED + 1).nextLong(0, 0));
+
+        simulationRandom.nextTick();
+        assertEquals(1, simulationRandom.getTick());
+        assertNotEquals(value, simulationRandom.nextLong(0, 0));
+    }
+
+    @Test
+    public void testNextIntBound() {
+        SimulationRandom simulationRandom = new SimulationRandom(SEED);
+        int[] counts = new int[3];
+        for (int draw = 0; draw < 3000; draw++) {
+            counts[simulationRandom.nextInt(7, draw, 3)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 800);
+        }
+    }
+
+    @Test
+    public void testGameObjectStreamDependsOnSeedAndId() {
+        GameObject first = new Plant();
+        GameObject second = new Plant();
+        first.setSimulationRandom(new SimulationRandom(SEED), 3);
+        second.setSimulationRandom(new SimulationRandom(SEED), 3);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.nextRandomInt(100), second.nextRandomInt(100));
+        }
+        assertEquals(3, first.getId());
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testNextIntBoundNotPositive() {
+        SimulationRandom simulationRandom = new SimulationRandom(SEED);
+        assertThrows(IllegalArgumentException.class, () -> simulationRandom.nextInt(0, 0, 0));
+    }
+
+}
@@ -0,0 +1,111 @@
+package ch.zhaw.pm2.life.model;
+
+import ch.zhaw.pm2.life.model.lifeform.animal.Carnivore;
+import ch.zhaw.pm2.life.model.lifeform.animal.Herbivore;
+import ch.zhaw.pm2.life.model.lifeform.plant.Plant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SpeciesRegistryTest {
+
+    private static final String SCHAF = "Schaf";
+    private static final String WOLF = "Wolf";
+    private static final String GRAS = "Gras";
+
+    private SpeciesRegistry speciesRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        Herbivore sheep = new Herbivore();
+        sheep.setName(SCHAF);
+        sheep.setColor("#B1D1FC");
+        sheep.setEnergy(6);
+        sheep.setScanRadius(3);
+
+        Carnivore wolf = new Carnivore();
+        wolf.setName(WOLF);
+
+        Plant grass = new Plant();
+        grass.setName(GRAS);
+        grass.setColor("#0F0");
+        grass.setEnergy(20);
+
+        speciesRegistry = new SpeciesRegistry(List.of(sheep, wolf, grass));
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testCreate() {
+        GameObject gameObject = speciesRegistry.create(SCHAF);
+
+        assertThat(gameObject, instanceOf(Herbivore.class));
+        assertNotSame(speciesRegistry.getTemplate(SCHAF), gameObject);
+        assertEquals(SCHAF, gameObject.getName());
+        assertEquals("#B1D1FC", gameObject.getColor());
+        assertEquals(6, gameObject.getEnergy());
+        assertEquals(3, ((Herbivore) gameObject).getScanRadius());
+        assertThat(speciesRegistry.create(WOLF), instanceOf(Carnivore.class));
+        assertThat(speciesRegistry.create(GRAS), instanceOf(Plant.class));
+    }
+
+    @Test
+    public void testNames() {
+        assertTrue(speciesRegistry.contains(WOLF));
+        assertFalse(speciesRegistry.contains("Reh"));
+        assertThat(speciesRegistry.getNames(), contains(SCHAF, WOLF, GRAS));
+    }
+
+    @Test
+    public void testRemove() {
+        speciesRegistry.remove(WOLF);
+        speciesRegistry.remove("Reh");
+
+        assertFalse(speciesRegistry.contains(WOLF));
+        assertThat(speciesRegistry.getNames(), contains(SCHAF, GRAS));
+        assertThrows(IllegalArgumentException.class, () -> speciesRegistry.create(WOLF));
+    }
+
+    @Test
+    public void testCopyOf() {
+        GameObject gameObject = SpeciesRegistry.copyOf(speciesRegistry.getTemplate(GRAS));
+
+        assertThat(gameObject, instanceOf(Plant.class));
+        assertEquals(GRAS, gameObject.getName());
+        assertEquals(20, gameObject.getEnergy());
+    }
+
+    @Test
+    public void testGetType() {
+        assertEquals(SpeciesRegistry.Type.HERBIVORE, SpeciesRegistry.Type.getType("Herbivore"));
+        assertEquals(SpeciesRegistry.Type.CARNIVORE, SpeciesRegistry.Type.getType("carnivore"));
+        assertEquals(SpeciesRegistry.Type.PLANT, SpeciesRegistry.Type.of(new Plant()));
+        assertNull(SpeciesRegistry.Type.getType("Pilz"));
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testCreateUnknownSpecies() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> speciesRegistry.create("Reh"));
+        assertEquals("The species Reh is not registered.", exception.getMessage());
+    }
+
+    @Test
+    public void testRegisterInvalidTemplate() {
+        assertThrows(NullPointerException.class, () -> speciesRegistry.register(null));
+        assertThrows(IllegalArgumentException.class, () -> speciesRegistry.register(mock(GameObject.class)));
+    }
+
+}
@@ -0,0 +1,180 @@
+package ch.zhaw.pm2.life.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StopConditionTest {
+
+    private static final String WOLF = "Wolf";
+    private static final String SCHAF = "Schaf";
+
+    private final Map<String, Integer> aliveCounts = new HashMap<>();
+    private long tick;
+    private long stateHash;
+    private boolean spawnPossible;
+    private StopCondition.State state;
+
+    @BeforeEach
+    public void setUp() {
+        aliveCounts.clear();
+        aliveCounts.put(WOLF, 2);
+        aliveCounts.put(SCHAF, 10);
+        tick = 0;
+        stateHash = 0;
+        spawnPossible = false;
+        state = new StopCondition.State() {
+            @Override
+            public long getTick() {
+                return tick;
+            }
+
+            @Override
+            public int getAliveCount(String species) {
+                return aliveCounts.getOrDefault(species, 0);
+            }
+
+            @Override
+            public int getTotalAliveCount() {
+                return aliveCounts.values().stream().mapToInt(Integer::intValue).sum();
+            }
+
+            @Override
+            public long getStateHash() {
+                return stateHash;
+            }
+
+            @Override
+            public boolean isSpawnPossible() {
+                return spawnPossible;
+            }
+        };
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testSpeciesConditions() {
+        assertFalse(StopCondition.extinct(WOLF).isMet(state));
+        assertTrue(StopCondition.extinct("Fuchs").isMet(state));
+        assertTrue(StopCondition.below(WOLF, 3).isMet(state));
+        assertFalse(StopCondition.below(WOLF, 2).isMet(state));
+        assertTrue(StopCondition.above(SCHAF, 9).isMet(state));
+        assertFalse(StopCondition.above(SCHAF, 10).isMet(state));
+
+        aliveCounts.put(WOLF, 0);
+        assertTrue(StopCondition.extinct(WOLF).isMet(state));
+    }
+
+    @Test
+    public void testPopulationConditions() {
+        assertTrue(StopCondition.populationBelow(13).isMet(state));
+        assertFalse(StopCondition.populationBelow(12).isMet(state));
+        assertTrue(StopCondition.populationAbove(11).isMet(state));
+        assertFalse(StopCondition.populationAbove(12).isMet(state));
+    }
+
+    @Test
+    public void testTickLimit() {
+        StopCondition condition = StopCondition.tickLimit(5);
+        assertFalse(condition.isMet(state));
+        tick = 5;
+        assertTrue(condition.isMet(state));
+    }
+
+    @Test
+    public void testTimeLimitStartsAtFirstEvaluation() {
+        long[] now = {1_000};
+        StopCondition condition = StopCondition.timeLimit(Duration.ofNanos(100), () -> now[0]);
+
+        assertFalse(condition.isMet(state));
+        now[0] += 99;
+        assertFalse(condition.isMet(state));
+        now[0] += 1;
+        assertTrue(condition.isMet(state));
+    }
+
+    @Test
+    public void testRepeats() {
+        StopCondition steady = StopCondition.repeats(1);
+        StopCondition cycle = StopCondition.repeats(3);
+        for (long hash : new long[] {1, 2, 3, 4, 5}) {
+            stateHash = hash;
+            assertFalse(steady.isMet(state));
+            assertFalse(cycle.isMet(state));
+        }
+
+        stateHash = 3;
+        assertFalse(steady.isMet(state));
+        assertTrue(cycle.isMet(state));
+        assertTrue(steady.isMet(state));
+    }
+
+    @Test
+    public void testRepeatsWhileSpawnPossible() {
+        // an empty board on which plants can spawn is not steady
+        StopCondition steady = StopCondition.repeats(1);
+        spawnPossible = true;
+        assertFalse(steady.isMet(state));
+        assertFalse(steady.isMet(state));
+
+        // the board before nothing could spawn anymore is not compared
+        spawnPossible = false;
+        assertFalse(steady.isMet(state));
+        assertTrue(steady.isMet(state));
+    }
+
+    @Test
+    public void testCombinedRepeatsSeesEveryEvaluation() {
+        StopCondition steady = StopCondition.repeats(1);
+        StopCondition cycle = StopCondition.repeats(2);
+        StopCondition and = StopCondition.never().and(steady);
+        StopCondition or = StopCondition.tickLimit(0).or(cycle);
+
+        stateHash = 1;
+        assertFalse(and.isMet(state));
+        assertTrue(or.isMet(state));
+        assertTrue(steady.isMet(state));
+        assertTrue(cycle.isMet(state));
+    }
+
+    @Test
+    public void testCombined() {
+        StopCondition wolfExtinct = StopCondition.extinct(WOLF);
+        StopCondition tickLimit = StopCondition.tickLimit(10);
+
+        assertFalse(wolfExtinct.or(tickLimit).isMet(state));
+        assertFalse(wolfExtinct.and(tickLimit).isMet(state));
+        tick = 10;
+        assertTrue(wolfExtinct.or(tickLimit).isMet(state));
+        assertFalse(wolfExtinct.and(tickLimit).isMet(state));
+        aliveCounts.remove(WOLF);
+        assertTrue(wolfExtinct.and(tickLimit).isMet(state));
+        assertFalse(StopCondition.never().isMet(state));
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testNull() {
+        assertThrows(NullPointerException.class, () -> StopCondition.extinct(null));
+        assertThrows(NullPointerException.class, () -> StopCondition.never().and(null));
+        assertThrows(NullPointerException.class, () -> StopCondition.never().or(null));
+        assertThrows(NullPointerException.class, () -> StopCondition.timeLimit(null));
+    }
+
+    @Test
+    public void testRepeatsInvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> StopCondition.repeats(0));
+    }
+
+}
@@ -2,6 +2,8 @@ package ch.zhaw.pm2.life.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Objects;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class Vector2DTest {
@@ -78,4 +80,11 @@ public class Vector2DTest {
         assertTrue(Vector2D.isNegative(new Vector2D(1, -1)));
     }
 
+    @Test
+    public void testHashCode() {
+        assertEquals(new Vector2D(1, 2).hashCode(), new Vector2D(1, 2).hashCode());
+        assertEquals(Objects.hash(-3, 7), new Vector2D(-3, 7).hashCode());
+        assertNotEquals(new Vector2D(1, 2).hashCode(), new Vector2D(2, 1).hashCode());
+    }
+
 }
@@ -0,0 +1,55 @@
+package ch.zhaw.pm2.life.model.lifeform;
+
+import ch.zhaw.pm2.life.model.PackedCoordinates;
+import ch.zhaw.pm2.life.model.lifeform.LifeForm.FoodType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LifeRulesTest {
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testTraits() {
+        assertFalse(LifeRules.isMale(4));
+        assertTrue(LifeRules.isMale(5));
+        assertTrue(LifeRules.isPoisonous(2));
+        assertFalse(LifeRules.isPoisonous(3));
+    }
+
+    @Test
+    public void testPoison() {
+        assertEquals(9, LifeRules.getPoisonEnergyConsumption(30));
+        assertEquals(2, LifeRules.getPoisonedEnergyConsumption(2));
+        assertEquals(0, LifeRules.getPoisonedEnergyConsumption(-1));
+        assertFalse(LifeRules.isPoisonWornOff(1));
+        assertTrue(LifeRules.isPoisonWornOff(0));
+    }
+
+    @Test
+    public void testFertility() {
+        assertFalse(LifeRules.isFertile(8));
+        assertTrue(LifeRules.isFertile(9));
+    }
+
+    @Test
+    public void testFood() {
+        assertTrue(LifeRules.isFood(FoodType.PLANT, FoodType.PLANT));
+        assertFalse(LifeRules.isFood(FoodType.PLANT, FoodType.MEAT));
+        assertFalse(LifeRules.isFood(FoodType.MEAT, null));
+        assertTrue(LifeRules.canOverpower(5, 5));
+        assertFalse(LifeRules.canOverpower(4, 5));
+    }
+
+    @Test
+    public void testNextPosition() {
+        long position = PackedCoordinates.pack(2, 2);
+        assertEquals(PackedCoordinates.pack(3, 1), LifeRules.getNextPosition(position, PackedCoordinates.pack(3, 1)));
+        assertEquals(PackedCoordinates.pack(3, 3), LifeRules.getNextPosition(position, PackedCoordinates.pack(5, 5)));
+        assertEquals(PackedCoordinates.pack(1, 3), LifeRules.getNextPosition(position, PackedCoordinates.pack(0, 4)));
+    }
+
+}
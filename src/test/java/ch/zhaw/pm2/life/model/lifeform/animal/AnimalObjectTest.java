@@ -60,6 +60,18 @@ public class AnimalObjectTest {
         assertEquals(new Vector2D(2, 2), animalObject.getPosition());
     }
 
+    @Test
+    public void nextPositionTestKeepsState() {
+        doReturn(new Vector2D(0, 0)).when(animalObject).chooseRandomNeighbourPosition();
+        int energy = animalObject.getEnergy();
+        int fertilityThreshold = animalObject.getFertilityThreshold();
+
+        assertEquals(new Vector2D(0, 0), animalObject.nextPosition(dummyGameObjectsSet));
+        assertEquals(new Vector2D(1, 1), animalObject.getPosition());
+        assertEquals(energy, animalObject.getEnergy());
+        assertEquals(fertilityThreshold, animalObject.getFertilityThreshold());
+    }
+
     @Test
     public void moveTestFertilityThresholdIncrease() {
         doReturn(new Vector2D(0, 0)).when(animalObject).chooseRandomNeighbourPosition();
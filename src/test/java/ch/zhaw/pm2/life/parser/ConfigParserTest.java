@@ -1,6 +1,7 @@
 package ch.zhaw.pm2.life.parser;
 
 import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.Board;
 import ch.zhaw.pm2.life.model.GameObject;
 import ch.zhaw.pm2.life.model.lifeform.LifeForm;
 import ch.zhaw.pm2.life.model.lifeform.animal.Carnivore;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +26,10 @@ public class ConfigParserTest {
     private static final String WOLF_NAME = "wolf.name";
     private static final String WOLF_ENERGY_KEY = "wolf.energy";
     private static final String WOLF_COLOR_KEY = "wolf.color";
+    private static final String WOLF_AMOUNT_KEY = "wolf.amount";
+    private static final String BOARD_ROWS_KEY = "board.rows";
+    private static final String BOARD_COLUMNS_KEY = "board.columns";
+    private static final String STOP_CONDITION_KEY = "stop.condition";
     private static final String RABBIT = "Hase";
     private static final String DANDELION = "Löwenzahn";
     private static final String RABBIT_COLOR = "#8AF1FE";
@@ -140,6 +146,79 @@ public class ConfigParserTest {
         assertEquals(COULD_NOT_PARSE_THE_CONFIG_FILE, thrown.getMessage());
     }
 
+    @Test
+    public void testBoardConfig() {
+        ConfigParser parser = assertDoesNotThrow(ConfigParser::getInstance);
+        Properties config = loadValidConfig();
+        config.put(BOARD_ROWS_KEY, "1024");
+        config.put(BOARD_COLUMNS_KEY, "2048");
+        config.put(WOLF_AMOUNT_KEY, "20000");
+        parser.setConfigProperties(config);
+
+        assertEquals(1024, assertDoesNotThrow(parser::parseRows));
+        assertEquals(2048, assertDoesNotThrow(parser::parseColumns));
+        Map<GameObject, Integer> amounts = assertDoesNotThrow(parser::parseAmounts);
+        assertEquals(3, amounts.size());
+        amounts.forEach((gameObject, amount) -> {
+            int expected = WOLF.equals(gameObject.getName()) ? 20000 : ConfigParser.DEFAULT_AMOUNT;
+            assertEquals(expected, amount);
+        });
+    }
+
+    @Test
+    public void testDefaultBoardSize() {
+        ConfigParser parser = assertDoesNotThrow(ConfigParser::getInstance);
+        parser.setConfigProperties(loadValidConfig());
+
+        assertEquals(ConfigParser.DEFAULT_BOARD_SIZE, assertDoesNotThrow(parser::parseRows));
+        assertEquals(ConfigParser.DEFAULT_BOARD_SIZE, assertDoesNotThrow(parser::parseColumns));
+    }
+
+    @Test
+    public void testInvalidBoardSize() {
+        ConfigParser parser = assertDoesNotThrow(ConfigParser::getInstance);
+        Properties config = loadValidConfig();
+        config.put(BOARD_ROWS_KEY, String.valueOf(Board.MIN_ROWS - 1));
+        config.put(BOARD_COLUMNS_KEY, "a");
+        parser.setConfigProperties(config);
+
+        assertThrows(LifeException.class, parser::parseRows);
+        assertThrows(LifeException.class, parser::parseColumns);
+    }
+
+    @Test
+    public void testStopCondition() {
+        ConfigParser parser = assertDoesNotThrow(ConfigParser::getInstance);
+        Properties config = loadValidConfig();
+        parser.setConfigProperties(config);
+        assertNull(assertDoesNotThrow(parser::parseStopCondition));
+
+        config.put(STOP_CONDITION_KEY, " extinct(Wolf) or ticks(100) ");
+        parser.setConfigProperties(config);
+        assertEquals("extinct(Wolf) or ticks(100)", assertDoesNotThrow(parser::parseStopCondition));
+        assertEquals(3, assertDoesNotThrow(parser::parseAmounts).size());
+    }
+
+    @Test
+    public void testInvalidStopCondition() {
+        ConfigParser parser = assertDoesNotThrow(ConfigParser::getInstance);
+        Properties config = loadValidConfig();
+        config.put(STOP_CONDITION_KEY, "extinct(Wolf");
+        parser.setConfigProperties(config);
+
+        assertThrows(LifeException.class, parser::parseStopCondition);
+    }
+
+    @Test
+    public void testInvalidAmount() {
+        ConfigParser parser = assertDoesNotThrow(ConfigParser::getInstance);
+        Properties config = loadValidConfig();
+        config.put(WOLF_AMOUNT_KEY, "-1");
+        parser.setConfigProperties(config);
+
+        assertThrows(LifeException.class, parser::parseAmounts);
+    }
+
     private Properties loadInvalidWrongColorHexUnsupportedChar() {
         Properties config = new Properties();
         config.put(WOLF_TYPE, CARNIVORE);
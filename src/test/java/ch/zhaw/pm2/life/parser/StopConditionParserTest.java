@@ -0,0 +1,128 @@
+package ch.zhaw.pm2.life.parser;
+
+import ch.zhaw.pm2.life.exception.LifeException;
+import ch.zhaw.pm2.life.model.StopCondition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StopConditionParserTest {
+
+    private static final String WOLF = "Wolf";
+    private static final String SCHWARZES_SCHAF = "Schwarzes Schaf";
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testSingleConditions() {
+        StopCondition.State state = createState(0, Map.of(WOLF, 2));
+
+        assertTrue(parse("extinct(Schaf)").isMet(state));
+        assertFalse(parse("extinct( Wolf )").isMet(state));
+        assertTrue(parse("below(Wolf, 3)").isMet(state));
+        assertFalse(parse("above(Wolf,2)").isMet(state));
+        assertTrue(parse("populationBelow(3)").isMet(state));
+        assertTrue(parse("POPULATIONABOVE(1)").isMet(state));
+        assertTrue(parse("ticks(0)").isMet(state));
+        assertFalse(parse("seconds(60)").isMet(state));
+        StopCondition repeats = parse("repeats(2)");
+        assertFalse(repeats.isMet(state));
+        assertTrue(repeats.isMet(state));
+        assertFalse(parse("  ").isMet(state));
+    }
+
+    @Test
+    public void testSpeciesWithSpaces() {
+        StopCondition condition = parse("extinct(Schwarzes Schaf)");
+
+        assertFalse(condition.isMet(createState(0, Map.of(SCHWARZES_SCHAF, 1))));
+        assertTrue(condition.isMet(createState(0, Map.of(WOLF, 1))));
+    }
+
+    @Test
+    public void testPrecedence() {
+        // and binds stronger than or
+        StopCondition condition = parse("ticks(10) or extinct(Wolf) and ticks(5)");
+
+        assertFalse(condition.isMet(createState(4, Map.of())));
+        assertTrue(condition.isMet(createState(5, Map.of())));
+        assertFalse(condition.isMet(createState(5, Map.of(WOLF, 1))));
+        assertTrue(condition.isMet(createState(10, Map.of(WOLF, 1))));
+    }
+
+    @Test
+    public void testParentheses() {
+        StopCondition condition = parse("(ticks(10) or extinct(Wolf)) and ticks(5)");
+
+        assertFalse(condition.isMet(createState(4, Map.of())));
+        assertTrue(condition.isMet(createState(5, Map.of())));
+        assertFalse(condition.isMet(createState(5, Map.of(WOLF, 1))));
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidConditions() {
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("extinct(Wolf"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("extinct()"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("dead(Wolf)"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("below(Wolf)"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("ticks(-1)"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("ticks(a)"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("repeats(0)"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("ticks(1) or"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("ticks(1) ticks(2)"));
+        assertThrows(LifeException.class, () -> StopConditionParser.parse("populationAbove(3000000000)"));
+    }
+
+    @Test
+    public void testErrorPosition() {
+        LifeException thrown = assertThrows(LifeException.class, () -> StopConditionParser.parse("ticks(1) xor ticks(2)"));
+        assertEquals("Invalid stop condition at position 10: Unexpected 'x'", thrown.getMessage());
+    }
+
+    @Test
+    public void testNull() {
+        assertThrows(NullPointerException.class, () -> StopConditionParser.parse(null));
+    }
+
+    private static StopCondition parse(String expression) {
+        return assertDoesNotThrow(() -> StopConditionParser.parse(expression));
+    }
+
+    private static StopCondition.State createState(long tick, Map<String, Integer> aliveCounts) {
+        return new StopCondition.State() {
+            @Override
+            public long getTick() {
+                return tick;
+            }
+
+            @Override
+            public int getAliveCount(String species) {
+                return aliveCounts.getOrDefault(species, 0);
+            }
+
+            @Override
+            public int getTotalAliveCount() {
+                return aliveCounts.values().stream().mapToInt(Integer::intValue).sum();
+            }
+
+            @Override
+            public long getStateHash() {
+                return 0;
+            }
+
+            @Override
+            public boolean isSpawnPossible() {
+                return false;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,86 @@
+package ch.zhaw.pm2.life.view;
+
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedObservableListTest {
+
+    private BoundedObservableList<Integer> list;
+    private List<ListChangeListener.Change<? extends Integer>> changes;
+
+    @BeforeEach
+    public void setUp() {
+        list = new BoundedObservableList<>(3);
+        changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) changes::add);
+    }
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testAppend() {
+        list.append(List.of(1, 2));
+
+        assertEquals(List.of(1, 2), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testAppendDropsOldest() {
+        list.append(List.of(1, 2));
+        list.append(List.of(3, 4));
+
+        assertEquals(List.of(2, 3, 4), list);
+        assertEquals(2, changes.size());
+
+        ListChangeListener.Change<? extends Integer> change = changes.get(1);
+        List<Integer> removed = new ArrayList<>();
+        int added = 0;
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added += change.getAddedSize();
+        }
+        assertEquals(List.of(1), removed);
+        assertEquals(2, added);
+    }
+
+    @Test
+    public void testAppendMoreThanCapacity() {
+        list.append(List.of(1));
+        list.append(List.of(2, 3, 4, 5));
+
+        assertEquals(List.of(3, 4, 5), list);
+        assertEquals(3, list.getCapacity());
+    }
+
+    @Test
+    public void testAppendNothing() {
+        list.append(List.of());
+        assertTrue(list.isEmpty());
+        assertTrue(changes.isEmpty());
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedObservableList<Integer>(0));
+    }
+
+    @Test
+    public void testModification() {
+        assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+}
@@ -0,0 +1,69 @@
+package ch.zhaw.pm2.life.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DensityHeatmapTest {
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testOnePixelPerCell() {
+        DensityHeatmap heatmap = new DensityHeatmap(3, 3, 3, 3);
+        heatmap.add(1, 2, "#FF0000");
+
+        int[] pixels = heatmap.toArgb();
+        assertEquals(0xFFFF0000, pixels[2 * 3 + 1]);
+        assertEquals(0, pixels[0]);
+    }
+
+    @Test
+    public void testSeveralCellsPerPixel() {
+        DensityHeatmap heatmap = new DensityHeatmap(4, 4, 2, 2);
+        heatmap.add(0, 0, "#FF0000");
+        heatmap.add(1, 1, "#0000FF");
+        heatmap.add(3, 3, "#00FF00");
+
+        int[] pixels = heatmap.toArgb();
+        // two of four cells are occupied by a red and a blue object, the opacity is halfway on a log scale
+        assertEquals(0xA07F007F, pixels[0]);
+        assertEquals(0x4000FF00, pixels[3]);
+        assertEquals(0, pixels[1]);
+    }
+
+    @Test
+    public void testSingleObjectOnSparseBoardIsVisible() {
+        DensityHeatmap heatmap = new DensityHeatmap(100_000, 100_000, 100, 100);
+        heatmap.add(50_000, 50_000, "#FF0000");
+        for (int i = 0; i < 1_000_000; i++) {
+            heatmap.add(i % 1000, i / 1000, "#FF0000");
+        }
+
+        int[] pixels = heatmap.toArgb();
+        assertEquals(0x40FF0000, pixels[50 * 100 + 50]);
+        assertEquals(0xFFFF0000, pixels[0]);
+    }
+
+    @Test
+    public void testClear() {
+        DensityHeatmap heatmap = new DensityHeatmap(3, 3, 3, 3);
+        heatmap.add(0, 0, "#0F0");
+        heatmap.clear();
+
+        assertEquals(0, heatmap.toArgb()[0]);
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DensityHeatmap(3, 3, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> new DensityHeatmap(3, 3, 4, 3));
+    }
+
+}
@@ -0,0 +1,55 @@
+package ch.zhaw.pm2.life.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DownsamplingTest {
+
+    //==================================================================================================================
+    // Positive tests
+    //==================================================================================================================
+
+    @Test
+    public void testKeepsAllPointsBelowThreshold() {
+        double[] values = {1, 5, 2};
+
+        assertArrayEquals(new int[] {0, 1, 2}, Downsampling.largestTriangleThreeBuckets(values, values, 3, 10));
+    }
+
+    @Test
+    public void testKeepsPeak() {
+        int size = 1000;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int index = 0; index < size; index++) {
+            x[index] = index;
+        }
+        y[427] = 100;
+
+        int[] points = Downsampling.largestTriangleThreeBuckets(x, y, size, 10);
+
+        assertEquals(10, points.length);
+        assertEquals(0, points[0]);
+        assertEquals(size - 1, points[9]);
+        assertTrue(Arrays.stream(points).anyMatch(point -> point == 427));
+        for (int index = 1; index < points.length; index++) {
+            assertTrue(points[index - 1] < points[index]);
+        }
+    }
+
+    //==================================================================================================================
+    // Negative tests
+    //==================================================================================================================
+
+    @Test
+    public void testInvalidThreshold() {
+        double[] values = {1, 2, 3, 4};
+
+        assertThrows(IllegalArgumentException.class, () -> Downsampling.largestTriangleThreeBuckets(values, values, 4, 2));
+        assertThrows(IllegalArgumentException.class, () -> Downsampling.largestTriangleThreeBuckets(values, values, 5, 3));
+    }
+
+}